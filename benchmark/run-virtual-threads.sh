@@ -0,0 +1,45 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드 / 가상 스레드(virtual 프로필) 모드를 같은 Java 21 이미지로 차례로 띄워 같은 부하로 비교
+# (JDK 버전 차이가 결과에 섞이지 않도록 두 모드 모두 Java 21로 빌드, 프로필만 다름)
+# 필요: docker compose, k6
+# 사용: VUS=400 DURATION=2m benchmark/run-virtual-threads.sh
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+BASE_URL=${BASE_URL:-http://localhost:8080}
+export VUS=${VUS:-400}
+export DURATION=${DURATION:-2m}
+# 요청 제한 필터가 결과를 왜곡하지 않도록 비활성화
+export RATE_LIMIT_ENABLED=false
+
+wait_ready() {
+  for _ in $(seq 1 60); do
+    if curl -sf "${BASE_URL}/actuator/health" > /dev/null; then
+      return 0
+    fi
+    sleep 2
+  done
+  echo "애플리케이션 기동 실패" >&2
+  exit 1
+}
+
+run_mode() {
+  local mode=$1 profiles=$2
+  echo "=== ${mode}: Java 21, profiles=${profiles} ==="
+  JAVA_VERSION=21 SPRING_PROFILES_ACTIVE=${profiles} docker compose up -d --build app
+  wait_ready
+  k6 run -q -e BASE_URL="${BASE_URL}" -e MODE="${mode}" -e VUS="${VUS}" -e DURATION="${DURATION}" \
+    benchmark/virtual-threads.js | tee -a "${RESULT_FILE}"
+}
+
+# 모드별 요약(mode/vus/req/s/p50/p99/error)을 한 파일에 모아 기록
+RESULT_FILE=benchmark/results-$(date +%Y%m%d-%H%M%S).tsv
+: > "${RESULT_FILE}"
+
+run_mode platform prod
+run_mode virtual prod,virtual
+echo "결과: ${RESULT_FILE}"
+
+# 기본(플랫폼 스레드) 모드로 되돌림
+JAVA_VERSION=17 SPRING_PROFILES_ACTIVE=prod docker compose up -d --build app
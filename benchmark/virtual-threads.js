@@ -0,0 +1,74 @@
+// 플랫폼 스레드 / 가상 스레드 실행 모드 처리량·p99 비교 (k6)
+// 실행: benchmark/run-virtual-threads.sh (모드별로 애플리케이션을 다시 띄워 같은 부하를 줌)
+//   k6 run -e BASE_URL=http://localhost:8080 -e MODE=platform benchmark/virtual-threads.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'unknown';
+const VUS = parseInt(__ENV.VUS || '400');
+const DURATION = __ENV.DURATION || '2m';
+
+export const options = {
+    scenarios: {
+        // 워밍업 후 고정 동시 사용자 부하 (Tomcat 기본 200 스레드보다 많게)
+        warmup: {
+            executor: 'constant-vus',
+            vus: 50,
+            duration: '30s',
+            tags: { phase: 'warmup' },
+        },
+        load: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: DURATION,
+            startTime: '30s',
+            tags: { phase: 'load' },
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    // phase:load 하위 지표를 요약에 포함시키기 위한 항상 통과하는 임계값
+    thresholds: {
+        'http_req_duration{phase:load}': ['p(99)>=0'],
+        'http_reqs{phase:load}': ['count>=0'],
+        'http_req_failed{phase:load}': ['rate>=0'],
+    },
+};
+
+export function setup() {
+    const res = http.post(`${BASE_URL}/api/auth/login`,
+        JSON.stringify({ email: __ENV.EMAIL || 'user1@example.com', password: __ENV.PASSWORD || 'P@ssw0rd!' }),
+        { headers: { 'Content-Type': 'application/json' } });
+    // 로그인 실패 시 이후 요청이 모두 401이 되어 비교가 무의미하므로 중단
+    if (!check(res, { 'login 200': (r) => r.status === 200 })) {
+        throw new Error(`로그인 실패: status=${res.status}`);
+    }
+    return { token: res.json('payload.accessToken') };
+}
+
+export default function (data) {
+    const auth = { headers: { Authorization: `Bearer ${data.token}` } };
+
+    // DB 조회 위주의 혼합 부하 (도서 목록 / 상세 / 주문 / 찜 - 모두 인증 필요)
+    const responses = http.batch([
+        ['GET', `${BASE_URL}/api/books?page=0&size=20`, null, Object.assign({ tags: { name: 'books' } }, auth)],
+        ['GET', `${BASE_URL}/api/books/${1 + Math.floor(Math.random() * 100)}`, null, Object.assign({ tags: { name: 'book' } }, auth)],
+        ['GET', `${BASE_URL}/api/orders?page=0&size=10`, null, Object.assign({ tags: { name: 'orders' } }, auth)],
+        ['GET', `${BASE_URL}/api/favorites`, null, Object.assign({ tags: { name: 'favorites' } }, auth)],
+    ]);
+    // 401/404 등도 실패로 집계되도록 200만 성공으로 봄
+    responses.forEach((r) => check(r, { 'status 200': (res) => res.status === 200 }));
+}
+
+export function handleSummary(data) {
+    const metric = (name) => data.metrics[name] ? data.metrics[name].values : {};
+    const duration = metric('http_req_duration{phase:load}');
+    const reqs = metric('http_reqs{phase:load}');
+    const failed = metric('http_req_failed{phase:load}');
+    const line = [MODE, VUS, (reqs.rate || 0).toFixed(1), (duration['p(50)'] || 0).toFixed(1),
+        (duration['p(99)'] || 0).toFixed(1), ((failed.rate || 0) * 100).toFixed(2)].join('\t');
+    return {
+        stdout: `mode\tvus\treq/s\tp50(ms)\tp99(ms)\terror(%)\n${line}\n`,
+        [`benchmark/result-${MODE}.json`]: JSON.stringify(data, null, 2),
+    };
+}
@@ -42,6 +42,20 @@ Table categories {
 
 Ref: categories.parent_id > categories.id [delete: set null]
 
+Table category_closure {
+  ancestor_id bigint [not null]
+  descendant_id bigint [not null]
+  depth int [not null]
+
+  indexes {
+    (ancestor_id, descendant_id) [pk]
+    (descendant_id, depth) [name: 'idx_category_closure_descendant']
+  }
+}
+
+Ref: category_closure.ancestor_id > categories.id [delete: cascade]
+Ref: category_closure.descendant_id > categories.id [delete: cascade]
+
 Table books {
   id bigint [pk, increment]
   title varchar(255) [not null]
@@ -92,6 +106,7 @@ Table order_items {
   price decimal(10,2) [not null]
   status varchar(20) [not null, default: 'CREATED']
   created_at timestamp [not null, default: `CURRENT_TIMESTAMP`]
+  settled boolean [not null, default: false]
 }
 
 Ref: order_items.order_id > orders.id [delete: cascade]
@@ -103,6 +118,9 @@ Table reviews {
   book_id bigint [not null]
   rating int [not null]
   comment text [not null]
+  like_count int [not null, default: 0]
+  rank_score double [not null, default: 0]
+  comment_count int [not null, default: 0]
   created_at timestamp [not null, default: `CURRENT_TIMESTAMP`]
   updated_at timestamp [not null, default: `CURRENT_TIMESTAMP`]
   deleted_at timestamp
@@ -115,7 +133,11 @@ Table comments {
   id bigint [pk, increment]
   user_id bigint [not null]
   review_id bigint [not null]
+  parent_id bigint
+  depth int [not null, default: 0]
+  path varchar(1000) [not null, default: '']
   content text [not null]
+  like_count int [not null, default: 0]
   created_at timestamp [not null, default: `CURRENT_TIMESTAMP`]
   updated_at timestamp [not null, default: `CURRENT_TIMESTAMP`]
   deleted_at timestamp
@@ -123,6 +145,7 @@ Table comments {
 
 Ref: comments.user_id > users.id [delete: cascade]
 Ref: comments.review_id > reviews.id [delete: cascade]
+Ref: comments.parent_id > comments.id [delete: cascade]
 
 Table likes {
   id bigint [pk, increment]
@@ -176,6 +199,7 @@ Table coupons {
   start_at timestamp [not null]
   end_at timestamp [not null]
   is_valid boolean [not null, default: true]
+  total_quantity int
   created_at timestamp [not null, default: `CURRENT_TIMESTAMP`]
   updated_at timestamp [not null, default: `CURRENT_TIMESTAMP`]
 }
@@ -218,6 +242,25 @@ Table settlement_items {
 Ref: settlement_items.settlement_id > settlements.id [delete: cascade]
 Ref: settlement_items.order_item_id > order_items.id [delete: restrict]
 
+Table settlement_runs {
+  id bigint [pk, increment]
+  period_start date [not null]
+  period_end date [not null]
+  status varchar(20) [not null]
+  commission_rate decimal(5,4) [not null]
+  total_sellers int [not null, default: 0]
+  processed_sellers int [not null, default: 0]
+  settled_items bigint [not null, default: 0]
+  error_message varchar(500)
+  started_at timestamp [not null, default: `CURRENT_TIMESTAMP`]
+  updated_at timestamp [not null, default: `CURRENT_TIMESTAMP`]
+  completed_at timestamp
+
+  indexes {
+    (period_start, period_end) [unique]
+  }
+}
+
 Table book_stats {
   id bigint [pk, increment]
   book_id bigint [not null]
@@ -233,3 +276,42 @@ Table book_stats {
 }
 
 Ref: book_stats.book_id > books.id [delete: cascade]
+
+Table book_rating_summary {
+  book_id bigint [pk]
+  review_count int [not null, default: 0]
+  rating_sum bigint [not null, default: 0]
+  rating_1 int [not null, default: 0]
+  rating_2 int [not null, default: 0]
+  rating_3 int [not null, default: 0]
+  rating_4 int [not null, default: 0]
+  rating_5 int [not null, default: 0]
+  updated_at timestamp [not null, default: `CURRENT_TIMESTAMP`]
+}
+
+Ref: book_rating_summary.book_id - books.id [delete: cascade]
+
+Table daily_metrics {
+  metric_date date [pk]
+  new_users bigint [not null, default: 0]
+  orders bigint [not null, default: 0]
+  revenue decimal(15,2) [not null, default: 0]
+  cancellations bigint [not null, default: 0]
+  canceled_revenue decimal(15,2) [not null, default: 0]
+  updated_at timestamp [not null, default: `CURRENT_TIMESTAMP`]
+}
+
+Table seller_sales_daily {
+  seller_id bigint [not null]
+  sales_date date [not null]
+  book_id bigint [not null]
+  status varchar(20) [not null]
+  item_count bigint [not null, default: 0]
+  quantity bigint [not null, default: 0]
+  amount decimal(15,2) [not null, default: 0]
+  updated_at timestamp [not null, default: `CURRENT_TIMESTAMP`]
+
+  indexes {
+    (seller_id, sales_date, book_id, status) [pk]
+  }
+}
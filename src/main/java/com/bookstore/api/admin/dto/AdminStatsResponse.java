@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 @Getter
 @NoArgsConstructor
@@ -24,7 +25,7 @@ public class AdminStatsResponse {
     @Schema(description = "총 주문 수", example = "2500")
     private Long totalOrders;
 
-    @Schema(description = "총 매출액", example = "50000000")
+    @Schema(description = "총 매출액 (취소 금액 제외)", example = "50000000")
     private BigDecimal totalRevenue;
 
     @Schema(description = "오늘 신규 사용자", example = "15")
@@ -33,6 +34,12 @@ public class AdminStatsResponse {
     @Schema(description = "오늘 주문 수", example = "87")
     private Long todayOrders;
 
-    @Schema(description = "오늘 매출액", example = "1234500")
+    @Schema(description = "오늘 매출액 (취소 금액 제외)", example = "1234500")
     private BigDecimal todayRevenue;
+
+    @Schema(description = "오늘 주문 취소 수", example = "3")
+    private Long todayCancellations;
+
+    @Schema(description = "최근 7일 일별 지표 (날짜순)")
+    private List<DailyMetricsResponse> recentDays;
 }
\ No newline at end of file
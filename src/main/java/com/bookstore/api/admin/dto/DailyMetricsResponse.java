@@ -0,0 +1,33 @@
+package com.bookstore.api.admin.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "일별 지표 응답")
+public class DailyMetricsResponse {
+
+    @Schema(description = "날짜", example = "2025-12-14")
+    private LocalDate date;
+
+    @Schema(description = "신규 사용자", example = "15")
+    private Long newUsers;
+
+    @Schema(description = "주문 수", example = "87")
+    private Long orders;
+
+    @Schema(description = "취소 수", example = "3")
+    private Long cancellations;
+
+    @Schema(description = "순매출액 (취소 금액 제외)", example = "1234500")
+    private BigDecimal revenue;
+}
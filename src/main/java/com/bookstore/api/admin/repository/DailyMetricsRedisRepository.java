@@ -0,0 +1,138 @@
+package com.bookstore.api.admin.repository;
+
+import com.bookstore.api.admin.service.MetricCounts;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 일별 지표 Redis 저장소
+ * - metrics:pending Hash (field = "날짜:지표", value = 아직 DB에 반영되지 않은 증감)
+ * - 금액은 원 단위 소수점 둘째 자리까지 정수로 저장 (HINCRBY)
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailyMetricsRedisRepository {
+
+    private static final String PENDING_KEY = "metrics:pending";
+    private static final String NEW_USERS = "new_users";
+    private static final String ORDERS = "orders";
+    private static final String REVENUE = "revenue";
+    private static final String CANCELLATIONS = "cancellations";
+    private static final String CANCELED_REVENUE = "canceled_revenue";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/hash-drain.lua"), List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 증감 기록 (파이프라인 1회)
+     */
+    public void increment(LocalDate date, MetricCounts delta) {
+        Map<String, Long> fields = toFields(date, delta);
+        if (fields.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                HashOperations<String, String, String> ops = ((RedisOperations<String, String>) operations).opsForHash();
+                fields.forEach((field, value) -> ops.increment(PENDING_KEY, field, value));
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 미반영 증감 조회 (날짜별)
+     */
+    public Map<LocalDate, MetricCounts> findPending() {
+        HashOperations<String, String, String> ops = redisTemplate.opsForHash();
+        Map<String, String> entries = ops.entries(PENDING_KEY);
+
+        List<String> values = new ArrayList<>(entries.size() * 2);
+        entries.forEach((field, value) -> {
+            values.add(field);
+            values.add(value);
+        });
+        return toCounts(values);
+    }
+
+    /**
+     * 미반영 증감 꺼내기 (조회 후 삭제)
+     */
+    @SuppressWarnings("unchecked")
+    public Map<LocalDate, MetricCounts> drainPending() {
+        List<String> values = redisTemplate.execute(DRAIN_SCRIPT, List.of(PENDING_KEY));
+        return toCounts(values != null ? values : Collections.emptyList());
+    }
+
+    /**
+     * DB 반영 실패한 증감 되돌리기
+     */
+    public void restorePending(Map<LocalDate, MetricCounts> deltas) {
+        deltas.forEach(this::increment);
+    }
+
+    private Map<String, Long> toFields(LocalDate date, MetricCounts delta) {
+        Map<String, Long> fields = new LinkedHashMap<>();
+        putIfNotZero(fields, date, NEW_USERS, delta.getNewUsers());
+        putIfNotZero(fields, date, ORDERS, delta.getOrders());
+        putIfNotZero(fields, date, REVENUE, toCents(delta.getRevenue()));
+        putIfNotZero(fields, date, CANCELLATIONS, delta.getCancellations());
+        putIfNotZero(fields, date, CANCELED_REVENUE, toCents(delta.getCanceledRevenue()));
+        return fields;
+    }
+
+    private void putIfNotZero(Map<String, Long> fields, LocalDate date, String metric, long value) {
+        if (value != 0) {
+            fields.put(date + ":" + metric, value);
+        }
+    }
+
+    /**
+     * [field, value, field, value, ...] -> 날짜별 지표
+     */
+    private Map<LocalDate, MetricCounts> toCounts(List<String> values) {
+        Map<LocalDate, Map<String, Long>> byDate = new TreeMap<>();
+        for (int i = 0; i + 1 < values.size(); i += 2) {
+            String field = values.get(i);
+            int idx = field.indexOf(':');
+            byDate.computeIfAbsent(LocalDate.parse(field.substring(0, idx)), d -> new HashMap<>())
+                    .put(field.substring(idx + 1), Long.parseLong(values.get(i + 1)));
+        }
+
+        Map<LocalDate, MetricCounts> result = new LinkedHashMap<>();
+        byDate.forEach((date, metrics) -> result.put(date, new MetricCounts(
+                metrics.getOrDefault(NEW_USERS, 0L),
+                metrics.getOrDefault(ORDERS, 0L),
+                fromCents(metrics.getOrDefault(REVENUE, 0L)),
+                metrics.getOrDefault(CANCELLATIONS, 0L),
+                fromCents(metrics.getOrDefault(CANCELED_REVENUE, 0L))
+        )));
+        return result;
+    }
+
+    private long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).movePointRight(2).longValueExact();
+    }
+
+    private BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+}
@@ -0,0 +1,113 @@
+package com.bookstore.api.admin.repository;
+
+import com.bookstore.api.admin.service.MetricCounts;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일별 지표 저장소 (JDBC)
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailyMetricsRepository {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO daily_metrics (metric_date, new_users, orders, revenue, cancellations, canceled_revenue, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, NOW()) " +
+            "ON CONFLICT (metric_date) DO UPDATE SET " +
+            "new_users = daily_metrics.new_users + EXCLUDED.new_users, " +
+            "orders = daily_metrics.orders + EXCLUDED.orders, " +
+            "revenue = daily_metrics.revenue + EXCLUDED.revenue, " +
+            "cancellations = daily_metrics.cancellations + EXCLUDED.cancellations, " +
+            "canceled_revenue = daily_metrics.canceled_revenue + EXCLUDED.canceled_revenue, " +
+            "updated_at = NOW()";
+
+    private static final String SUM_SQL =
+            "SELECT COALESCE(SUM(new_users), 0) AS new_users, COALESCE(SUM(orders), 0) AS orders, " +
+            "COALESCE(SUM(revenue), 0) AS revenue, COALESCE(SUM(cancellations), 0) AS cancellations, " +
+            "COALESCE(SUM(canceled_revenue), 0) AS canceled_revenue " +
+            "FROM daily_metrics";
+
+    private static final String FIND_FROM_SQL =
+            "SELECT metric_date, new_users, orders, revenue, cancellations, canceled_revenue " +
+            "FROM daily_metrics WHERE metric_date >= ? ORDER BY metric_date";
+
+    private static final String RECONCILE_SQL =
+            "INSERT INTO daily_metrics (metric_date, new_users, orders, revenue, updated_at) " +
+            "SELECT CAST(? AS DATE), " +
+            "(SELECT COUNT(*) FROM users WHERE created_at >= ? AND created_at < ?), " +
+            "(SELECT COUNT(*) FROM orders WHERE created_at >= ? AND created_at < ?), " +
+            "(SELECT COALESCE(SUM(total_amount), 0) FROM orders WHERE created_at >= ? AND created_at < ?), " +
+            "NOW() " +
+            "ON CONFLICT (metric_date) DO UPDATE SET " +
+            "new_users = EXCLUDED.new_users, orders = EXCLUDED.orders, revenue = EXCLUDED.revenue, updated_at = NOW() " +
+            "WHERE (daily_metrics.new_users, daily_metrics.orders, daily_metrics.revenue) " +
+            "IS DISTINCT FROM (EXCLUDED.new_users, EXCLUDED.orders, EXCLUDED.revenue)";
+
+    private static final RowMapper<MetricCounts> COUNTS_MAPPER = (rs, rowNum) -> new MetricCounts(
+            rs.getLong("new_users"),
+            rs.getLong("orders"),
+            rs.getBigDecimal("revenue"),
+            rs.getLong("cancellations"),
+            rs.getBigDecimal("canceled_revenue")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 날짜별 증감 일괄 반영
+     */
+    public void addAll(Map<LocalDate, MetricCounts> deltas) {
+        List<Object[]> rows = deltas.entrySet().stream()
+                .map(e -> new Object[]{
+                        Date.valueOf(e.getKey()),
+                        e.getValue().getNewUsers(),
+                        e.getValue().getOrders(),
+                        e.getValue().getRevenue(),
+                        e.getValue().getCancellations(),
+                        e.getValue().getCanceledRevenue()
+                })
+                .toList();
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+        }
+    }
+
+    /**
+     * 전체 기간 합계
+     */
+    public MetricCounts sumAll() {
+        return jdbcTemplate.queryForObject(SUM_SQL, COUNTS_MAPPER);
+    }
+
+    /**
+     * 지정한 날짜 이후 일별 지표 (날짜순)
+     */
+    public Map<LocalDate, MetricCounts> findFrom(LocalDate from) {
+        Map<LocalDate, MetricCounts> result = new LinkedHashMap<>();
+        jdbcTemplate.query(FIND_FROM_SQL, rs -> {
+            result.put(rs.getDate("metric_date").toLocalDate(), COUNTS_MAPPER.mapRow(rs, 0));
+        }, Date.valueOf(from));
+        return result;
+    }
+
+    /**
+     * 하루치 가입/주문 지표를 원본 테이블 기준으로 보정 (created_at 인덱스 범위 조회)
+     * - 취소는 취소 시각이 따로 없으므로 보정하지 않음
+     * - 반환: 보정(또는 새로 생성)된 행 수
+     */
+    public int reconcileDay(LocalDate date) {
+        Timestamp from = Timestamp.valueOf(date.atStartOfDay());
+        Timestamp to = Timestamp.valueOf(date.plusDays(1).atStartOfDay());
+        return jdbcTemplate.update(RECONCILE_SQL, Date.valueOf(date), from, to, from, to, from, to);
+    }
+}
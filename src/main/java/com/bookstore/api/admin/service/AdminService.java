@@ -1,15 +1,16 @@
 package com.bookstore.api.admin.service;
 
 import com.bookstore.api.admin.dto.AdminStatsResponse;
+import com.bookstore.api.admin.dto.DailyMetricsResponse;
 import com.bookstore.api.book.repository.BookRepository;
-import com.bookstore.api.order.repository.OrderRepository;
-import com.bookstore.api.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -17,30 +18,39 @@ import java.math.BigDecimal;
 @Transactional(readOnly = true)
 public class AdminService {
 
-    private final UserRepository userRepository;
+    private static final int RECENT_DAYS = 7;
+
     private final BookRepository bookRepository;
-    private final OrderRepository orderRepository;
+    private final DailyMetricsService dailyMetricsService;
 
     /**
-     * 대시보드 통계 조회
+     * 대시보드 통계 조회 (users/orders 대신 daily_metrics 집계 사용)
      */
     public AdminStatsResponse getDashboardStats() {
-        long totalUsers = userRepository.count();
-        long totalBooks = bookRepository.count();
-        long totalOrders = orderRepository.count();
+        MetricCounts totals = dailyMetricsService.getTotals();
+        Map<LocalDate, MetricCounts> recent = dailyMetricsService.getRecentDays(RECENT_DAYS);
+        MetricCounts today = recent.getOrDefault(LocalDate.now(), MetricCounts.EMPTY);
 
-        // TODO: 실제 매출 계산 로직 구현 필요
-        BigDecimal totalRevenue = BigDecimal.ZERO;
-        BigDecimal todayRevenue = BigDecimal.ZERO;
+        List<DailyMetricsResponse> recentDays = recent.entrySet().stream()
+                .map(e -> DailyMetricsResponse.builder()
+                        .date(e.getKey())
+                        .newUsers(e.getValue().getNewUsers())
+                        .orders(e.getValue().getOrders())
+                        .cancellations(e.getValue().getCancellations())
+                        .revenue(e.getValue().getNetRevenue())
+                        .build())
+                .toList();
 
         return AdminStatsResponse.builder()
-                .totalUsers(totalUsers)
-                .totalBooks(totalBooks)
-                .totalOrders(totalOrders)
-                .totalRevenue(totalRevenue)
-                .todayNewUsers(0L)  // TODO: 오늘 신규 사용자 계산
-                .todayOrders(0L)    // TODO: 오늘 주문 수 계산
-                .todayRevenue(todayRevenue)
+                .totalUsers(totals.getNewUsers())
+                .totalBooks(bookRepository.count())
+                .totalOrders(totals.getOrders())
+                .totalRevenue(totals.getNetRevenue())
+                .todayNewUsers(today.getNewUsers())
+                .todayOrders(today.getOrders())
+                .todayRevenue(today.getNetRevenue())
+                .todayCancellations(today.getCancellations())
+                .recentDays(recentDays)
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,66 @@
+package com.bookstore.api.admin.service;
+
+import com.bookstore.api.admin.repository.DailyMetricsRedisRepository;
+import com.bookstore.api.admin.repository.DailyMetricsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 일별 지표 DB 반영
+ * - Redis에 누적된 날짜별 증감을 daily_metrics에 일괄 UPSERT
+ * - 매일 전날 가입/주문 지표를 원본 테이블과 대조해 보정 (이벤트 유실 대비)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyMetricsFlushScheduler {
+
+    private final DailyMetricsRedisRepository dailyMetricsRedisRepository;
+    private final DailyMetricsRepository dailyMetricsRepository;
+
+    @Scheduled(fixedDelayString = "${admin.metrics.flush-interval-ms:60000}")
+    public void flush() {
+        Map<LocalDate, MetricCounts> deltas;
+        try {
+            deltas = dailyMetricsRedisRepository.drainPending();
+        } catch (Exception e) {
+            log.error("일별 지표 증감 조회 실패", e);
+            return;
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            dailyMetricsRepository.addAll(deltas);
+            log.debug("일별 지표 DB 반영: days={}", deltas.size());
+        } catch (Exception e) {
+            // 실패 시 증감을 되돌려 다음 주기에 재시도
+            log.error("일별 지표 DB 반영 실패: days={}", deltas.size(), e);
+            dailyMetricsRedisRepository.restorePending(deltas);
+        }
+    }
+
+    @Scheduled(cron = "${admin.metrics.verify-cron:0 40 3 * * *}")
+    public void verify() {
+        // 전날 증감을 먼저 반영한 뒤 비교
+        flush();
+
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        try {
+            int corrected = dailyMetricsRepository.reconcileDay(yesterday);
+            if (corrected > 0) {
+                log.warn("일별 지표 불일치 보정: date={}", yesterday);
+            } else {
+                log.info("일별 지표 검증 완료: date={}, 불일치 없음", yesterday);
+            }
+        } catch (Exception e) {
+            log.error("일별 지표 검증 실패: date={}", yesterday, e);
+        }
+    }
+}
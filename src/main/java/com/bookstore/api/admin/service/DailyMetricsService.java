@@ -0,0 +1,82 @@
+package com.bookstore.api.admin.service;
+
+import com.bookstore.api.admin.repository.DailyMetricsRedisRepository;
+import com.bookstore.api.admin.repository.DailyMetricsRepository;
+import com.bookstore.api.auth.service.UserSignedUpEvent;
+import com.bookstore.api.order.service.OrderCanceledEvent;
+import com.bookstore.api.order.service.OrderPlacedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 일별 운영 지표
+ * - 가입/주문/취소 커밋 후 오늘 날짜의 증감을 Redis에 누적 (DailyMetricsFlushScheduler가 daily_metrics에 반영)
+ * - 조회는 daily_metrics 집계 + Redis 미반영 증감 합산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyMetricsService {
+
+    private final DailyMetricsRepository dailyMetricsRepository;
+    private final DailyMetricsRedisRepository dailyMetricsRedisRepository;
+
+    @TransactionalEventListener
+    public void onUserSignedUp(UserSignedUpEvent event) {
+        record(new MetricCounts(1, 0, BigDecimal.ZERO, 0, BigDecimal.ZERO), "userId=" + event.getUserId());
+    }
+
+    @TransactionalEventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        record(new MetricCounts(0, 1, event.getTotalAmount(), 0, BigDecimal.ZERO), "orderId=" + event.getOrderId());
+    }
+
+    @TransactionalEventListener
+    public void onOrderCanceled(OrderCanceledEvent event) {
+        record(new MetricCounts(0, 0, BigDecimal.ZERO, 1, event.getTotalAmount()), "orderId=" + event.getOrderId());
+    }
+
+    /**
+     * 전체 기간 합계
+     */
+    public MetricCounts getTotals() {
+        MetricCounts totals = dailyMetricsRepository.sumAll();
+        for (MetricCounts pending : dailyMetricsRedisRepository.findPending().values()) {
+            totals = totals.plus(pending);
+        }
+        return totals;
+    }
+
+    /**
+     * 최근 days일 일별 지표 (오늘 포함, 날짜순, 기록이 없는 날은 0)
+     */
+    public Map<LocalDate, MetricCounts> getRecentDays(int days) {
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusDays(days - 1L);
+
+        Map<LocalDate, MetricCounts> stored = dailyMetricsRepository.findFrom(from);
+        Map<LocalDate, MetricCounts> pending = dailyMetricsRedisRepository.findPending();
+
+        Map<LocalDate, MetricCounts> result = new LinkedHashMap<>();
+        for (LocalDate date = from; !date.isAfter(today); date = date.plusDays(1)) {
+            result.put(date, stored.getOrDefault(date, MetricCounts.EMPTY)
+                    .plus(pending.getOrDefault(date, MetricCounts.EMPTY)));
+        }
+        return result;
+    }
+
+    private void record(MetricCounts delta, String source) {
+        try {
+            dailyMetricsRedisRepository.increment(LocalDate.now(), delta);
+        } catch (Exception e) {
+            log.error("일별 지표 기록 실패: {}", source, e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.bookstore.api.admin.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 일별 지표 값 (DB 집계 + Redis 미반영 증감을 합산할 때 사용)
+ */
+@Getter
+@AllArgsConstructor
+public class MetricCounts {
+
+    public static final MetricCounts EMPTY =
+            new MetricCounts(0, 0, BigDecimal.ZERO, 0, BigDecimal.ZERO);
+
+    private final long newUsers;
+    private final long orders;
+    private final BigDecimal revenue;
+    private final long cancellations;
+    private final BigDecimal canceledRevenue;
+
+    public MetricCounts plus(MetricCounts other) {
+        return new MetricCounts(
+                newUsers + other.newUsers,
+                orders + other.orders,
+                revenue.add(other.revenue),
+                cancellations + other.cancellations,
+                canceledRevenue.add(other.canceledRevenue)
+        );
+    }
+
+    /**
+     * 순매출 (주문 금액 - 취소 금액)
+     */
+    public BigDecimal getNetRevenue() {
+        return revenue.subtract(canceledRevenue);
+    }
+}
@@ -3,19 +3,24 @@ package com.bookstore.api.auth.controller;
 import com.bookstore.api.auth.dto.*;
 import com.bookstore.api.auth.service.AuthService;
 import com.bookstore.api.common.dto.ApiResponse;
+import com.bookstore.api.common.util.ClientIpUtil;
 import com.bookstore.api.user.dto.UserProfileResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/auth")
@@ -60,12 +65,24 @@ public class AuthController {
                     responseCode = "401",
                     description = "인증 실패",
                     content = @Content(schema = @Schema(implementation = com.bookstore.api.common.dto.ErrorResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "429",
+                    description = "로그인 실패 횟수 초과 또는 요청 과다",
+                    content = @Content(schema = @Schema(implementation = com.bookstore.api.common.dto.ErrorResponse.class))
             )
     })
     @PostMapping("/login")
-    public ApiResponse<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
+    public ApiResponse<LoginResponse> login(
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest
+    ) {
         log.info("로그인 요청: {}", request.getEmail());
-        LoginResponse response = authService.login(request);
+        LoginResponse response = authService.login(
+                request,
+                ClientIpUtil.resolve(httpRequest),
+                httpRequest.getHeader(HttpHeaders.USER_AGENT)
+        );
         return ApiResponse.success("로그인에 성공했습니다.", response);
     }
 
@@ -88,7 +105,7 @@ public class AuthController {
         return ApiResponse.success("토큰이 갱신되었습니다.", response);
     }
 
-    @Operation(summary = "로그아웃", description = "현재 사용자를 로그아웃합니다.")
+    @Operation(summary = "로그아웃", description = "현재 기기의 세션을 로그아웃합니다.")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "200",
@@ -104,7 +121,75 @@ public class AuthController {
     public ApiResponse<Void> logout(Authentication authentication) {
         String email = authentication.getName();
         log.info("로그아웃 요청: {}", email);
-        authService.logout(email);
+        authService.logout(email, (String) authentication.getCredentials());
         return ApiResponse.success("로그아웃되었습니다.");
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "전체 기기 로그아웃", description = "로그인된 모든 기기의 세션을 로그아웃합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "전체 기기 로그아웃 성공"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "401",
+                    description = "인증 실패",
+                    content = @Content(schema = @Schema(implementation = com.bookstore.api.common.dto.ErrorResponse.class))
+            )
+    })
+    @PostMapping("/logout-all")
+    public ApiResponse<Void> logoutAll(Authentication authentication) {
+        String email = authentication.getName();
+        log.info("전체 기기 로그아웃 요청: {}", email);
+        authService.logoutAll(email, (String) authentication.getCredentials());
+        return ApiResponse.success("모든 기기에서 로그아웃되었습니다.");
+    }
+
+    @Operation(summary = "로그인 세션 목록", description = "로그인된 기기(세션) 목록을 최근 사용 순으로 조회합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "401",
+                    description = "인증 실패",
+                    content = @Content(schema = @Schema(implementation = com.bookstore.api.common.dto.ErrorResponse.class))
+            )
+    })
+    @GetMapping("/sessions")
+    public ApiResponse<List<SessionResponse>> getSessions(Authentication authentication) {
+        List<SessionResponse> response = authService.getSessions(
+                authentication.getName(),
+                (String) authentication.getCredentials()
+        );
+        return ApiResponse.success("세션 목록 조회 성공", response);
+    }
+
+    @Operation(summary = "기기 로그아웃", description = "지정한 기기(세션)를 로그아웃합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "기기 로그아웃 성공"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "401",
+                    description = "인증 실패",
+                    content = @Content(schema = @Schema(implementation = com.bookstore.api.common.dto.ErrorResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "세션 없음",
+                    content = @Content(schema = @Schema(implementation = com.bookstore.api.common.dto.ErrorResponse.class))
+            )
+    })
+    @DeleteMapping("/sessions/{sessionId}")
+    public ApiResponse<Void> revokeSession(
+            Authentication authentication,
+            @PathVariable String sessionId
+    ) {
+        log.info("기기 로그아웃 요청: {}, sessionId={}", authentication.getName(), sessionId);
+        authService.revokeSession(authentication.getName(), sessionId);
+        return ApiResponse.success("해당 기기에서 로그아웃되었습니다.");
+    }
+}
@@ -37,6 +37,9 @@ public class LoginResponse {
     @Schema(description = "Access Token 만료 시간 (초)", example = "3600")
     private Long expiresIn;
 
+    @Schema(description = "세션 ID (기기별 로그아웃에 사용)", example = "3f1c2d4e-8a7b-4c6d-9e0f-1a2b3c4d5e6f")
+    private String sessionId;
+
     @Schema(description = "로그인 시각", example = "2025-12-14T10:00:00")
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime loginAt;
@@ -0,0 +1,39 @@
+package com.bookstore.api.auth.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "로그인 세션(기기) 응답")
+public class SessionResponse {
+
+    @Schema(description = "세션 ID", example = "3f1c2d4e-8a7b-4c6d-9e0f-1a2b3c4d5e6f")
+    private String sessionId;
+
+    @Schema(description = "기기 정보 (User-Agent)", example = "Mozilla/5.0 (iPhone; CPU iPhone OS 17_0 like Mac OS X)")
+    private String device;
+
+    @Schema(description = "현재 요청을 보낸 세션 여부", example = "true")
+    private Boolean current;
+
+    @Schema(description = "로그인 시각", example = "2025-12-14T10:00:00")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "마지막 토큰 갱신 시각", example = "2025-12-15T09:30:00")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime lastUsedAt;
+
+    @Schema(description = "세션 만료 시각", example = "2025-12-29T09:30:00")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime expiresAt;
+}
@@ -1,23 +1,30 @@
 package com.bookstore.api.auth.service;
 
 import com.bookstore.api.auth.dto.*;
+import com.bookstore.api.auth.service.RefreshTokenService.RotationResult;
 import com.bookstore.api.common.exception.BusinessException;
 import com.bookstore.api.common.exception.ErrorCode;
 import com.bookstore.api.security.jwt.JwtTokenProvider;
+import com.bookstore.api.security.jwt.TokenRevocationService;
 import com.bookstore.api.user.dto.UserProfileResponse;
 import com.bookstore.api.user.entity.User;
 import com.bookstore.api.user.repository.UserRepository;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 @Slf4j
 @Service
@@ -30,6 +37,9 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
+    private final LoginThrottleService loginThrottleService;
+    private final TokenRevocationService tokenRevocationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 회원가입
@@ -68,6 +78,7 @@ public class AuthService {
                 .build();
 
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserSignedUpEvent(savedUser.getId()));
         log.info("회원가입 완료: userId={}", savedUser.getId());
 
         return UserProfileResponse.from(savedUser);
@@ -77,27 +88,40 @@ public class AuthService {
      * 로그인
      */
     @Transactional
-    public LoginResponse login(LoginRequest request) {
+    public LoginResponse login(LoginRequest request, String clientIp, String device) {
         log.info("로그인 시도: {}", request.getEmail());
 
-        // 1. 인증
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
-        );
+        // 1. 실패 횟수 초과 IP/계정은 비밀번호 검증 전에 거절
+        loginThrottleService.checkAllowed(clientIp, request.getEmail());
+
+        // 2. 인증
+        try {
+            authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
+            );
+        } catch (AuthenticationException e) {
+            loginThrottleService.recordFailure(clientIp, request.getEmail());
+            throw e;
+        }
+        loginThrottleService.recordSuccess(request.getEmail());
 
-        // 2. 사용자 조회
+        // 3. 사용자 조회
         User user = userRepository.findByEmailAndDeletedAtIsNull(request.getEmail())
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        // 3. 토큰 생성
+        // 4. 기기 세션별 토큰 생성
+        String sessionId = UUID.randomUUID().toString();
         String accessToken = jwtTokenProvider.createAccessToken(
+                user.getId(),
                 user.getEmail(),
-                user.getRole().name()
+                user.getRole().name(),
+                sessionId
         );
-        String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmail());
+        String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmail(), sessionId);
 
-        // 4. Refresh Token Redis에 저장
-        refreshTokenService.saveRefreshToken(user.getEmail(), refreshToken);
+        // 5. 세션 등록 (최대 기기 수 초과로 밀려난 세션의 Access Token도 폐기)
+        List<String> evicted = refreshTokenService.saveSession(user.getEmail(), sessionId, refreshToken, device);
+        tokenRevocationService.revokeSessions(evicted);
 
         log.info("로그인 성공: userId={}", user.getId());
 
@@ -109,6 +133,7 @@ public class AuthService {
                 .accessToken(accessToken)
                 .refreshToken(refreshToken)
                 .expiresIn(jwtTokenProvider.getExpirationTime(accessToken))
+                .sessionId(sessionId)
                 .loginAt(LocalDateTime.now())
                 .build();
     }
@@ -128,27 +153,36 @@ public class AuthService {
             throw new BusinessException(ErrorCode.INVALID_TOKEN, "Refresh Token이 아닙니다.");
         }
 
-        // 2. 이메일 추출
+        // 2. 이메일/세션 ID 추출
         String email = jwtTokenProvider.getEmailFromToken(refreshToken);
-
-        // 3. Redis에 저장된 토큰과 비교
-        if (!refreshTokenService.validateRefreshToken(email, refreshToken)) {
-            throw new BusinessException(ErrorCode.INVALID_TOKEN, "유효하지 않은 Refresh Token입니다.");
+        String sessionId = jwtTokenProvider.getSessionIdFromToken(refreshToken);
+        if (sessionId == null) {
+            throw new BusinessException(ErrorCode.INVALID_TOKEN, "세션 정보가 없는 토큰입니다. 다시 로그인해주세요.");
         }
 
-        // 4. 사용자 조회
+        // 3. 사용자 조회
         User user = userRepository.findByEmailAndDeletedAtIsNull(email)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        // 5. 새 토큰 생성
+        // 4. 새 토큰 생성
         String newAccessToken = jwtTokenProvider.createAccessToken(
+                user.getId(),
                 user.getEmail(),
-                user.getRole().name()
+                user.getRole().name(),
+                sessionId
         );
-        String newRefreshToken = jwtTokenProvider.createRefreshToken(user.getEmail());
+        String newRefreshToken = jwtTokenProvider.createRefreshToken(user.getEmail(), sessionId);
 
-        // 6. 새 Refresh Token Redis에 저장
-        refreshTokenService.saveRefreshToken(user.getEmail(), newRefreshToken);
+        // 5. 세션의 Refresh Token 교체 (이미 교체된 토큰이 다시 쓰이면 세션 전체 폐기)
+        RotationResult result = refreshTokenService.rotate(email, sessionId, refreshToken, newRefreshToken);
+        if (result == RotationResult.NOT_FOUND) {
+            throw new BusinessException(ErrorCode.INVALID_TOKEN, "유효하지 않은 Refresh Token입니다.");
+        }
+        if (result == RotationResult.REUSED) {
+            log.warn("Refresh Token 재사용 감지: userId={}, sessionId={}", user.getId(), sessionId);
+            tokenRevocationService.revokeSessions(List.of(sessionId));
+            throw new BusinessException(ErrorCode.INVALID_TOKEN, "이미 사용된 Refresh Token입니다. 다시 로그인해주세요.");
+        }
 
         log.info("토큰 갱신 성공: userId={}", user.getId());
 
@@ -160,18 +194,63 @@ public class AuthService {
     }
 
     /**
-     * 로그아웃
+     * 로그아웃 (현재 기기)
      */
     @Transactional
-    public void logout(String email) {
+    public void logout(String email, String accessToken) {
         log.info("로그아웃 시도: {}", email);
 
         User user = userRepository.findByEmailAndDeletedAtIsNull(email)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        // Refresh Token Redis에서 삭제
-        refreshTokenService.deleteRefreshToken(email);
+        // 현재 세션 제거 + 세션의 Access Token 폐기 (만료 전까지 재사용 불가)
+        Claims claims = jwtTokenProvider.verify(accessToken);
+        String sessionId = claims.get("sid", String.class);
+        if (sessionId != null) {
+            refreshTokenService.revokeSessions(email, List.of(sessionId));
+            tokenRevocationService.revokeSessions(List.of(sessionId));
+        } else {
+            tokenRevocationService.revoke(claims);
+        }
 
         log.info("로그아웃 성공: userId={}", user.getId());
     }
-}
\ No newline at end of file
+
+    /**
+     * 전체 기기 로그아웃
+     */
+    @Transactional
+    public void logoutAll(String email, String accessToken) {
+        log.info("전체 기기 로그아웃 시도: {}", email);
+
+        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+
+        // 모든 세션 제거 후 한 번에 폐기
+        List<String> removed = refreshTokenService.revokeAllSessions(email);
+        tokenRevocationService.revokeSessions(removed);
+        tokenRevocationService.revoke(jwtTokenProvider.verify(accessToken));
+
+        log.info("전체 기기 로그아웃 성공: userId={}, sessions={}", user.getId(), removed.size());
+    }
+
+    /**
+     * 로그인 세션(기기) 목록 조회
+     */
+    public List<SessionResponse> getSessions(String email, String accessToken) {
+        return refreshTokenService.getSessions(email, jwtTokenProvider.getSessionIdFromToken(accessToken));
+    }
+
+    /**
+     * 특정 세션(기기) 로그아웃
+     */
+    @Transactional
+    public void revokeSession(String email, String sessionId) {
+        List<String> removed = refreshTokenService.revokeSessions(email, List.of(sessionId));
+        if (removed.isEmpty()) {
+            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "세션을 찾을 수 없습니다.");
+        }
+        tokenRevocationService.revokeSessions(removed);
+        log.info("세션 로그아웃: email={}, sessionId={}", email, sessionId);
+    }
+}
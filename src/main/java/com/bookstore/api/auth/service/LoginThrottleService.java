@@ -0,0 +1,137 @@
+package com.bookstore.api.auth.service;
+
+import com.bookstore.api.common.exception.BusinessException;
+import com.bookstore.api.common.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 로그인 실패 횟수 제한 (IP별 / 계정별)
+ * - 실패 횟수는 Redis 카운터(login:fail:ip:{ip}, login:fail:account:{email})에 window 동안 누적
+ * - 한도를 넘은 IP/계정은 로컬 메모리에도 잠시 기록해 Redis 조회 없이 바로 거절
+ * - 거절된 요청은 비밀번호 검증(BCrypt)까지 가지 않음
+ */
+@Slf4j
+@Service
+public class LoginThrottleService {
+
+    private static final String IP_PREFIX = "login:fail:ip:";
+    private static final String ACCOUNT_PREFIX = "login:fail:account:";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> INCR_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/counter-incr.lua"), List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Cache<String, Boolean> blocked;
+    private final int maxFailuresPerIp;
+    private final int maxFailuresPerAccount;
+    private final long windowSeconds;
+
+    public LoginThrottleService(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${auth.login-throttle.max-failures-per-ip:20}") int maxFailuresPerIp,
+            @Value("${auth.login-throttle.max-failures-per-account:5}") int maxFailuresPerAccount,
+            @Value("${auth.login-throttle.window-seconds:900}") long windowSeconds,
+            @Value("${auth.login-throttle.local-block-seconds:60}") long localBlockSeconds
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.maxFailuresPerIp = maxFailuresPerIp;
+        this.maxFailuresPerAccount = maxFailuresPerAccount;
+        this.windowSeconds = windowSeconds;
+        this.blocked = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofSeconds(localBlockSeconds))
+                .build();
+    }
+
+    /**
+     * 로그인 시도 허용 여부 확인 (한도 초과 시 429)
+     */
+    public void checkAllowed(String ip, String email) {
+        String ipKey = IP_PREFIX + ip;
+        String accountKey = ACCOUNT_PREFIX + normalize(email);
+
+        if (blocked.getIfPresent(ipKey) != null || blocked.getIfPresent(accountKey) != null) {
+            throw tooManyAttempts();
+        }
+
+        try {
+            List<String> counts = redisTemplate.opsForValue().multiGet(List.of(ipKey, accountKey));
+            if (counts != null && counts.size() == 2) {
+                block(ipKey, parse(counts.get(0)), maxFailuresPerIp);
+                block(accountKey, parse(counts.get(1)), maxFailuresPerAccount);
+            }
+        } catch (Exception e) {
+            // Redis 장애 시에는 로컬 기록만으로 판단
+            log.error("로그인 실패 횟수 조회 실패: ip={}", ip, e);
+        }
+
+        if (blocked.getIfPresent(ipKey) != null || blocked.getIfPresent(accountKey) != null) {
+            throw tooManyAttempts();
+        }
+    }
+
+    /**
+     * 로그인 실패 기록
+     */
+    @SuppressWarnings("unchecked")
+    public void recordFailure(String ip, String email) {
+        String ipKey = IP_PREFIX + ip;
+        String accountKey = ACCOUNT_PREFIX + normalize(email);
+
+        try {
+            List<Long> counts = redisTemplate.execute(
+                    INCR_SCRIPT, List.of(ipKey, accountKey), String.valueOf(windowSeconds));
+            if (counts != null && counts.size() == 2) {
+                block(ipKey, counts.get(0), maxFailuresPerIp);
+                block(accountKey, counts.get(1), maxFailuresPerAccount);
+            }
+        } catch (Exception e) {
+            log.error("로그인 실패 기록 실패: ip={}", ip, e);
+        }
+    }
+
+    /**
+     * 로그인 성공 시 계정 실패 횟수 초기화 (IP 누적은 유지)
+     */
+    public void recordSuccess(String email) {
+        String accountKey = ACCOUNT_PREFIX + normalize(email);
+        blocked.invalidate(accountKey);
+        try {
+            redisTemplate.delete(accountKey);
+        } catch (DataAccessException e) {
+            // 초기화에 실패해도 로그인은 성공 처리 (카운터는 window 경과 후 만료)
+            log.error("로그인 실패 횟수 초기화 실패: email={}", email, e);
+        }
+    }
+
+    private void block(String key, long failures, int limit) {
+        if (failures >= limit) {
+            blocked.put(key, Boolean.TRUE);
+        }
+    }
+
+    private long parse(String value) {
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    private String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private BusinessException tooManyAttempts() {
+        return new BusinessException(ErrorCode.TOO_MANY_REQUESTS, "로그인 시도 횟수를 초과했습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -1,80 +1,174 @@
 package com.bookstore.api.auth.service;
 
-import com.bookstore.api.common.exception.BusinessException;
-import com.bookstore.api.common.exception.ErrorCode;
+import com.bookstore.api.auth.dto.SessionResponse;
+import com.bookstore.api.common.util.DigestUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
 
+/**
+ * 기기별 Refresh Token 세션 저장소
+ * - refresh_session:{email} Hash (field = 세션 ID, value = "토큰 digest|만료 시각|생성 시각|마지막 사용 시각|기기")
+ * - 토큰 갱신 시 세션의 토큰을 교체하고, 이미 교체된 토큰이 다시 제시되면 탈취로 보고 세션 제거
+ * - 등록/교체/제거는 Lua 스크립트 1회, 목록 조회는 HGETALL 1회
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RefreshTokenService {
 
+    private static final String SESSION_PREFIX = "refresh_session:";
+    private static final int MAX_DEVICE_LENGTH = 200;
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SAVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/session-save.lua"), List.class);
+    private static final RedisScript<Long> ROTATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/session-rotate.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> REVOKE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/session-revoke.lua"), List.class);
+
     private final RedisTemplate<String, String> redisTemplate;
 
     @Value("${jwt.refresh-token-validity-in-seconds}")
     private long refreshTokenValidityInSeconds;
 
-    private static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
+    @Value("${auth.session.max-devices:10}")
+    private int maxDevices;
+
+    public enum RotationResult {
+        ROTATED, NOT_FOUND, REUSED
+    }
 
     /**
-     * Refresh Token 저장
+     * 세션 등록
+     * - 최대 기기 수를 넘으면 가장 오래 사용하지 않은 세션부터 제거하고, 제거된 세션 ID 반환
      */
-    public void saveRefreshToken(String email, String token) {
-        String key = REFRESH_TOKEN_PREFIX + email;
-        redisTemplate.opsForValue().set(
-                key,
-                token,
-                refreshTokenValidityInSeconds,
-                TimeUnit.SECONDS
+    @SuppressWarnings("unchecked")
+    public List<String> saveSession(String email, String sessionId, String refreshToken, String device) {
+        long now = System.currentTimeMillis();
+        String value = String.join("|",
+                DigestUtil.sha256(refreshToken),
+                String.valueOf(now + ttlMillis()),
+                String.valueOf(now),
+                String.valueOf(now),
+                normalizeDevice(device));
+
+        List<String> evicted = redisTemplate.execute(
+                SAVE_SCRIPT,
+                List.of(key(email)),
+                sessionId, value, String.valueOf(now), String.valueOf(maxDevices), String.valueOf(ttlMillis())
         );
-        log.debug("Refresh Token 저장: email={}", email);
+        log.debug("세션 등록: email={}, sessionId={}, evicted={}", email, sessionId, evicted);
+        return evicted != null ? evicted : Collections.emptyList();
     }
 
     /**
-     * Refresh Token 조회
+     * 세션 Refresh Token 교체
      */
-    public String getRefreshToken(String email) {
-        String key = REFRESH_TOKEN_PREFIX + email;
-        String token = redisTemplate.opsForValue().get(key);
+    public RotationResult rotate(String email, String sessionId, String presentedToken, String newToken) {
+        long now = System.currentTimeMillis();
+        Long result = redisTemplate.execute(
+                ROTATE_SCRIPT,
+                List.of(key(email)),
+                sessionId,
+                DigestUtil.sha256(presentedToken),
+                DigestUtil.sha256(newToken),
+                String.valueOf(now + ttlMillis()),
+                String.valueOf(now),
+                String.valueOf(ttlMillis())
+        );
 
-        if (token == null) {
-            throw new BusinessException(ErrorCode.INVALID_TOKEN, "유효하지 않은 Refresh Token입니다.");
+        if (result == null || result == 0) {
+            return RotationResult.NOT_FOUND;
         }
-
-        return token;
+        return result > 0 ? RotationResult.ROTATED : RotationResult.REUSED;
     }
 
     /**
-     * Refresh Token 검증
+     * 세션 목록 조회 (만료된 세션 제외, 최근 사용 순)
      */
-    public boolean validateRefreshToken(String email, String token) {
-        try {
-            String storedToken = getRefreshToken(email);
-            return storedToken.equals(token);
-        } catch (BusinessException e) {
-            return false;
-        }
+    public List<SessionResponse> getSessions(String email, String currentSessionId) {
+        long now = System.currentTimeMillis();
+        HashOperations<String, String, String> ops = redisTemplate.opsForHash();
+
+        return ops.entries(key(email)).entrySet().stream()
+                .map(entry -> toResponse(entry.getKey(), entry.getValue(), currentSessionId, now))
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparing(SessionResponse::getLastUsedAt).reversed())
+                .toList();
     }
 
     /**
-     * Refresh Token 삭제
+     * 지정한 세션 제거 후 실제 제거된 세션 ID 반환
      */
-    public void deleteRefreshToken(String email) {
-        String key = REFRESH_TOKEN_PREFIX + email;
-        redisTemplate.delete(key);
-        log.debug("Refresh Token 삭제: email={}", email);
+    @SuppressWarnings("unchecked")
+    public List<String> revokeSessions(String email, Collection<String> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> removed = redisTemplate.execute(
+                REVOKE_SCRIPT, List.of(key(email)), sessionIds.toArray());
+        log.debug("세션 제거: email={}, sessionIds={}", email, removed);
+        return removed != null ? removed : Collections.emptyList();
     }
 
     /**
-     * 특정 사용자의 모든 Refresh Token 삭제
+     * 사용자의 모든 세션 제거 후 제거된 세션 ID 반환
      */
-    public void deleteAllRefreshTokens(String email) {
-        deleteRefreshToken(email);
+    @SuppressWarnings("unchecked")
+    public List<String> revokeAllSessions(String email) {
+        List<String> removed = redisTemplate.execute(REVOKE_SCRIPT, List.of(key(email)));
+        log.debug("전체 세션 제거: email={}, count={}", email, removed != null ? removed.size() : 0);
+        return removed != null ? removed : Collections.emptyList();
+    }
+
+    private SessionResponse toResponse(String sessionId, String value, String currentSessionId, long now) {
+        String[] parts = value.split("\\|", 5);
+        if (parts.length < 5 || Long.parseLong(parts[1]) <= now) {
+            return null;
+        }
+        return SessionResponse.builder()
+                .sessionId(sessionId)
+                .device(parts[4])
+                .current(sessionId.equals(currentSessionId))
+                .createdAt(toDateTime(Long.parseLong(parts[2])))
+                .lastUsedAt(toDateTime(Long.parseLong(parts[3])))
+                .expiresAt(toDateTime(Long.parseLong(parts[1])))
+                .build();
+    }
+
+    private LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private String normalizeDevice(String device) {
+        if (device == null) {
+            return "";
+        }
+        return device.length() > MAX_DEVICE_LENGTH ? device.substring(0, MAX_DEVICE_LENGTH) : device;
+    }
+
+    private long ttlMillis() {
+        return refreshTokenValidityInSeconds * 1000;
+    }
+
+    private String key(String email) {
+        return SESSION_PREFIX + email;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,14 @@
+package com.bookstore.api.auth.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원가입 이벤트 (커밋 후 일별 지표 반영)
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserSignedUpEvent {
+
+    private final Long userId;
+}
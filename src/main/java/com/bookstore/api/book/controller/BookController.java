@@ -6,6 +6,7 @@ import com.bookstore.api.book.dto.UpdateBookRequest;
 import com.bookstore.api.book.service.BookService;
 import com.bookstore.api.common.dto.ApiResponse;
 import com.bookstore.api.common.dto.PageResponse;
+import com.bookstore.api.security.CurrentUserId;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -41,8 +42,9 @@ public class BookController {
     @Operation(summary = "도서 조회", description = "도서 ID로 도서를 조회합니다")
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<BookResponse>> getBook(
+            @CurrentUserId Long userId,
             @Parameter(description = "도서 ID") @PathVariable Long id) {
-        BookResponse response = bookService.getBook(id);
+        BookResponse response = bookService.getBook(userId, id);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -68,53 +70,69 @@ public class BookController {
     @Operation(summary = "전체 도서 목록 조회", description = "전체 도서 목록을 페이징하여 조회합니다")
     @GetMapping
     public ResponseEntity<ApiResponse<PageResponse<BookResponse>>> getAllBooks(
+            @CurrentUserId Long userId,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<BookResponse> page = bookService.getAllBooks(pageable);
+        Page<BookResponse> page = bookService.getAllBooks(userId, pageable);
         return ResponseEntity.ok(ApiResponse.success(PageResponse.of(page)));
     }
 
     @Operation(summary = "도서 통합 검색", description = "제목, 저자, 출판사로 도서를 검색합니다")
     @GetMapping("/search")
     public ResponseEntity<ApiResponse<PageResponse<BookResponse>>> searchBooks(
+            @CurrentUserId Long userId,
             @Parameter(description = "검색 키워드") @RequestParam String keyword,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<BookResponse> page = bookService.searchBooks(keyword, pageable);
+        Page<BookResponse> page = bookService.searchBooks(userId, keyword, pageable);
         return ResponseEntity.ok(ApiResponse.success(PageResponse.of(page)));
     }
 
     @Operation(summary = "제목으로 도서 검색", description = "제목으로 도서를 검색합니다")
     @GetMapping("/search/title")
     public ResponseEntity<ApiResponse<PageResponse<BookResponse>>> searchByTitle(
+            @CurrentUserId Long userId,
             @Parameter(description = "제목") @RequestParam String title,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<BookResponse> page = bookService.searchByTitle(title, pageable);
+        Page<BookResponse> page = bookService.searchByTitle(userId, title, pageable);
         return ResponseEntity.ok(ApiResponse.success(PageResponse.of(page)));
     }
 
     @Operation(summary = "저자로 도서 검색", description = "저자로 도서를 검색합니다")
     @GetMapping("/search/author")
     public ResponseEntity<ApiResponse<PageResponse<BookResponse>>> searchByAuthor(
+            @CurrentUserId Long userId,
             @Parameter(description = "저자") @RequestParam String author,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<BookResponse> page = bookService.searchByAuthor(author, pageable);
+        Page<BookResponse> page = bookService.searchByAuthor(userId, author, pageable);
         return ResponseEntity.ok(ApiResponse.success(PageResponse.of(page)));
     }
 
     @Operation(summary = "출판사로 도서 검색", description = "출판사로 도서를 검색합니다")
     @GetMapping("/search/publisher")
     public ResponseEntity<ApiResponse<PageResponse<BookResponse>>> searchByPublisher(
+            @CurrentUserId Long userId,
             @Parameter(description = "출판사") @RequestParam String publisher,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<BookResponse> page = bookService.searchByPublisher(publisher, pageable);
+        Page<BookResponse> page = bookService.searchByPublisher(userId, publisher, pageable);
         return ResponseEntity.ok(ApiResponse.success(PageResponse.of(page)));
     }
 
     @Operation(summary = "판매자의 도서 목록 조회", description = "특정 판매자의 도서 목록을 조회합니다")
     @GetMapping("/seller/{sellerId}")
     public ResponseEntity<ApiResponse<PageResponse<BookResponse>>> getBooksBySeller(
+            @CurrentUserId Long userId,
             @Parameter(description = "판매자 ID") @PathVariable Long sellerId,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<BookResponse> page = bookService.getBooksBySeller(sellerId, pageable);
+        Page<BookResponse> page = bookService.getBooksBySeller(userId, sellerId, pageable);
         return ResponseEntity.ok(ApiResponse.success(PageResponse.of(page)));
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "카테고리별 도서 목록 조회", description = "특정 카테고리와 그 하위 카테고리에 속한 도서 목록을 최신 등록순으로 조회합니다")
+    @GetMapping("/category/{categoryId}")
+    public ResponseEntity<ApiResponse<PageResponse<BookResponse>>> getBooksByCategory(
+            @CurrentUserId Long userId,
+            @Parameter(description = "카테고리 ID") @PathVariable Long categoryId,
+            @PageableDefault(size = 20) Pageable pageable) {
+        Page<BookResponse> page = bookService.getBooksByCategoryTree(userId, categoryId, pageable);
+        return ResponseEntity.ok(ApiResponse.success(PageResponse.of(page)));
+    }
+}
@@ -50,6 +50,9 @@ public class BookResponse {
     @Schema(description = "카테고리 ID 목록", example = "[1, 2, 3]")
     private List<Long> categoryIds;
 
+    @Schema(description = "찜 여부 (목록/상세 조회 시)", example = "true")
+    private Boolean favorited;
+
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     @Schema(description = "생성일시", example = "2024-01-01 12:00:00")
     private LocalDateTime createdAt;
@@ -35,4 +35,16 @@ public interface BookRepository extends JpaRepository<Book, Long> {
             "LOWER(b.author) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
             "LOWER(b.publisher) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     Page<Book> searchBooks(@Param("keyword") String keyword, Pageable pageable);
-}
\ No newline at end of file
+
+    // 카테고리(하위 카테고리 포함)로 검색 - category_closure + books.categories GIN 인덱스
+    @Query(value = "SELECT b.* FROM books b WHERE b.id IN (" +
+                   "SELECT b2.id FROM category_closure cc " +
+                   "JOIN books b2 ON CAST(b2.categories AS jsonb) @> to_jsonb(cc.descendant_id) " +
+                   "WHERE cc.ancestor_id = :categoryId AND b2.deleted_at IS NULL) " +
+                   "ORDER BY b.created_at DESC, b.id DESC",
+           countQuery = "SELECT COUNT(DISTINCT b2.id) FROM category_closure cc " +
+                   "JOIN books b2 ON CAST(b2.categories AS jsonb) @> to_jsonb(cc.descendant_id) " +
+                   "WHERE cc.ancestor_id = :categoryId AND b2.deleted_at IS NULL",
+           nativeQuery = true)
+    Page<Book> findByCategoryTree(@Param("categoryId") Long categoryId, Pageable pageable);
+}
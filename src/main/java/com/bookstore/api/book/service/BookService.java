@@ -5,18 +5,22 @@ import com.bookstore.api.book.dto.CreateBookRequest;
 import com.bookstore.api.book.dto.UpdateBookRequest;
 import com.bookstore.api.book.entity.Book;
 import com.bookstore.api.book.repository.BookRepository;
+import com.bookstore.api.category.repository.CategoryRepository;
 import com.bookstore.api.common.exception.BusinessException;
 import com.bookstore.api.common.exception.ErrorCode;
+import com.bookstore.api.favorite.service.FavoriteService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -25,6 +29,8 @@ import java.util.List;
 public class BookService {
 
     private final BookRepository bookRepository;
+    private final CategoryRepository categoryRepository;
+    private final FavoriteService favoriteService;
     private final ObjectMapper objectMapper;
 
     /**
@@ -58,10 +64,11 @@ public class BookService {
     /**
      * 도서 조회
      */
-    public BookResponse getBook(Long id) {
+    public BookResponse getBook(Long userId, Long id) {
         Book book = bookRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "도서를 찾을 수 없습니다"));
-        return convertToResponse(book);
+        Map<Long, Boolean> favorited = favoriteService.getFavoritedMap(userId, List.of(id));
+        return convertToResponse(book, favorited.get(id));
     }
 
     /**
@@ -102,55 +109,77 @@ public class BookService {
     /**
      * 전체 도서 목록 조회 (페이징)
      */
-    public Page<BookResponse> getAllBooks(Pageable pageable) {
-        return bookRepository.findAll(pageable)
-                .map(this::convertToResponse);
+    public Page<BookResponse> getAllBooks(Long userId, Pageable pageable) {
+        return convertToResponses(userId, bookRepository.findAll(pageable));
     }
 
     /**
      * 도서 검색 (제목, 저자, 출판사)
      */
-    public Page<BookResponse> searchBooks(String keyword, Pageable pageable) {
-        return bookRepository.searchBooks(keyword, pageable)
-                .map(this::convertToResponse);
+    public Page<BookResponse> searchBooks(Long userId, String keyword, Pageable pageable) {
+        return convertToResponses(userId, bookRepository.searchBooks(keyword, pageable));
     }
 
     /**
      * 제목으로 검색
      */
-    public Page<BookResponse> searchByTitle(String title, Pageable pageable) {
-        return bookRepository.findByTitleContainingIgnoreCase(title, pageable)
-                .map(this::convertToResponse);
+    public Page<BookResponse> searchByTitle(Long userId, String title, Pageable pageable) {
+        return convertToResponses(userId, bookRepository.findByTitleContainingIgnoreCase(title, pageable));
     }
 
     /**
      * 저자로 검색
      */
-    public Page<BookResponse> searchByAuthor(String author, Pageable pageable) {
-        return bookRepository.findByAuthorContainingIgnoreCase(author, pageable)
-                .map(this::convertToResponse);
+    public Page<BookResponse> searchByAuthor(Long userId, String author, Pageable pageable) {
+        return convertToResponses(userId, bookRepository.findByAuthorContainingIgnoreCase(author, pageable));
     }
 
     /**
      * 출판사로 검색
      */
-    public Page<BookResponse> searchByPublisher(String publisher, Pageable pageable) {
-        return bookRepository.findByPublisherContainingIgnoreCase(publisher, pageable)
-                .map(this::convertToResponse);
+    public Page<BookResponse> searchByPublisher(Long userId, String publisher, Pageable pageable) {
+        return convertToResponses(userId, bookRepository.findByPublisherContainingIgnoreCase(publisher, pageable));
     }
 
     /**
      * 판매자의 도서 목록 조회
      */
-    public Page<BookResponse> getBooksBySeller(Long sellerId, Pageable pageable) {
-        return bookRepository.findBySellerId(sellerId, pageable)
-                .map(this::convertToResponse);
+    public Page<BookResponse> getBooksBySeller(Long userId, Long sellerId, Pageable pageable) {
+        return convertToResponses(userId, bookRepository.findBySellerId(sellerId, pageable));
+    }
+
+    /**
+     * 카테고리(하위 카테고리 포함)의 도서 목록 조회 (최신 등록순)
+     */
+    public Page<BookResponse> getBooksByCategoryTree(Long userId, Long categoryId, Pageable pageable) {
+        if (!categoryRepository.existsById(categoryId)) {
+            throw new BusinessException(ErrorCode.CATEGORY_NOT_FOUND);
+        }
+
+        // 네이티브 쿼리에서 정렬은 고정 (created_at DESC)
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        return convertToResponses(userId, bookRepository.findByCategoryTree(categoryId, unsorted));
+    }
+
+    /**
+     * 도서 목록 -> BookResponse 목록 변환 (찜 여부는 사용자 찜 Set에서 한 번에 조회)
+     */
+    private Page<BookResponse> convertToResponses(Long userId, Page<Book> books) {
+        Map<Long, Boolean> favorited = favoriteService.getFavoritedMap(userId, books.map(Book::getId).getContent());
+        return books.map(book -> convertToResponse(book, favorited.get(book.getId())));
     }
 
     /**
      * Book -> BookResponse 변환
      */
     private BookResponse convertToResponse(Book book) {
+        return convertToResponse(book, null);
+    }
+
+    /**
+     * Book -> BookResponse 변환 (찜 여부 포함)
+     */
+    private BookResponse convertToResponse(Book book, Boolean favorited) {
         return BookResponse.builder()
                 .id(book.getId())
                 .title(book.getTitle())
@@ -162,6 +191,7 @@ public class BookService {
                 .publicationDate(book.getPublicationDate())
                 .sellerId(book.getSellerId())
                 .categoryIds(convertJsonToCategories(book.getCategories()))
+                .favorited(favorited)
                 .createdAt(book.getCreatedAt())
                 .updatedAt(book.getUpdatedAt())
                 .build();
@@ -3,13 +3,12 @@ package com.bookstore.api.cart.controller;
 import com.bookstore.api.cart.dto.*;
 import com.bookstore.api.cart.service.CartService;
 import com.bookstore.api.common.dto.ApiResponse;
+import com.bookstore.api.security.CurrentUserId;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.*;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
 
@@ -23,28 +22,33 @@ public class CartController {
     @Operation(summary = "장바구니 추가")
     @PostMapping
     public ResponseEntity<ApiResponse<CartResponse>> addToCart(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @CurrentUserId Long userId,
             @Valid @RequestBody AddToCartRequest request) {
-        Long userId = Long.parseLong(userDetails.getUsername());
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("장바구니에 추가되었습니다", cartService.addToCart(userId, request)));
     }
 
+    @Operation(summary = "장바구니 일괄 변경", description = "여러 항목을 한 번에 추가(ADD)/수량 변경(UPDATE)/삭제(REMOVE)")
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<List<CartResponse>>> bulkUpdate(
+            @CurrentUserId Long userId,
+            @Valid @RequestBody BulkCartRequest request) {
+        return ResponseEntity.ok(ApiResponse.success("장바구니가 변경되었습니다", cartService.bulkUpdate(userId, request)));
+    }
+
     @Operation(summary = "내 장바구니 조회")
     @GetMapping
     public ResponseEntity<ApiResponse<List<CartResponse>>> getMyCart(
-            @AuthenticationPrincipal UserDetails userDetails) {
-        Long userId = Long.parseLong(userDetails.getUsername());
+            @CurrentUserId Long userId) {
         return ResponseEntity.ok(ApiResponse.success(cartService.getMyCart(userId)));
     }
 
     @Operation(summary = "수량 수정")
     @PutMapping("/{cartId}")
     public ResponseEntity<ApiResponse<CartResponse>> updateCartQuantity(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @CurrentUserId Long userId,
             @PathVariable Long cartId,
             @Valid @RequestBody UpdateCartRequest request) {
-        Long userId = Long.parseLong(userDetails.getUsername());
         return ResponseEntity.ok(ApiResponse.success("수량이 수정되었습니다",
                 cartService.updateCartQuantity(userId, cartId, request)));
     }
@@ -52,9 +56,8 @@ public class CartController {
     @Operation(summary = "장바구니 삭제")
     @DeleteMapping("/{cartId}")
     public ResponseEntity<ApiResponse<Void>> removeFromCart(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @CurrentUserId Long userId,
             @PathVariable Long cartId) {
-        Long userId = Long.parseLong(userDetails.getUsername());
         cartService.removeFromCart(userId, cartId);
         return ResponseEntity.ok(ApiResponse.<Void>success("삭제되었습니다"));
     }
@@ -62,8 +65,7 @@ public class CartController {
     @Operation(summary = "장바구니 비우기")
     @DeleteMapping
     public ResponseEntity<ApiResponse<Void>> clearCart(
-            @AuthenticationPrincipal UserDetails userDetails) {
-        Long userId = Long.parseLong(userDetails.getUsername());
+            @CurrentUserId Long userId) {
         cartService.clearCart(userId);
         return ResponseEntity.ok(ApiResponse.<Void>success("장바구니가 비워졌습니다"));
     }
@@ -71,8 +73,7 @@ public class CartController {
     @Operation(summary = "장바구니 개수")
     @GetMapping("/count")
     public ResponseEntity<ApiResponse<Long>> getCartCount(
-            @AuthenticationPrincipal UserDetails userDetails) {
-        Long userId = Long.parseLong(userDetails.getUsername());
+            @CurrentUserId Long userId) {
         return ResponseEntity.ok(ApiResponse.success(cartService.getCartCount(userId)));
     }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.bookstore.api.cart.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "장바구니 일괄 변경 요청")
+public class BulkCartRequest {
+    @NotEmpty
+    @Size(max = 100)
+    @Valid
+    @Schema(description = "변경 항목 목록")
+    private List<Item> items;
+
+    public enum Action {
+        ADD, UPDATE, REMOVE
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "변경 항목")
+    public static class Item {
+        @NotNull
+        @Schema(description = "ADD: 수량 추가, UPDATE: 수량 변경, REMOVE: 삭제", example = "ADD")
+        private Action action;
+
+        @NotNull
+        @Schema(description = "도서 ID", example = "1")
+        private Long bookId;
+
+        @Min(1)
+        @Schema(description = "수량 (REMOVE는 생략)", example = "1")
+        private Integer quantity;
+    }
+}
@@ -0,0 +1,52 @@
+package com.bookstore.api.cart.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+/**
+ * 장바구니 일괄 반영 (JDBC batch)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CartBatchRepository {
+    private static final String INCREMENT_SQL =
+            "INSERT INTO carts (user_id, book_id, quantity, created_at, updated_at) " +
+            "VALUES (?, ?, ?, NOW(), NOW()) " +
+            "ON CONFLICT (user_id, book_id) WHERE deleted_at IS NULL " +
+            "DO UPDATE SET quantity = carts.quantity + EXCLUDED.quantity, updated_at = NOW()";
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO carts (user_id, book_id, quantity, created_at, updated_at) " +
+            "VALUES (?, ?, ?, NOW(), NOW()) " +
+            "ON CONFLICT (user_id, book_id) WHERE deleted_at IS NULL " +
+            "DO UPDATE SET quantity = EXCLUDED.quantity, updated_at = NOW()";
+
+    private static final String SOFT_DELETE_SQL =
+            "UPDATE carts SET deleted_at = NOW() " +
+            "WHERE user_id = ? AND book_id = ? AND deleted_at IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 수량 더하기 (없으면 추가) - 각 행: {userId, bookId, quantity}
+     */
+    public void incrementQuantities(List<Object[]> rows) {
+        if (!rows.isEmpty()) jdbcTemplate.batchUpdate(INCREMENT_SQL, rows);
+    }
+
+    /**
+     * 수량 덮어쓰기 (없으면 추가) - 각 행: {userId, bookId, quantity}
+     */
+    public void upsertQuantities(List<Object[]> rows) {
+        if (!rows.isEmpty()) jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+    }
+
+    /**
+     * 항목 삭제 (soft delete) - 각 행: {userId, bookId}
+     */
+    public void softDelete(List<Object[]> rows) {
+        if (!rows.isEmpty()) jdbcTemplate.batchUpdate(SOFT_DELETE_SQL, rows);
+    }
+}
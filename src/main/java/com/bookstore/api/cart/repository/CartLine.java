@@ -0,0 +1,20 @@
+package com.bookstore.api.cart.repository;
+
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 장바구니 항목 (저장소 구현과 무관한 공통 표현)
+ * - Redis 저장소에서는 id = bookId, 생성/수정 시각은 null
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class CartLine {
+    private final Long id;
+    private final Long userId;
+    private final Long bookId;
+    private final Integer quantity;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+}
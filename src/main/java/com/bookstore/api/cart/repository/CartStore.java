@@ -0,0 +1,34 @@
+package com.bookstore.api.cart.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 장바구니 저장소
+ * - cart.store=jpa (기본): carts 테이블 직접 사용
+ * - cart.store=redis: 사용자별 Redis Hash + carts 테이블 write-behind
+ */
+public interface CartStore {
+
+    CartLine add(Long userId, Long bookId, int quantity);
+
+    List<CartLine> findAll(Long userId);
+
+    Optional<CartLine> find(Long userId, Long lineId);
+
+    CartLine updateQuantity(Long userId, Long lineId, int quantity);
+
+    void remove(Long userId, Long lineId);
+
+    void clear(Long userId);
+
+    long count(Long userId);
+
+    /**
+     * 일괄 변경 (bookId 기준)
+     * - adds: 기존 수량에 더하기, updates: 수량 덮어쓰기, removes: 삭제
+     */
+    void applyBulk(Long userId, Map<Long, Integer> adds, Map<Long, Integer> updates, Collection<Long> removes);
+}
@@ -0,0 +1,92 @@
+package com.bookstore.api.cart.repository;
+
+import com.bookstore.api.cart.entity.Cart;
+import com.bookstore.api.common.exception.BusinessException;
+import com.bookstore.api.common.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cart.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaCartStore implements CartStore {
+    private final CartRepository cartRepository;
+    private final CartBatchRepository cartBatchRepository;
+
+    @Override
+    public CartLine add(Long userId, Long bookId, int quantity) {
+        // 조회 후 증가 대신 UPSERT 한 번으로 처리 (동시 추가 시 유실 방지)
+        cartBatchRepository.incrementQuantities(List.<Object[]>of(new Object[]{userId, bookId, quantity}));
+        return cartRepository.findByUserIdAndBookId(userId, bookId)
+                .map(this::toLine)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
+    }
+
+    @Override
+    public List<CartLine> findAll(Long userId) {
+        return cartRepository.findByUserId(userId).stream()
+                .map(this::toLine)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<CartLine> find(Long userId, Long lineId) {
+        return cartRepository.findById(lineId).map(this::toLine);
+    }
+
+    @Override
+    public CartLine updateQuantity(Long userId, Long lineId, int quantity) {
+        Cart cart = cartRepository.findById(lineId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
+        cart.updateQuantity(quantity);
+        return toLine(cart);
+    }
+
+    @Override
+    public void remove(Long userId, Long lineId) {
+        cartRepository.deleteById(lineId);
+    }
+
+    @Override
+    public void clear(Long userId) {
+        cartRepository.deleteByUserId(userId);
+    }
+
+    @Override
+    public long count(Long userId) {
+        return cartRepository.countByUserId(userId);
+    }
+
+    @Override
+    public void applyBulk(Long userId, Map<Long, Integer> adds, Map<Long, Integer> updates, Collection<Long> removes) {
+        cartBatchRepository.softDelete(toRows(userId, removes));
+        cartBatchRepository.upsertQuantities(toRows(userId, updates));
+        cartBatchRepository.incrementQuantities(toRows(userId, adds));
+    }
+
+    private List<Object[]> toRows(Long userId, Map<Long, Integer> quantities) {
+        List<Object[]> rows = new ArrayList<>(quantities.size());
+        quantities.forEach((bookId, quantity) -> rows.add(new Object[]{userId, bookId, quantity}));
+        return rows;
+    }
+
+    private List<Object[]> toRows(Long userId, Collection<Long> bookIds) {
+        return bookIds.stream()
+                .map(bookId -> new Object[]{userId, bookId})
+                .collect(Collectors.toList());
+    }
+
+    private CartLine toLine(Cart cart) {
+        return CartLine.builder()
+                .id(cart.getId()).userId(cart.getUserId()).bookId(cart.getBookId())
+                .quantity(cart.getQuantity())
+                .createdAt(cart.getCreatedAt()).updatedAt(cart.getUpdatedAt()).build();
+    }
+}
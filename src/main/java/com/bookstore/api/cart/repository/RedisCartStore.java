@@ -0,0 +1,295 @@
+package com.bookstore.api.cart.repository;
+
+import com.bookstore.api.cart.entity.Cart;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 장바구니 저장소
+ * - cart:{userId} Hash (field = bookId, value = 수량), 수량 변경은 HINCRBY/HSET
+ * - 변경된 항목은 cart:dirty Set에 "userId:bookId"로 기록 → CartWriteBehindScheduler가 DB 반영
+ *   (꺼낸 항목은 노드별 처리 중 Set으로 옮기고 DB 커밋 후 삭제, 죽은 노드의 처리 중 Set은 다른 노드가 되돌림)
+ * - Hash가 없으면 carts 테이블에서 한 번 적재 (적재 여부는 "_" 필드로 구분)
+ * - 항목 삭제는 트랜잭션 안에서 호출되면 커밋 후 반영 (주문이 롤백되면 장바구니 유지)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cart.store", havingValue = "redis")
+public class RedisCartStore implements CartStore {
+    private static final String CART_PREFIX = "cart:";
+    private static final String DIRTY_KEY = "cart:dirty";
+    private static final String PROCESSING_PREFIX = "cart:dirty:processing:";
+    private static final String NODES_KEY = "cart:dirty:nodes";
+    private static final String NODE_ALIVE_PREFIX = "cart:dirty:node:";
+    private static final String LOADED_FIELD = "_";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/set-claim.lua"), List.class);
+    private static final RedisScript<Long> RESTORE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/set-restore.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CartRepository cartRepository;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${cart.redis.ttl-days:7}")
+    private long ttlDays;
+
+    @Override
+    public CartLine add(Long userId, Long bookId, int quantity) {
+        String key = ensureLoaded(userId);
+        Long newQuantity = hash().increment(key, String.valueOf(bookId), quantity);
+        markDirty(userId, bookId);
+        touch(key);
+        return toLine(userId, bookId, newQuantity.intValue());
+    }
+
+    @Override
+    public List<CartLine> findAll(Long userId) {
+        String key = ensureLoaded(userId);
+        return hash().entries(key).entrySet().stream()
+                .filter(e -> !LOADED_FIELD.equals(e.getKey()))
+                .map(e -> toLine(userId, Long.parseLong(e.getKey()), Integer.parseInt(e.getValue())))
+                .sorted(Comparator.comparing(CartLine::getBookId))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<CartLine> find(Long userId, Long lineId) {
+        String key = ensureLoaded(userId);
+        String quantity = hash().get(key, String.valueOf(lineId));
+        return Optional.ofNullable(quantity)
+                .map(q -> toLine(userId, lineId, Integer.parseInt(q)));
+    }
+
+    @Override
+    public CartLine updateQuantity(Long userId, Long lineId, int quantity) {
+        String key = ensureLoaded(userId);
+        hash().put(key, String.valueOf(lineId), String.valueOf(quantity));
+        markDirty(userId, lineId);
+        touch(key);
+        return toLine(userId, lineId, quantity);
+    }
+
+    @Override
+    public void remove(Long userId, Long lineId) {
+        String key = ensureLoaded(userId);
+        runAfterCommit(() -> {
+            hash().delete(key, String.valueOf(lineId));
+            markDirty(userId, lineId);
+        });
+    }
+
+    @Override
+    public void clear(Long userId) {
+        String key = ensureLoaded(userId);
+        Object[] fields = hash().keys(key).stream()
+                .filter(field -> !LOADED_FIELD.equals(field))
+                .toArray();
+        if (fields.length == 0) return;
+
+        // 적재 표시("_")는 남겨 두어 DB에서 다시 적재하지 않도록 함
+        hash().delete(key, fields);
+        redisTemplate.opsForSet().add(DIRTY_KEY, Arrays.stream(fields)
+                .map(field -> userId + ":" + field)
+                .toArray(String[]::new));
+    }
+
+    @Override
+    public long count(Long userId) {
+        String key = ensureLoaded(userId);
+        return Math.max(0, hash().size(key) - 1);
+    }
+
+    @Override
+    public void applyBulk(Long userId, Map<Long, Integer> adds, Map<Long, Integer> updates, Collection<Long> removes) {
+        String key = ensureLoaded(userId);
+        List<String> dirty = new ArrayList<>();
+        removes.forEach(bookId -> dirty.add(userId + ":" + bookId));
+        updates.keySet().forEach(bookId -> dirty.add(userId + ":" + bookId));
+        adds.keySet().forEach(bookId -> dirty.add(userId + ":" + bookId));
+        if (dirty.isEmpty()) return;
+
+        // 파이프라인 1회로 HDEL / HSET / HINCRBY + 변경 기록
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                HashOperations<String, String, String> hashOps = ops.opsForHash();
+                if (!removes.isEmpty()) {
+                    hashOps.delete(key, removes.stream().map(String::valueOf).toArray());
+                }
+                updates.forEach((bookId, quantity) -> hashOps.put(key, String.valueOf(bookId), String.valueOf(quantity)));
+                adds.forEach((bookId, quantity) -> hashOps.increment(key, String.valueOf(bookId), quantity));
+                ops.opsForSet().add(DIRTY_KEY, dirty.toArray(String[]::new));
+                ops.expire(key, ttlDays, TimeUnit.DAYS);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * DB 반영 대기 항목을 최대 count건 처리 중 Set으로 옮겨 반환 ("userId:bookId")
+     * - 이전 배치가 처리 중 Set에 남아 있으면 그 배치를 다시 반환
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> claimDirty(int count, long nodeTtlSeconds) {
+        List<String> members = redisTemplate.execute(
+                CLAIM_SCRIPT,
+                List.of(DIRTY_KEY, PROCESSING_PREFIX + nodeId, NODES_KEY, NODE_ALIVE_PREFIX + nodeId),
+                String.valueOf(count), nodeId, String.valueOf(nodeTtlSeconds)
+        );
+        return members != null ? members : Collections.emptyList();
+    }
+
+    /**
+     * DB 반영이 끝난 항목을 처리 중 Set에서 삭제
+     * - 그 사이 다시 변경된 항목은 대기 Set에 새로 기록되어 있으므로 다음 주기에 반영
+     */
+    public void acknowledgeDirty(Collection<String> members) {
+        if (!members.isEmpty()) {
+            redisTemplate.opsForSet().remove(PROCESSING_PREFIX + nodeId, members.toArray());
+        }
+    }
+
+    /**
+     * DB 반영 실패 항목을 대기 Set으로 되돌림
+     */
+    public long restoreDirty() {
+        return restoreDirty(nodeId);
+    }
+
+    /**
+     * 생존 키가 만료된 노드의 처리 중 Set을 대기 Set으로 되돌림 - 되돌린 건수 반환
+     */
+    public long recoverStaleNodes() {
+        Set<String> nodes = redisTemplate.opsForSet().members(NODES_KEY);
+        if (nodes == null) {
+            return 0;
+        }
+
+        long recovered = 0;
+        for (String node : nodes) {
+            if (node.equals(nodeId) || Boolean.TRUE.equals(redisTemplate.hasKey(NODE_ALIVE_PREFIX + node))) {
+                continue;
+            }
+            recovered += restoreDirty(node);
+            redisTemplate.opsForSet().remove(NODES_KEY, node);
+        }
+        return recovered;
+    }
+
+    private long restoreDirty(String node) {
+        Long restored = redisTemplate.execute(RESTORE_SCRIPT, List.of(DIRTY_KEY, PROCESSING_PREFIX + node));
+        return restored != null ? restored : 0;
+    }
+
+    /**
+     * 항목별 현재 수량 조회 (파이프라인 1회)
+     * - 삭제된 항목은 0, Hash가 적재되지 않은 사용자의 항목은 결과에서 제외
+     */
+    public Map<String, Integer> readQuantities(List<String> members) {
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                HashOperations<String, String, String> ops = ((RedisOperations<String, String>) operations).opsForHash();
+                for (String member : members) {
+                    String[] parts = member.split(":");
+                    ops.multiGet(CART_PREFIX + parts[0], List.of(parts[1], LOADED_FIELD));
+                }
+                return null;
+            }
+        });
+
+        Map<String, Integer> quantities = new LinkedHashMap<>();
+        for (int i = 0; i < members.size(); i++) {
+            @SuppressWarnings("unchecked")
+            List<String> values = (List<String>) results.get(i);
+            if (values == null || values.get(1) == null) continue;
+            quantities.put(members.get(i), values.get(0) != null ? Integer.parseInt(values.get(0)) : 0);
+        }
+        return quantities;
+    }
+
+    /**
+     * Hash가 없으면 carts 테이블에서 적재 (동시 적재/변경과 충돌하지 않도록 HSETNX 사용)
+     */
+    private String ensureLoaded(Long userId) {
+        String key = CART_PREFIX + userId;
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) return key;
+
+        List<Cart> carts = cartRepository.findByUserId(userId);
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (Cart cart : carts) {
+                    ops.opsForHash().putIfAbsent(key, String.valueOf(cart.getBookId()), String.valueOf(cart.getQuantity()));
+                }
+                ops.opsForHash().putIfAbsent(key, LOADED_FIELD, "1");
+                ops.expire(key, ttlDays, TimeUnit.DAYS);
+                return null;
+            }
+        });
+        return key;
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 있으면 커밋 후 실행 (없으면 바로 실행)
+     * - 커밋 후 실패는 요청 결과를 바꾸지 않도록 로그만 남김 (Hash TTL이 지나면 DB 기준으로 다시 적재)
+     */
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    action.run();
+                } catch (Exception e) {
+                    log.error("커밋 후 장바구니 반영 실패", e);
+                }
+            }
+        });
+    }
+
+    private void markDirty(Long userId, Long bookId) {
+        redisTemplate.opsForSet().add(DIRTY_KEY, userId + ":" + bookId);
+    }
+
+    private void touch(String key) {
+        redisTemplate.expire(key, ttlDays, TimeUnit.DAYS);
+    }
+
+    private HashOperations<String, String, String> hash() {
+        return redisTemplate.opsForHash();
+    }
+
+    private CartLine toLine(Long userId, Long bookId, int quantity) {
+        return CartLine.builder()
+                .id(bookId).userId(userId).bookId(bookId).quantity(quantity).build();
+    }
+}
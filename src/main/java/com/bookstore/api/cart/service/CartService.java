@@ -3,16 +3,17 @@ package com.bookstore.api.cart.service;
 import com.bookstore.api.book.entity.Book;
 import com.bookstore.api.book.repository.BookRepository;
 import com.bookstore.api.cart.dto.*;
-import com.bookstore.api.cart.entity.Cart;
-import com.bookstore.api.cart.repository.CartRepository;
+import com.bookstore.api.cart.repository.CartLine;
+import com.bookstore.api.cart.repository.CartStore;
 import com.bookstore.api.common.exception.BusinessException;
 import com.bookstore.api.common.exception.ErrorCode;
+import com.bookstore.api.common.loader.DataLoaderRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
-import java.util.List;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -20,65 +21,113 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CartService {
-    private final CartRepository cartRepository;
+    private final CartStore cartStore;
     private final BookRepository bookRepository;
+    private final DataLoaderRegistry dataLoaderRegistry;
 
     @Transactional
     public CartResponse addToCart(Long userId, AddToCartRequest request) {
         Book book = bookRepository.findById(request.getBookId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
 
-        Cart cart = cartRepository.findByUserIdAndBookId(userId, request.getBookId())
-                .map(c -> { c.increaseQuantity(request.getQuantity()); return c; })
-                .orElseGet(() -> cartRepository.save(Cart.builder()
-                        .userId(userId).bookId(request.getBookId()).quantity(request.getQuantity()).build()));
-
-        return convertToResponse(cart, book);
+        CartLine line = cartStore.add(userId, request.getBookId(), request.getQuantity());
+        return convertToResponse(line, book);
     }
 
     public List<CartResponse> getMyCart(Long userId) {
-        return cartRepository.findByUserId(userId).stream()
-                .map(cart -> convertToResponse(cart,
-                        bookRepository.findById(cart.getBookId()).orElseThrow(() ->
-                                new BusinessException(ErrorCode.RESOURCE_NOT_FOUND))))
+        List<CartLine> lines = cartStore.findAll(userId);
+        Map<Long, Book> books = dataLoaderRegistry.books()
+                .loadMany(lines.stream().map(CartLine::getBookId).toList());
+
+        return lines.stream()
+                .map(line -> {
+                    Book book = books.get(line.getBookId());
+                    if (book == null) throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND);
+                    return convertToResponse(line, book);
+                })
                 .collect(Collectors.toList());
     }
 
     @Transactional
     public CartResponse updateCartQuantity(Long userId, Long cartId, UpdateCartRequest request) {
-        Cart cart = cartRepository.findById(cartId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
-        if (!cart.getUserId().equals(userId))
-            throw new BusinessException(ErrorCode.FORBIDDEN);
-        cart.updateQuantity(request.getQuantity());
-        return convertToResponse(cart, bookRepository.findById(cart.getBookId())
+        getOwnedLine(userId, cartId);
+        CartLine line = cartStore.updateQuantity(userId, cartId, request.getQuantity());
+        return convertToResponse(line, bookRepository.findById(line.getBookId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND)));
     }
 
     @Transactional
     public void removeFromCart(Long userId, Long cartId) {
-        Cart cart = cartRepository.findById(cartId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
-        if (!cart.getUserId().equals(userId))
-            throw new BusinessException(ErrorCode.FORBIDDEN);
-        cartRepository.delete(cart);
+        getOwnedLine(userId, cartId);
+        cartStore.remove(userId, cartId);
     }
 
     @Transactional
     public void clearCart(Long userId) {
-        cartRepository.deleteByUserId(userId);
+        cartStore.clear(userId);
+    }
+
+    /**
+     * 장바구니 일괄 변경 (항목 순서대로 적용한 최종 결과를 bookId별로 한 번에 반영)
+     */
+    @Transactional
+    public List<CartResponse> bulkUpdate(Long userId, BulkCartRequest request) {
+        Map<Long, Integer> adds = new LinkedHashMap<>();
+        Map<Long, Integer> updates = new LinkedHashMap<>();
+        Set<Long> removes = new LinkedHashSet<>();
+
+        for (BulkCartRequest.Item item : request.getItems()) {
+            Long bookId = item.getBookId();
+            if (item.getAction() != BulkCartRequest.Action.REMOVE && item.getQuantity() == null)
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "수량을 입력해주세요");
+
+            switch (item.getAction()) {
+                case ADD -> {
+                    if (removes.remove(bookId)) updates.put(bookId, item.getQuantity());
+                    else if (updates.containsKey(bookId)) updates.merge(bookId, item.getQuantity(), Integer::sum);
+                    else adds.merge(bookId, item.getQuantity(), Integer::sum);
+                }
+                case UPDATE -> {
+                    removes.remove(bookId);
+                    adds.remove(bookId);
+                    updates.put(bookId, item.getQuantity());
+                }
+                case REMOVE -> {
+                    adds.remove(bookId);
+                    updates.remove(bookId);
+                    removes.add(bookId);
+                }
+            }
+        }
+
+        // 추가/변경 대상 도서 존재 확인 (IN 조회 1회)
+        Set<Long> bookIds = new HashSet<>(adds.keySet());
+        bookIds.addAll(updates.keySet());
+        if (!bookIds.isEmpty() && bookRepository.findAllById(bookIds).size() != bookIds.size())
+            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "도서를 찾을 수 없습니다");
+
+        cartStore.applyBulk(userId, adds, updates, removes);
+        return getMyCart(userId);
     }
 
     public long getCartCount(Long userId) {
-        return cartRepository.countByUserId(userId);
+        return cartStore.count(userId);
+    }
+
+    private CartLine getOwnedLine(Long userId, Long cartId) {
+        CartLine line = cartStore.find(userId, cartId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
+        if (!line.getUserId().equals(userId))
+            throw new BusinessException(ErrorCode.FORBIDDEN);
+        return line;
     }
 
-    private CartResponse convertToResponse(Cart cart, Book book) {
+    private CartResponse convertToResponse(CartLine line, Book book) {
         return CartResponse.builder()
-                .id(cart.getId()).userId(cart.getUserId()).bookId(cart.getBookId())
+                .id(line.getId()).userId(line.getUserId()).bookId(line.getBookId())
                 .bookTitle(book.getTitle()).bookAuthor(book.getAuthor()).bookPrice(book.getPrice())
-                .quantity(cart.getQuantity())
-                .totalPrice(book.getPrice().multiply(BigDecimal.valueOf(cart.getQuantity())))
-                .createdAt(cart.getCreatedAt()).updatedAt(cart.getUpdatedAt()).build();
+                .quantity(line.getQuantity())
+                .totalPrice(book.getPrice().multiply(BigDecimal.valueOf(line.getQuantity())))
+                .createdAt(line.getCreatedAt()).updatedAt(line.getUpdatedAt()).build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,106 @@
+package com.bookstore.api.cart.service;
+
+import com.bookstore.api.cart.repository.CartBatchRepository;
+import com.bookstore.api.cart.repository.RedisCartStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 장바구니 변경분 DB 반영 (write-behind)
+ * - 꺼낸 항목은 DB 커밋 후에만 처리 중 Set에서 삭제 (다시 처리해도 현재 수량으로 덮어쓰므로 안전)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cart.store", havingValue = "redis")
+public class CartWriteBehindScheduler {
+    private final RedisCartStore redisCartStore;
+    private final CartBatchRepository cartBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${cart.redis.flush-batch-size:500}")
+    private int batchSize;
+
+    @Value("${cart.redis.node-ttl-seconds:60}")
+    private long nodeTtlSeconds;
+
+    /**
+     * 시작 시 / 주기적으로 죽은 노드의 처리 중 변경분 복구
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${cart.redis.recover-interval-ms:30000}",
+            initialDelayString = "${cart.redis.recover-interval-ms:30000}")
+    public void recover() {
+        try {
+            long recovered = redisCartStore.recoverStaleNodes();
+            if (recovered > 0) {
+                log.warn("중단된 장바구니 변경분 복구: count={}", recovered);
+            }
+        } catch (Exception e) {
+            log.error("장바구니 변경분 복구 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cart.redis.flush-interval-ms:1000}")
+    public void flush() {
+        List<String> members;
+        try {
+            members = redisCartStore.claimDirty(batchSize, nodeTtlSeconds);
+        } catch (Exception e) {
+            log.error("장바구니 변경분 조회 실패", e);
+            return;
+        }
+        if (members.isEmpty()) return;
+
+        try {
+            Map<String, Integer> quantities = redisCartStore.readQuantities(members);
+
+            List<Object[]> upserts = new ArrayList<>();
+            List<Object[]> deletes = new ArrayList<>();
+            quantities.forEach((member, quantity) -> {
+                String[] parts = member.split(":");
+                Long userId = Long.parseLong(parts[0]);
+                Long bookId = Long.parseLong(parts[1]);
+                if (quantity > 0) upserts.add(new Object[]{userId, bookId, quantity});
+                else deletes.add(new Object[]{userId, bookId});
+            });
+
+            transactionTemplate.executeWithoutResult(status -> {
+                cartBatchRepository.upsertQuantities(upserts);
+                cartBatchRepository.softDelete(deletes);
+            });
+            log.debug("장바구니 DB 반영: upsert={}, delete={}", upserts.size(), deletes.size());
+        } catch (Exception e) {
+            // 실패 시 대기 Set으로 되돌려 다음 주기에 재시도
+            log.error("장바구니 DB 반영 실패: count={}", members.size(), e);
+            restore();
+            return;
+        }
+
+        try {
+            redisCartStore.acknowledgeDirty(members);
+        } catch (Exception e) {
+            // 처리 중 Set에 남은 항목은 다음 주기에 다시 반영
+            log.error("장바구니 반영 완료 기록 실패: count={}", members.size(), e);
+        }
+    }
+
+    private void restore() {
+        try {
+            redisCartStore.restoreDirty();
+        } catch (Exception e) {
+            // 처리 중 Set에 남아 있으므로 다음 주기에 다시 꺼내짐
+            log.error("장바구니 변경분 복원 실패", e);
+        }
+    }
+}
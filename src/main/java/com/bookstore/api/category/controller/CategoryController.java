@@ -5,8 +5,10 @@ import com.bookstore.api.category.dto.CreateCategoryRequest;
 import com.bookstore.api.category.dto.UpdateCategoryRequest;
 import com.bookstore.api.category.service.CategoryService;
 import com.bookstore.api.common.dto.ApiResponse;
+import com.fasterxml.jackson.databind.util.RawValue;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -66,7 +68,8 @@ public class CategoryController {
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "200",
-                    description = "조회 성공"
+                    description = "조회 성공 (payload: 하위 트리를 포함한 카테고리)",
+                    content = @Content(schema = @Schema(implementation = CategoryResponse.class))
             ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "404",
@@ -75,12 +78,12 @@ public class CategoryController {
             )
     })
     @GetMapping("/{categoryId}")
-    public ApiResponse<CategoryResponse> getCategory(
+    public ApiResponse<RawValue> getCategory(
             @Parameter(description = "카테고리 ID", example = "1")
             @PathVariable Long categoryId
     ) {
         log.info("카테고리 조회: categoryId={}", categoryId);
-        CategoryResponse response = categoryService.getCategory(categoryId);
+        RawValue response = categoryService.getCategory(categoryId);
         return ApiResponse.success(response);
     }
 
@@ -93,10 +96,17 @@ public class CategoryController {
     }
 
     @Operation(summary = "최상위 카테고리 목록 조회", description = "최상위 카테고리를 계층 구조로 조회합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공 (payload: 카테고리 트리 배열)",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = CategoryResponse.class)))
+            )
+    })
     @GetMapping("/root")
-    public ApiResponse<List<CategoryResponse>> getRootCategories() {
+    public ApiResponse<RawValue> getRootCategories() {
         log.info("최상위 카테고리 목록 조회");
-        List<CategoryResponse> response = categoryService.getRootCategories();
+        RawValue response = categoryService.getRootCategories();
         return ApiResponse.success(response);
     }
 
@@ -111,6 +121,28 @@ public class CategoryController {
         return ApiResponse.success(response);
     }
 
+    @Operation(summary = "하위 카테고리 전체 조회", description = "특정 카테고리 아래의 모든 하위 카테고리를 가까운 순으로 조회합니다.")
+    @GetMapping("/{categoryId}/descendants")
+    public ApiResponse<List<CategoryResponse>> getDescendants(
+            @Parameter(description = "카테고리 ID", example = "1")
+            @PathVariable Long categoryId
+    ) {
+        log.info("하위 카테고리 전체 조회: categoryId={}", categoryId);
+        List<CategoryResponse> response = categoryService.getDescendants(categoryId);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "상위 카테고리 경로 조회", description = "최상위부터 직계 부모까지의 카테고리 경로(breadcrumb)를 조회합니다.")
+    @GetMapping("/{categoryId}/ancestors")
+    public ApiResponse<List<CategoryResponse>> getAncestors(
+            @Parameter(description = "카테고리 ID", example = "1")
+            @PathVariable Long categoryId
+    ) {
+        log.info("상위 카테고리 경로 조회: categoryId={}", categoryId);
+        List<CategoryResponse> response = categoryService.getAncestors(categoryId);
+        return ApiResponse.success(response);
+    }
+
     @Operation(summary = "카테고리 검색", description = "카테고리 이름으로 검색합니다.")
     @GetMapping("/search")
     public ApiResponse<List<CategoryResponse>> searchCategories(
@@ -152,6 +184,37 @@ public class CategoryController {
         return ApiResponse.success("카테고리가 수정되었습니다.", response);
     }
 
+    @Operation(summary = "카테고리 이동", description = "카테고리를 하위 카테고리와 함께 다른 상위 카테고리 아래로 이동합니다. (관리자 전용)")
+    @SecurityRequirement(name = "JWT")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "이동 성공"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "카테고리를 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = com.bookstore.api.common.dto.ErrorResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "409",
+                    description = "자기 자신이나 하위 카테고리 아래로 이동",
+                    content = @Content(schema = @Schema(implementation = com.bookstore.api.common.dto.ErrorResponse.class))
+            )
+    })
+    @PatchMapping("/{categoryId}/parent")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<CategoryResponse> moveCategory(
+            @Parameter(description = "카테고리 ID", example = "1")
+            @PathVariable Long categoryId,
+            @Parameter(description = "새 상위 카테고리 ID (없으면 최상위)", example = "2")
+            @RequestParam(required = false) Long parentId
+    ) {
+        log.info("카테고리 이동: categoryId={}, parentId={}", categoryId, parentId);
+        CategoryResponse response = categoryService.moveCategory(categoryId, parentId);
+        return ApiResponse.success("카테고리가 이동되었습니다.", response);
+    }
+
     @Operation(summary = "카테고리 삭제", description = "카테고리를 삭제합니다. (관리자 전용)")
     @SecurityRequirement(name = "JWT")
     @ApiResponses({
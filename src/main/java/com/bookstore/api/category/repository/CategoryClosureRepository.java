@@ -0,0 +1,62 @@
+package com.bookstore.api.category.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 카테고리 Closure 테이블 관리 (JDBC)
+ * - category_closure(ancestor_id, descendant_id, depth): 모든 조상-자손 쌍 (자기 자신 포함)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CategoryClosureRepository {
+
+    private static final String INSERT_NODE_SQL =
+            "INSERT INTO category_closure (ancestor_id, descendant_id, depth) " +
+            "SELECT ancestor_id, ?, depth + 1 FROM category_closure WHERE descendant_id = ? " +
+            "UNION ALL SELECT ?, ?, 0";
+
+    // 이동 대상 서브트리와 기존 조상(서브트리 바깥) 사이의 관계 삭제
+    private static final String DETACH_SQL =
+            "DELETE FROM category_closure " +
+            "WHERE descendant_id IN (SELECT descendant_id FROM category_closure WHERE ancestor_id = ?) " +
+            "AND ancestor_id IN (SELECT ancestor_id FROM category_closure WHERE descendant_id = ? AND ancestor_id <> ?)";
+
+    // 새 부모의 조상 전체 × 서브트리 전체 관계 추가
+    private static final String ATTACH_SQL =
+            "INSERT INTO category_closure (ancestor_id, descendant_id, depth) " +
+            "SELECT p.ancestor_id, s.descendant_id, p.depth + s.depth + 1 " +
+            "FROM category_closure p CROSS JOIN category_closure s " +
+            "WHERE p.descendant_id = ? AND s.ancestor_id = ?";
+
+    private static final String IS_DESCENDANT_SQL =
+            "SELECT EXISTS (SELECT 1 FROM category_closure WHERE ancestor_id = ? AND descendant_id = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 새 카테고리 등록 (parentId가 null이면 최상위)
+     */
+    public void insertNode(Long categoryId, Long parentId) {
+        jdbcTemplate.update(INSERT_NODE_SQL, categoryId, parentId, categoryId, categoryId);
+    }
+
+    /**
+     * 서브트리 이동 (newParentId가 null이면 최상위로)
+     */
+    public void move(Long categoryId, Long newParentId) {
+        jdbcTemplate.update(DETACH_SQL, categoryId, categoryId, categoryId);
+        if (newParentId != null) {
+            jdbcTemplate.update(ATTACH_SQL, newParentId, categoryId);
+        }
+    }
+
+    /**
+     * descendantId가 ancestorId 자신이거나 그 하위인지 확인
+     */
+    public boolean isSelfOrDescendant(Long ancestorId, Long descendantId) {
+        return Boolean.TRUE.equals(
+                jdbcTemplate.queryForObject(IS_DESCENDANT_SQL, Boolean.class, ancestorId, descendantId));
+    }
+}
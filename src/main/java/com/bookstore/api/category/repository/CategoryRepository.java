@@ -39,4 +39,24 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
      */
     @Query("SELECT c FROM Category c WHERE c.name LIKE %:keyword% ORDER BY c.name ASC")
     List<Category> searchByName(@Param("keyword") String keyword);
-}
\ No newline at end of file
+
+    /**
+     * 하위 카테고리 전체 조회 (자기 자신 제외, 가까운 순)
+     */
+    @Query(value = "SELECT c.* FROM categories c " +
+                   "JOIN category_closure cc ON cc.descendant_id = c.id " +
+                   "WHERE cc.ancestor_id = :categoryId AND cc.depth > 0 " +
+                   "ORDER BY cc.depth ASC, c.name ASC",
+           nativeQuery = true)
+    List<Category> findDescendants(@Param("categoryId") Long categoryId);
+
+    /**
+     * 상위 카테고리 전체 조회 (자기 자신 제외, 최상위부터)
+     */
+    @Query(value = "SELECT c.* FROM categories c " +
+                   "JOIN category_closure cc ON cc.ancestor_id = c.id " +
+                   "WHERE cc.descendant_id = :categoryId AND cc.depth > 0 " +
+                   "ORDER BY cc.depth DESC",
+           nativeQuery = true)
+    List<Category> findAncestors(@Param("categoryId") Long categoryId);
+}
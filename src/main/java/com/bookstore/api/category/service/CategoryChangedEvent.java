@@ -0,0 +1,14 @@
+package com.bookstore.api.category.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 카테고리 생성/수정/삭제 이벤트 (커밋 후 카테고리 트리 재적재)
+ */
+@Getter
+@RequiredArgsConstructor
+public class CategoryChangedEvent {
+
+    private final Long categoryId;
+}
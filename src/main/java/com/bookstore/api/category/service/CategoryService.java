@@ -4,11 +4,14 @@ import com.bookstore.api.category.dto.CategoryResponse;
 import com.bookstore.api.category.dto.CreateCategoryRequest;
 import com.bookstore.api.category.dto.UpdateCategoryRequest;
 import com.bookstore.api.category.entity.Category;
+import com.bookstore.api.category.repository.CategoryClosureRepository;
 import com.bookstore.api.category.repository.CategoryRepository;
 import com.bookstore.api.common.exception.BusinessException;
 import com.bookstore.api.common.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.databind.util.RawValue;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +25,9 @@ import java.util.stream.Collectors;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryClosureRepository categoryClosureRepository;
+    private final CategoryTree categoryTree;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 카테고리 생성
@@ -49,21 +55,21 @@ public class CategoryService {
                 .build();
 
         Category savedCategory = categoryRepository.save(category);
+        categoryClosureRepository.insertNode(savedCategory.getId(), parent != null ? parent.getId() : null);
+        eventPublisher.publishEvent(new CategoryChangedEvent(savedCategory.getId()));
         log.info("카테고리 생성 완료: categoryId={}", savedCategory.getId());
 
         return CategoryResponse.from(savedCategory);
     }
 
     /**
-     * 카테고리 조회
+     * 카테고리 조회 (하위 트리 포함, 직렬화된 JSON)
      */
-    public CategoryResponse getCategory(Long categoryId) {
+    public RawValue getCategory(Long categoryId) {
         log.debug("카테고리 조회: categoryId={}", categoryId);
 
-        Category category = categoryRepository.findById(categoryId)
+        return categoryTree.getJson(categoryId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CATEGORY_NOT_FOUND));
-
-        return CategoryResponse.from(category);
     }
 
     /**
@@ -72,22 +78,16 @@ public class CategoryService {
     public List<CategoryResponse> getAllCategories() {
         log.debug("전체 카테고리 목록 조회");
 
-        List<Category> categories = categoryRepository.findAll();
-        return categories.stream()
-                .map(CategoryResponse::fromWithoutChildren)
-                .collect(Collectors.toList());
+        return categoryTree.getAll();
     }
 
     /**
-     * 최상위 카테고리 목록 조회 (계층 구조)
+     * 최상위 카테고리 목록 조회 (계층 구조, 직렬화된 JSON)
      */
-    public List<CategoryResponse> getRootCategories() {
+    public RawValue getRootCategories() {
         log.debug("최상위 카테고리 목록 조회");
 
-        List<Category> rootCategories = categoryRepository.findAllRootCategories();
-        return rootCategories.stream()
-                .map(CategoryResponse::from)
-                .collect(Collectors.toList());
+        return categoryTree.getRootsJson();
     }
 
     /**
@@ -96,12 +96,36 @@ public class CategoryService {
     public List<CategoryResponse> getSubCategories(Long parentId) {
         log.debug("하위 카테고리 조회: parentId={}", parentId);
 
-        // 부모 카테고리 존재 확인
-        categoryRepository.findById(parentId)
+        return categoryTree.getChildren(parentId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CATEGORY_NOT_FOUND));
+    }
+
+    /**
+     * 하위 카테고리 전체 조회 (모든 깊이)
+     */
+    public List<CategoryResponse> getDescendants(Long categoryId) {
+        log.debug("하위 카테고리 전체 조회: categoryId={}", categoryId);
 
-        List<Category> subCategories = categoryRepository.findByParentId(parentId);
-        return subCategories.stream()
+        if (!categoryRepository.existsById(categoryId)) {
+            throw new BusinessException(ErrorCode.CATEGORY_NOT_FOUND);
+        }
+
+        return categoryRepository.findDescendants(categoryId).stream()
+                .map(CategoryResponse::fromWithoutChildren)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 상위 카테고리 경로 조회 (최상위부터)
+     */
+    public List<CategoryResponse> getAncestors(Long categoryId) {
+        log.debug("상위 카테고리 경로 조회: categoryId={}", categoryId);
+
+        if (!categoryRepository.existsById(categoryId)) {
+            throw new BusinessException(ErrorCode.CATEGORY_NOT_FOUND);
+        }
+
+        return categoryRepository.findAncestors(categoryId).stream()
                 .map(CategoryResponse::fromWithoutChildren)
                 .collect(Collectors.toList());
     }
@@ -112,10 +136,7 @@ public class CategoryService {
     public List<CategoryResponse> searchCategories(String keyword) {
         log.debug("카테고리 검색: keyword={}", keyword);
 
-        List<Category> categories = categoryRepository.searchByName(keyword);
-        return categories.stream()
-                .map(CategoryResponse::fromWithoutChildren)
-                .collect(Collectors.toList());
+        return categoryTree.search(keyword);
     }
 
     /**
@@ -136,11 +157,44 @@ public class CategoryService {
         }
 
         category.update(request.getName(), request.getDescription());
+        eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
 
         log.info("카테고리 수정 완료: categoryId={}", categoryId);
         return CategoryResponse.from(category);
     }
 
+    /**
+     * 카테고리 이동 (하위 카테고리 포함, parentId가 null이면 최상위로)
+     */
+    @Transactional
+    public CategoryResponse moveCategory(Long categoryId, Long parentId) {
+        log.info("카테고리 이동 시도: categoryId={}, parentId={}", categoryId, parentId);
+
+        Category category = categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CATEGORY_NOT_FOUND));
+
+        Category parent = null;
+        if (parentId != null) {
+            parent = categoryRepository.findById(parentId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.CATEGORY_NOT_FOUND));
+
+            // 자기 자신이나 하위 카테고리 아래로는 이동 불가
+            if (categoryClosureRepository.isSelfOrDescendant(categoryId, parentId)) {
+                throw new BusinessException(
+                        ErrorCode.STATE_CONFLICT,
+                        "자기 자신이나 하위 카테고리 아래로 이동할 수 없습니다."
+                );
+            }
+        }
+
+        category.setParent(parent);
+        categoryClosureRepository.move(categoryId, parentId);
+        eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
+
+        log.info("카테고리 이동 완료: categoryId={}, parentId={}", categoryId, parentId);
+        return CategoryResponse.fromWithoutChildren(category);
+    }
+
     /**
      * 카테고리 삭제
      */
@@ -160,6 +214,7 @@ public class CategoryService {
         }
 
         categoryRepository.delete(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
         log.info("카테고리 삭제 완료: categoryId={}", categoryId);
     }
 }
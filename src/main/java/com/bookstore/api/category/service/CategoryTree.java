@@ -0,0 +1,261 @@
+package com.bookstore.api.category.service;
+
+import com.bookstore.api.category.dto.CategoryResponse;
+import com.bookstore.api.category.entity.Category;
+import com.bookstore.api.category.repository.CategoryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리 트리 (인메모리)
+ * - categories 전체를 쿼리 1회로 적재해 불변 트리를 만들고, 변경 시 통째로 교체
+ * - 트리/서브트리 JSON은 미리 직렬화해 두고 그대로 응답에 사용
+ * - 변경 시 category:changed 채널로 다른 노드에 재적재를 알림
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryTree {
+
+    private static final String CHANNEL = "category:changed";
+
+    private final CategoryRepository categoryRepository;
+    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    // DB 조회 중 가상 스레드가 캐리어에 고정되지 않도록 synchronized 대신 사용
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    /**
+     * 다른 노드의 변경 알림 구독
+     */
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener((message, pattern) -> {
+            String sender = new String(message.getBody(), StandardCharsets.UTF_8);
+            if (instanceId.equals(sender)) return;
+            try {
+                reload();
+            } catch (Exception e) {
+                log.error("카테고리 트리 재적재 실패 (변경 알림)", e);
+            }
+        }, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 애플리케이션 시작 시 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        reload();
+    }
+
+    /**
+     * 카테고리 변경 커밋 후 재적재 + 다른 노드에 알림
+     */
+    @TransactionalEventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        reload();
+        try {
+            redisTemplate.convertAndSend(CHANNEL, instanceId);
+        } catch (Exception e) {
+            log.error("카테고리 변경 알림 실패: categoryId={}", event.getCategoryId(), e);
+        }
+    }
+
+    /**
+     * 전체 재적재 (쿼리 1회)
+     */
+    public void reload() {
+        reloadLock.lock();
+        try {
+            snapshot = build(categoryRepository.findAll());
+            log.info("카테고리 트리 적재: count={}", snapshot.flats.size());
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * 카테고리 단건 (하위 트리 포함)
+     */
+    public Optional<CategoryResponse> get(Long categoryId) {
+        return Optional.ofNullable(snapshot.trees.get(categoryId));
+    }
+
+    /**
+     * 카테고리 단건 직렬화 JSON (하위 트리 포함)
+     */
+    public Optional<RawValue> getJson(Long categoryId) {
+        return Optional.ofNullable(snapshot.treeJson.get(categoryId));
+    }
+
+    /**
+     * 최상위 카테고리 트리 직렬화 JSON
+     */
+    public RawValue getRootsJson() {
+        return snapshot.rootsJson;
+    }
+
+    /**
+     * 전체 카테고리 목록 (하위 목록 제외, ID 순)
+     */
+    public List<CategoryResponse> getAll() {
+        return snapshot.all;
+    }
+
+    /**
+     * 직계 하위 카테고리 목록 (하위 목록 제외, 이름 순)
+     */
+    public Optional<List<CategoryResponse>> getChildren(Long parentId) {
+        Snapshot current = snapshot;
+        if (!current.flats.containsKey(parentId)) {
+            return Optional.empty();
+        }
+        return Optional.of(current.childIds.getOrDefault(parentId, List.of()).stream()
+                .map(current.flats::get)
+                .toList());
+    }
+
+    /**
+     * 이름에 키워드가 포함된 카테고리 (이름 순)
+     */
+    public List<CategoryResponse> search(String keyword) {
+        return snapshot.all.stream()
+                .filter(category -> category.getName().contains(keyword))
+                .sorted(Comparator.comparing(CategoryResponse::getName))
+                .toList();
+    }
+
+    private Snapshot build(List<Category> categories) {
+        // parent는 지연 로딩 프록시이므로 ID만 사용 (이름은 적재한 목록에서 조회)
+        Map<Long, Category> byId = categories.stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+        Map<Long, Long> parentIds = new HashMap<>();
+        Map<Long, List<Long>> childIds = new HashMap<>();
+        List<Long> rootIds = new ArrayList<>();
+
+        categories.stream()
+                .sorted(Comparator.comparing(Category::getName))
+                .forEach(category -> {
+                    Long parentId = category.getParent() != null ? category.getParent().getId() : null;
+                    if (parentId != null && byId.containsKey(parentId)) {
+                        parentIds.put(category.getId(), parentId);
+                        childIds.computeIfAbsent(parentId, id -> new ArrayList<>()).add(category.getId());
+                    } else {
+                        rootIds.add(category.getId());
+                    }
+                });
+
+        Map<Long, CategoryResponse> flats = new HashMap<>();
+        for (Category category : categories) {
+            flats.put(category.getId(), toResponse(category, byId.get(parentIds.get(category.getId())), null));
+        }
+
+        Map<Long, CategoryResponse> trees = new HashMap<>();
+        for (Category category : categories) {
+            buildTree(category.getId(), byId, parentIds, childIds, trees);
+        }
+
+        List<CategoryResponse> roots = rootIds.stream().map(trees::get).toList();
+        Map<Long, RawValue> treeJson = new HashMap<>();
+        trees.forEach((id, tree) -> treeJson.put(id, toJson(tree)));
+
+        List<CategoryResponse> all = categories.stream()
+                .sorted(Comparator.comparing(Category::getId))
+                .map(category -> flats.get(category.getId()))
+                .toList();
+
+        Map<Long, List<Long>> immutableChildIds = new HashMap<>();
+        childIds.forEach((id, ids) -> immutableChildIds.put(id, List.copyOf(ids)));
+
+        return new Snapshot(Map.copyOf(trees), Map.copyOf(flats), Map.copyOf(immutableChildIds),
+                all, toJson(roots), Map.copyOf(treeJson));
+    }
+
+    private CategoryResponse buildTree(Long id, Map<Long, Category> byId, Map<Long, Long> parentIds,
+                                       Map<Long, List<Long>> childIds, Map<Long, CategoryResponse> trees) {
+        CategoryResponse cached = trees.get(id);
+        if (cached != null) return cached;
+
+        List<CategoryResponse> children = childIds.getOrDefault(id, List.of()).stream()
+                .map(childId -> buildTree(childId, byId, parentIds, childIds, trees))
+                .toList();
+        CategoryResponse tree = toResponse(byId.get(id), byId.get(parentIds.get(id)), children);
+        trees.put(id, tree);
+        return tree;
+    }
+
+    private CategoryResponse toResponse(Category category, Category parent, List<CategoryResponse> children) {
+        return CategoryResponse.builder()
+                .id(category.getId())
+                .name(category.getName())
+                .description(category.getDescription())
+                .parentId(parent != null ? parent.getId() : null)
+                .parentName(parent != null ? parent.getName() : null)
+                .children(children)
+                .createdAt(category.getCreatedAt())
+                .updatedAt(category.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * 직렬화 JSON (UTF-8 바이트는 SerializedString 내부에 미리 캐시)
+     */
+    private RawValue toJson(Object value) {
+        try {
+            SerializedString json = new SerializedString(objectMapper.writeValueAsString(value));
+            json.asUnquotedUTF8();
+            return new RawValue(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("카테고리 트리 직렬화 실패", e);
+        }
+    }
+
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), Map.of(), List.of(),
+                new RawValue(new SerializedString("[]")), Map.of());
+
+        private final Map<Long, CategoryResponse> trees;
+        private final Map<Long, CategoryResponse> flats;
+        private final Map<Long, List<Long>> childIds;
+        private final List<CategoryResponse> all;
+        private final RawValue rootsJson;
+        private final Map<Long, RawValue> treeJson;
+
+        private Snapshot(Map<Long, CategoryResponse> trees, Map<Long, CategoryResponse> flats,
+                         Map<Long, List<Long>> childIds, List<CategoryResponse> all,
+                         RawValue rootsJson, Map<Long, RawValue> treeJson) {
+            this.trees = trees;
+            this.flats = flats;
+            this.childIds = childIds;
+            this.all = all;
+            this.rootsJson = rootsJson;
+            this.treeJson = treeJson;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.bookstore.api.comment.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "댓글 응답")
+public class CommentResponse {
+
+    @Schema(description = "댓글 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "리뷰 ID", example = "1")
+    private Long reviewId;
+
+    @Schema(description = "부모 댓글 ID (최상위 댓글은 null)", example = "null")
+    private Long parentId;
+
+    @Schema(description = "댓글 깊이 (최상위 0)", example = "0")
+    private Integer depth;
+
+    @Schema(description = "사용자 ID", example = "1")
+    private Long userId;
+
+    @Schema(description = "사용자 이름", example = "홍길동")
+    private String userName;
+
+    @Schema(description = "댓글 내용", example = "공감합니다!")
+    private String content;
+
+    @Schema(description = "좋아요 수", example = "0")
+    private Integer likeCount;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    @Schema(description = "작성일시", example = "2024-01-01 12:00:00")
+    private LocalDateTime createdAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    @Schema(description = "수정일시", example = "2024-01-01 12:00:00")
+    private LocalDateTime updatedAt;
+}
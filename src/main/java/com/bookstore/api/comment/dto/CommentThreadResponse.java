@@ -0,0 +1,26 @@
+package com.bookstore.api.comment.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "댓글 스레드 응답 (cursor 기반)")
+public class CommentThreadResponse {
+
+    @Schema(description = "댓글 목록 (스레드 순서, depth로 들여쓰기)")
+    private List<CommentResponse> comments;
+
+    @Schema(description = "다음 조회 cursor (마지막이면 null)")
+    private String nextCursor;
+
+    @Schema(description = "다음 데이터 존재 여부", example = "true")
+    private Boolean hasNext;
+}
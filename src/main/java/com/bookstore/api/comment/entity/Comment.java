@@ -27,9 +27,22 @@ public class Comment {
     @Column(name = "review_id", nullable = false)
     private Long reviewId;
 
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    @Column(nullable = false)
+    private Integer depth;
+
+    @Column(nullable = false, length = 1000)
+    private String path;
+
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    // 좋아요 집계 배치(LikeFlushScheduler)에서만 갱신
+    @Column(name = "like_count", nullable = false, insertable = false, updatable = false)
+    private Integer likeCount;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -43,6 +56,12 @@ public class Comment {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        if (depth == null) {
+            depth = 0;
+        }
+        if (path == null) {
+            path = "";
+        }
     }
 
     @PreUpdate
@@ -53,4 +72,11 @@ public class Comment {
     public void update(String content) {
         this.content = content;
     }
+
+    /**
+     * 스레드 경로 지정 (ID 발급 후 부모 경로 + 자신의 ID)
+     */
+    public void assignPath(String parentPath) {
+        this.path = parentPath + String.format("%019d", id) + "/";
+    }
 }
\ No newline at end of file
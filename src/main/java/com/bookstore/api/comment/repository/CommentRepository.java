@@ -1,15 +1,42 @@
 package com.bookstore.api.comment.repository;
 
 import com.bookstore.api.comment.entity.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     Page<Comment> findByReviewId(Long reviewId, Pageable pageable);
 
     Page<Comment> findByUserId(Long userId, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 리뷰의 댓글 스레드 조회 (path 순, cursor 이후부터)
+     */
+    List<Comment> findByReviewIdAndPathGreaterThanOrderByPathAsc(Long reviewId, String cursor, Limit limit);
+
+    /**
+     * 하위 댓글 전체 조회 (path 접두사 범위)
+     */
+    @Query("SELECT c FROM Comment c WHERE c.reviewId = :reviewId AND c.path LIKE CONCAT(:path, '%') " +
+           "AND c.path <> :path ORDER BY c.path ASC")
+    List<Comment> findSubtree(@Param("reviewId") Long reviewId, @Param("path") String path);
+
+    /**
+     * 댓글과 하위 댓글 일괄 삭제 (soft delete, 삭제된 행 수 반환)
+     */
+    @Modifying
+    @Query(value = "UPDATE comments SET deleted_at = NOW() " +
+                   "WHERE review_id = :reviewId AND path LIKE CONCAT(:path, '%') AND deleted_at IS NULL",
+           nativeQuery = true)
+    int softDeleteSubtree(@Param("reviewId") Long reviewId, @Param("path") String path);
+}
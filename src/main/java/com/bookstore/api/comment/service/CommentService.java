@@ -1,53 +1,113 @@
 package com.bookstore.api.comment.service;
 
+import com.bookstore.api.comment.dto.CommentResponse;
+import com.bookstore.api.comment.dto.CommentThreadResponse;
 import com.bookstore.api.comment.entity.Comment;
 import com.bookstore.api.comment.repository.CommentRepository;
 import com.bookstore.api.common.exception.BusinessException;
 import com.bookstore.api.common.exception.ErrorCode;
+import com.bookstore.api.common.loader.DataLoader;
+import com.bookstore.api.common.loader.DataLoaderRegistry;
+import com.bookstore.api.review.repository.ReviewRepository;
+import com.bookstore.api.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommentService {
 
+    private static final int MAX_DEPTH = 10;
+
     private final CommentRepository commentRepository;
+    private final ReviewRepository reviewRepository;
+    private final DataLoaderRegistry dataLoaderRegistry;
 
     /**
-     * 댓글 작성
+     * 댓글 작성 (parentId가 있으면 대댓글)
      */
     @Transactional
-    public Comment createComment(Long userId, Long reviewId, String content) {
+    public CommentResponse createComment(Long userId, Long reviewId, Long parentId, String content) {
+        String parentPath = "";
+        int depth = 0;
+
+        if (parentId != null) {
+            Comment parent = commentRepository.findById(parentId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "부모 댓글을 찾을 수 없습니다"));
+
+            if (!parent.getReviewId().equals(reviewId)) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "같은 리뷰의 댓글에만 답글을 작성할 수 있습니다");
+            }
+            if (parent.getDepth() + 1 >= MAX_DEPTH) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "더 이상 답글을 작성할 수 없습니다");
+            }
+
+            parentPath = parent.getPath();
+            depth = parent.getDepth() + 1;
+        }
+
+        // 리뷰 댓글 수 증가 (리뷰가 없으면 0건 갱신)
+        if (reviewRepository.addCommentCount(reviewId, 1) == 0) {
+            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "리뷰를 찾을 수 없습니다");
+        }
+
         Comment comment = Comment.builder()
                 .userId(userId)
                 .reviewId(reviewId)
+                .parentId(parentId)
+                .depth(depth)
                 .content(content)
                 .build();
 
         Comment savedComment = commentRepository.save(comment);
-        log.info("댓글 생성: commentId={}, userId={}, reviewId={}", savedComment.getId(), userId, reviewId);
+        savedComment.assignPath(parentPath);
+        log.info("댓글 생성: commentId={}, userId={}, reviewId={}, parentId={}", savedComment.getId(), userId, reviewId, parentId);
+
+        return convertToResponse(savedComment, null);
+    }
+
+    /**
+     * 리뷰별 댓글 스레드 조회 (path 순 cursor 페이징)
+     */
+    public CommentThreadResponse getCommentsByReview(Long reviewId, String cursor, int size) {
+        List<Comment> comments = commentRepository.findByReviewIdAndPathGreaterThanOrderByPathAsc(
+                reviewId, cursor != null ? cursor : "", Limit.of(size + 1));
+
+        boolean hasNext = comments.size() > size;
+        if (hasNext) {
+            comments = comments.subList(0, size);
+        }
 
-        return savedComment;
+        return CommentThreadResponse.builder()
+                .comments(convertToResponses(comments))
+                .nextCursor(hasNext ? comments.get(comments.size() - 1).getPath() : null)
+                .hasNext(hasNext)
+                .build();
     }
 
     /**
-     * 리뷰별 댓글 목록 조회
+     * 하위 댓글 전체 조회
      */
-    public Page<Comment> getCommentsByReview(Long reviewId, Pageable pageable) {
-        return commentRepository.findByReviewId(reviewId, pageable);
+    public List<CommentResponse> getReplies(Long commentId) {
+        Comment comment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "댓글을 찾을 수 없습니다"));
+
+        return convertToResponses(commentRepository.findSubtree(comment.getReviewId(), comment.getPath()));
     }
 
     /**
      * 댓글 수정
      */
     @Transactional
-    public Comment updateComment(Long userId, Long commentId, String content) {
+    public CommentResponse updateComment(Long userId, Long commentId, String content) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "댓글을 찾을 수 없습니다"));
 
@@ -59,11 +119,11 @@ public class CommentService {
         comment.update(content);
         log.info("댓글 수정: commentId={}", commentId);
 
-        return comment;
+        return convertToResponse(comment, null);
     }
 
     /**
-     * 댓글 삭제
+     * 댓글 삭제 (하위 댓글 포함)
      */
     @Transactional
     public void deleteComment(Long userId, Long commentId) {
@@ -75,7 +135,38 @@ public class CommentService {
             throw new BusinessException(ErrorCode.FORBIDDEN, "본인의 댓글만 삭제할 수 있습니다");
         }
 
-        commentRepository.delete(comment);
-        log.info("댓글 삭제: commentId={}", commentId);
+        int deleted = commentRepository.softDeleteSubtree(comment.getReviewId(), comment.getPath());
+        reviewRepository.addCommentCount(comment.getReviewId(), -deleted);
+        log.info("댓글 삭제: commentId={}, count={}", commentId, deleted);
+    }
+
+    /**
+     * Comment 목록 -> CommentResponse 목록 변환 (작성자는 IN 조회로 일괄 로딩)
+     */
+    private List<CommentResponse> convertToResponses(List<Comment> comments) {
+        DataLoader<Long, User> users = dataLoaderRegistry.users()
+                .prime(comments.stream().map(Comment::getUserId).toList());
+
+        return comments.stream()
+                .map(comment -> convertToResponse(comment, users.load(comment.getUserId()).orElse(null)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Comment -> CommentResponse 변환
+     */
+    private CommentResponse convertToResponse(Comment comment, User user) {
+        return CommentResponse.builder()
+                .id(comment.getId())
+                .reviewId(comment.getReviewId())
+                .parentId(comment.getParentId())
+                .depth(comment.getDepth())
+                .userId(comment.getUserId())
+                .userName(user != null ? user.getName() : null)
+                .content(comment.getContent())
+                .likeCount(comment.getLikeCount() != null ? comment.getLikeCount() : 0)
+                .createdAt(comment.getCreatedAt())
+                .updatedAt(comment.getUpdatedAt())
+                .build();
     }
-}
\ No newline at end of file
+}
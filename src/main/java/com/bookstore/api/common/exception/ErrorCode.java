@@ -51,6 +51,7 @@ public enum ErrorCode {
     OUT_OF_STOCK(HttpStatus.UNPROCESSABLE_ENTITY, "OUT_OF_STOCK", "재고가 부족합니다."),
     COUPON_EXPIRED(HttpStatus.UNPROCESSABLE_ENTITY, "COUPON_EXPIRED", "쿠폰이 만료되었습니다."),
     COUPON_ALREADY_USED(HttpStatus.UNPROCESSABLE_ENTITY, "COUPON_ALREADY_USED", "이미 사용된 쿠폰입니다."),
+    COUPON_SOLD_OUT(HttpStatus.UNPROCESSABLE_ENTITY, "COUPON_SOLD_OUT", "쿠폰이 모두 소진되었습니다."),
 
     // 429 Too Many Requests
     TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_REQUESTS", "요청 한도를 초과했습니다."),
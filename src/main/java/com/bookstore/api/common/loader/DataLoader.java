@@ -0,0 +1,76 @@
+package com.bookstore.api.common.loader;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 배치 로더
+ * - prime()으로 필요한 키를 먼저 등록하고, 첫 load() 시점에 미조회 키를 한 번에 조회 (IN 쿼리 1회)
+ * - 조회 결과(없는 키 포함)는 로더 수명 동안 메모이즈
+ * - 요청 단위로 사용 (스레드 안전하지 않음) → DataLoaderRegistry 통해 획득
+ */
+public class DataLoader<K, V> {
+
+    private final Function<Collection<K>, Map<K, V>> batchFunction;
+    private final Map<K, V> cache = new HashMap<>();
+    private final Set<K> resolved = new HashSet<>();
+    private final Set<K> pending = new LinkedHashSet<>();
+
+    public DataLoader(Function<Collection<K>, Map<K, V>> batchFunction) {
+        this.batchFunction = batchFunction;
+    }
+
+    /**
+     * 조회할 키 등록 (실제 조회는 load 시점)
+     */
+    public DataLoader<K, V> prime(Collection<K> keys) {
+        for (K key : keys) {
+            if (key != null && !resolved.contains(key)) {
+                pending.add(key);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 단건 조회 (등록된 키와 함께 일괄 조회)
+     */
+    public Optional<V> load(K key) {
+        if (key == null) {
+            return Optional.empty();
+        }
+        if (!resolved.contains(key)) {
+            pending.add(key);
+            dispatch();
+        }
+        return Optional.ofNullable(cache.get(key));
+    }
+
+    /**
+     * 여러 건 조회 (결과에는 존재하는 키만 포함)
+     */
+    public Map<K, V> loadMany(Collection<K> keys) {
+        prime(keys);
+        dispatch();
+
+        Map<K, V> result = new HashMap<>();
+        for (K key : keys) {
+            V value = cache.get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    private void dispatch() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<K> keys = new ArrayList<>(pending);
+        pending.clear();
+
+        cache.putAll(batchFunction.apply(keys));
+        resolved.addAll(keys);
+    }
+}
@@ -0,0 +1,67 @@
+package com.bookstore.api.common.loader;
+
+import com.bookstore.api.book.entity.Book;
+import com.bookstore.api.book.repository.BookRepository;
+import com.bookstore.api.user.entity.User;
+import com.bookstore.api.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 단위 DataLoader 저장소
+ * - HTTP 요청 안에서는 요청 속성에 로더를 보관하여 요청 동안 재사용 (메모이즈)
+ * - 요청 밖(스케줄러 등)에서는 호출마다 새 로더 반환
+ */
+@Component
+@RequiredArgsConstructor
+public class DataLoaderRegistry {
+
+    private static final String ATTRIBUTE_PREFIX = DataLoaderRegistry.class.getName() + ".";
+
+    private final BookRepository bookRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * 도서 로더
+     */
+    public DataLoader<Long, Book> books() {
+        return loader("book", ids -> toMap(bookRepository.findAllById(ids), Book::getId));
+    }
+
+    /**
+     * 사용자 로더
+     */
+    public DataLoader<Long, User> users() {
+        return loader("user", ids -> toMap(userRepository.findAllById(ids), User::getId));
+    }
+
+    /**
+     * 이름별 로더 조회 (없으면 batchFunction으로 생성)
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> DataLoader<K, V> loader(String name, Function<Collection<K>, Map<K, V>> batchFunction) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return new DataLoader<>(batchFunction);
+        }
+
+        String attributeName = ATTRIBUTE_PREFIX + name;
+        DataLoader<K, V> loader = (DataLoader<K, V>) attributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST);
+        if (loader == null) {
+            loader = new DataLoader<>(batchFunction);
+            attributes.setAttribute(attributeName, loader, RequestAttributes.SCOPE_REQUEST);
+        }
+        return loader;
+    }
+
+    private static <V> Map<Long, V> toMap(Collection<V> values, Function<V, Long> idExtractor) {
+        return values.stream().collect(Collectors.toMap(idExtractor, Function.identity()));
+    }
+}
@@ -0,0 +1,67 @@
+package com.bookstore.api.common.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @Service 클래스의 public 메서드 실행 시간 측정
+ * - 지표: service.method (class, method, exception 태그)
+ * - 히스토그램/SLO 버킷은 management.metrics.distribution.*.service.method 설정을 따름
+ * - 트랜잭션 advisor(기본 LOWEST_PRECEDENCE)보다 바깥에서 실행되어 커밋 시간까지 포함
+ * - Timer는 (메서드, 예외) 조합별로 한 번만 생성해 재사용
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@ConditionalOnProperty(name = "monitoring.service-timer.enabled", havingValue = "true", matchIfMissing = true)
+public class ServiceTimingAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    @Around("within(@org.springframework.stereotype.Service *) && execution(public * *(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(timer(joinPoint.getSignature(), exception));
+        }
+    }
+
+    private Timer timer(Signature signature, String exception) {
+        return timers.computeIfAbsent(
+                new TimerKey(signature.getDeclaringType(), signature.getName(), exception),
+                key -> Timer.builder("service.method")
+                        .description("서비스 메서드 실행 시간")
+                        .tag("class", key.getType().getSimpleName())
+                        .tag("method", key.getMethod())
+                        .tag("exception", key.getException())
+                        .register(meterRegistry));
+    }
+
+    @Value
+    private static class TimerKey {
+        Class<?> type;
+        String method;
+        String exception;
+    }
+}
@@ -0,0 +1,102 @@
+package com.bookstore.api.common.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 요청별 SQL 실행 횟수/JDBC 시간 측정
+ * - 엔드포인트(method, uri 패턴)별 히스토그램 기록
+ * - 실행 횟수나 같은 SQL 반복 횟수가 임계값을 넘으면 반복된 SQL 형태와 함께 경고 (N+1 탐지)
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "sql.monitor.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    private static final int MAX_SQL_LOG_LENGTH = 300;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${sql.monitor.warn-statements:30}")
+    private int warnStatements;
+
+    @Value("${sql.monitor.warn-repeats:10}")
+    private int warnRepeats;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        SqlStatementStats stats = SqlStatementStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementStats.end();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementStats stats) {
+        String method = request.getMethod();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("request.sql.statements")
+                .description("요청당 SQL 실행 횟수 (Hibernate)")
+                .tags("method", method, "uri", uri)
+                .serviceLevelObjectives(1, 5, 10, 20, 50, 100)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+
+        Timer.builder("request.sql.time")
+                .description("요청당 JDBC 실행 시간 합계 (Hibernate)")
+                .tags("method", method, "uri", uri)
+                .serviceLevelObjectives(Duration.ofMillis(5), Duration.ofMillis(25), Duration.ofMillis(100),
+                        Duration.ofMillis(250), Duration.ofSeconds(1))
+                .register(meterRegistry)
+                .record(Duration.ofNanos(stats.getJdbcNanos()));
+
+        if (stats.getStatements() >= warnStatements || stats.maxRepeat() >= warnRepeats) {
+            List<Map.Entry<String, Integer>> repeated = stats.topRepeated(3);
+            log.warn("SQL 과다 실행: {} {}, statements={}, jdbcMs={}, 반복 SQL={}",
+                    method, uri, stats.getStatements(), stats.getJdbcNanos() / 1_000_000,
+                    repeated.stream()
+                            .map(e -> "(x" + e.getValue() + ") " + abbreviate(e.getKey()))
+                            .collect(Collectors.joining(" | ")));
+        }
+    }
+
+    private String abbreviate(String sql) {
+        return sql.length() > MAX_SQL_LOG_LENGTH ? sql.substring(0, MAX_SQL_LOG_LENGTH) + "..." : sql;
+    }
+}
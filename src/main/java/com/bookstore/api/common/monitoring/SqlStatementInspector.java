@@ -0,0 +1,18 @@
+package com.bookstore.api.common.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 실행하는 SQL을 현재 요청 통계에 기록 (SQL은 변경하지 않음)
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null) {
+            stats.recordStatement(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,77 @@
+package com.bookstore.api.common.monitoring;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 단위 SQL 실행 통계 (요청 스레드의 ThreadLocal에 보관)
+ * - 실행 횟수, JDBC 실행 시간, SQL 형태(바인딩 파라미터는 ?)별 반복 횟수
+ */
+public class SqlStatementStats {
+
+    // 한 요청에서 추적할 SQL 형태 수 상한 (메모리 보호)
+    private static final int MAX_SHAPES = 100;
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> shapes = new HashMap<>();
+    private int statements;
+    private long jdbcNanos;
+
+    public static SqlStatementStats begin() {
+        SqlStatementStats stats = new SqlStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 현재 요청의 통계 (요청 밖 - 스케줄러 등 - 에서는 null)
+     */
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    void recordStatement(String sql) {
+        statements++;
+        if (shapes.size() < MAX_SHAPES || shapes.containsKey(sql)) {
+            shapes.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    void recordJdbcTime(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    /**
+     * 가장 많이 반복된 SQL 형태 (2회 이상, 반복 횟수 내림차순)
+     */
+    public List<Map.Entry<String, Integer>> topRepeated(int limit) {
+        return shapes.entrySet().stream()
+                .filter(e -> e.getValue() > 1)
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .toList();
+    }
+
+    public int maxRepeat() {
+        int max = 0;
+        for (int count : shapes.values()) {
+            max = Math.max(max, count);
+        }
+        return max;
+    }
+}
@@ -0,0 +1,40 @@
+package com.bookstore.api.common.monitoring;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate 세션별 JDBC 실행 시간을 현재 요청 통계에 누적
+ * - hibernate.session.events.auto로 세션마다 생성 (세션은 한 스레드에서만 사용)
+ */
+public class SqlTimingSessionListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record(statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record(batchStart);
+    }
+
+    private void record(long start) {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null && start != 0) {
+            stats.recordJdbcTime(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.bookstore.api.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 Bloom filter (스레드 안전)
+ * - mightContain()이 false이면 확실히 없음, true이면 있을 수 있음 (오탐률 fpp)
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    public BloomFilter(long expectedInsertions, double fpp) {
+        long n = Math.max(1, expectedInsertions);
+        this.bitSize = Math.max(64, (long) (-n * Math.log(fpp) / (Math.log(2) * Math.log(2))));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+    }
+
+    /**
+     * 값 추가
+     */
+    public void put(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            setBit(index(h1 + i * h2));
+        }
+    }
+
+    /**
+     * 포함 가능성 확인
+     */
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            if (!getBit(index(h1 + i * h2))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long index(int combined) {
+        return (combined & Integer.MAX_VALUE) % bitSize;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) return;
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    private boolean getBit(long index) {
+        return (bits.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+
+    /**
+     * 64비트 FNV-1a 해시 + 비트 확산 (murmur3 finalizer)
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
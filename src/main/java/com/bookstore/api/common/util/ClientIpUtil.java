@@ -0,0 +1,16 @@
+package com.bookstore.api.common.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+public class ClientIpUtil {
+
+    /**
+     * 클라이언트 IP 조회
+     * - X-Forwarded-For는 클라이언트가 임의로 보낼 수 있으므로 직접 읽지 않음
+     * - 신뢰하는 프록시(server.tomcat.remoteip.internal-proxies)를 거친 경우에만
+     *   Tomcat RemoteIpValve가 신뢰 프록시가 아닌 가장 오른쪽 주소로 remoteAddr를 바꿔 줌
+     */
+    public static String resolve(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+}
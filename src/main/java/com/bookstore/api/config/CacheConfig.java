@@ -28,8 +28,10 @@ public class CacheConfig {
                 )
                 .disableCachingNullValues();
 
+        // 트랜잭션 커밋 이후에 캐시 변경/삭제 반영
         return RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(config)
+                .transactionAware()
                 .build();
     }
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package com.bookstore.api.config;
 
+import com.bookstore.api.security.BoundedPasswordEncoder;
 import com.bookstore.api.security.CustomUserDetailsService;
 import com.bookstore.api.security.jwt.JwtAccessDeniedHandler;
 import com.bookstore.api.security.jwt.JwtAuthenticationEntryPoint;
 import com.bookstore.api.security.jwt.JwtAuthenticationFilter;
+import com.bookstore.api.security.ratelimit.RateLimitFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -34,16 +37,31 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
     private final CustomUserDetailsService customUserDetailsService;
 
+    @Value("${security.password-hashing.threads:4}")
+    private int passwordHashingThreads;
+
+    @Value("${security.password-hashing.queue-capacity:64}")
+    private int passwordHashingQueueCapacity;
+
+    @Value("${security.password-hashing.timeout-ms:2000}")
+    private long passwordHashingTimeoutMs;
+
     /**
-     * PasswordEncoder Bean 등록
+     * PasswordEncoder Bean 등록 (BCrypt 연산은 전용 스레드풀에서 제한된 수만 실행)
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(),
+                passwordHashingThreads,
+                passwordHashingQueueCapacity,
+                passwordHashingTimeoutMs
+        );
     }
 
     /**
@@ -109,11 +127,20 @@ public class SecurityConfig {
 
                 // 요청별 인증 설정
                 .authorizeHttpRequests(auth -> auth
+                        // 세션 관리 경로는 /api/auth/** 중에서도 인증 필요
+                        .requestMatchers(
+                                "/api/auth/logout",
+                                "/api/auth/logout-all",
+                                "/api/auth/sessions/**"
+                        ).authenticated()
+
                         // 인증 없이 접근 가능한 경로
                         .requestMatchers(
                                 "/",
                                 "/health",
-                                "/actuator/**",
+                                "/actuator/health",
+                                "/actuator/health/**",
+                                "/actuator/info",
                                 "/swagger-ui.html",
                                 "/swagger-ui/**",
                                 "/v3/api-docs/**",
@@ -123,8 +150,8 @@ public class SecurityConfig {
                                 "/api/auth/**"
                         ).permitAll()
 
-                        // 관리자 권한이 필요한 경로
-                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                        // 관리자 권한이 필요한 경로 (지표 엔드포인트 /actuator/prometheus, /actuator/metrics 포함)
+                        .requestMatchers("/api/admin/**", "/actuator/**").hasRole("ADMIN")
 
                         // 그 외 모든 요청은 인증 필요
                         .anyRequest().authenticated()
@@ -137,6 +164,12 @@ public class SecurityConfig {
                 .addFilterBefore(
                         jwtAuthenticationFilter,
                         UsernamePasswordAuthenticationFilter.class
+                )
+
+                // 요청 속도 제한 (인증 정보가 설정된 뒤 사용자/IP별로 적용)
+                .addFilterAfter(
+                        rateLimitFilter,
+                        JwtAuthenticationFilter.class
                 );
 
         return http.build();
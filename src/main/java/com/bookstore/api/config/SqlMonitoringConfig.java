@@ -0,0 +1,25 @@
+package com.bookstore.api.config;
+
+import com.bookstore.api.common.monitoring.SqlStatementInspector;
+import com.bookstore.api.common.monitoring.SqlTimingSessionListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청별 SQL 실행 횟수/시간 수집용 Hibernate 설정 (SqlStatementFilter와 함께 사용)
+ */
+@Configuration
+@ConditionalOnProperty(name = "sql.monitor.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMonitoringConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlMonitoringHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingSessionListener.class.getName());
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package com.bookstore.api.config;
+
+import com.bookstore.api.common.util.ConcurrencyLimitedDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 가상 스레드 실행 모드 (spring.threads.virtual.enabled=true, Java 21 이상에서만 적용)
+ * - Tomcat 요청 처리, @Async, @Scheduled는 Spring Boot가 가상 스레드로 전환
+ * - DB 연결은 커넥션 풀 크기의 Semaphore로 제한하여 요청이 몰려도 풀 대기열이 길어지지 않도록 함
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    return new ConcurrencyLimitedDataSource(
+                            hikari, hikari.getMaximumPoolSize(), hikari.getConnectionTimeout());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder dataSourceConcurrencyMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof ConcurrencyLimitedDataSource limited) {
+                Gauge.builder("db.concurrency.active", limited, ConcurrencyLimitedDataSource::getActive)
+                        .description("Semaphore로 허가된 DB 연결 수")
+                        .register(registry);
+                Gauge.builder("db.concurrency.waiting", limited, ConcurrencyLimitedDataSource::getWaiting)
+                        .description("DB 연결 허가를 기다리는 스레드 수")
+                        .register(registry);
+                Gauge.builder("db.concurrency.max", limited, ConcurrencyLimitedDataSource::getMaxConcurrency)
+                        .register(registry);
+            }
+        };
+    }
+}
@@ -30,6 +30,9 @@ public class Coupon {
     @Column(name = "is_valid", nullable = false)
     private Boolean isValid;
 
+    @Column(name = "total_quantity")
+    private Integer totalQuantity;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -49,4 +52,11 @@ public class Coupon {
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
     }
+
+    /**
+     * 발급 수량 제한(선착순) 쿠폰 여부
+     */
+    public boolean isLimited() {
+        return totalQuantity != null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,187 @@
+package com.bookstore.api.coupon.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 선착순 쿠폰 발급 Redis 저장소
+ * - 남은 수량 / 발급 사용자 Set / DB 반영 대기 큐를 Lua 스크립트로 원자적으로 처리
+ * - 대기 큐는 신뢰성 큐: 꺼낸 건은 노드별 처리 중 리스트로 옮기고 DB 커밋 후 삭제
+ *   (노드가 죽으면 생존 키가 만료되고, 다른 노드가 처리 중 리스트를 대기 큐 앞쪽으로 되돌림)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CouponIssueRedisRepository {
+
+    public static final long ISSUED = 1L;
+    public static final long ALREADY_ISSUED = 0L;
+    public static final long NOT_INITIALIZED = -1L;
+    public static final long SOLD_OUT = -2L;
+
+    private static final String STOCK_PREFIX = "coupon:stock:";
+    private static final String ISSUED_PREFIX = "coupon:issued:";
+    private static final String QUEUE_KEY = "coupon:issue:queue";
+    private static final String PROCESSING_PREFIX = "coupon:issue:processing:";
+    private static final String NODES_KEY = "coupon:issue:nodes";
+    private static final String NODE_ALIVE_PREFIX = "coupon:issue:node:";
+
+    private static final RedisScript<Long> ISSUE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/coupon-issue.lua"), Long.class);
+    private static final RedisScript<Long> INIT_STOCK_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/coupon-stock-init.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/queue-claim.lua"), List.class);
+    private static final RedisScript<Long> RESTORE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/queue-restore.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> PENDING_USERS_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/coupon-pending-users.lua"), List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * 발급 시도 (수량 확인 + 차감 + 큐 적재)
+     */
+    public long tryIssue(Long couponId, Long userId, long issuedAtMillis) {
+        String queueValue = couponId + ":" + userId + ":" + issuedAtMillis;
+        Long result = redisTemplate.execute(
+                ISSUE_SCRIPT,
+                List.of(STOCK_PREFIX + couponId, ISSUED_PREFIX + couponId, QUEUE_KEY),
+                String.valueOf(userId), queueValue
+        );
+        return result != null ? result : NOT_INITIALIZED;
+    }
+
+    /**
+     * 남은 수량 / 기존 발급 사용자 초기화 (이미 초기화된 경우 무시)
+     */
+    public void initStock(Long couponId, long remaining, long ttlSeconds, Collection<Long> issuedUserIds) {
+        List<String> args = new ArrayList<>(issuedUserIds.size() + 2);
+        args.add(String.valueOf(remaining));
+        args.add(String.valueOf(ttlSeconds));
+        issuedUserIds.forEach(id -> args.add(String.valueOf(id)));
+
+        redisTemplate.execute(
+                INIT_STOCK_SCRIPT,
+                List.of(STOCK_PREFIX + couponId, ISSUED_PREFIX + couponId),
+                args.toArray()
+        );
+    }
+
+    /**
+     * 재고 키 / 발급 사용자 Set 삭제 (무효화·만료된 쿠폰은 더 이상 Redis에서 발급되지 않음)
+     */
+    public void clearStock(Collection<Long> couponIds) {
+        if (couponIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(couponIds.size() * 2);
+        for (Long couponId : couponIds) {
+            keys.add(STOCK_PREFIX + couponId);
+            keys.add(ISSUED_PREFIX + couponId);
+        }
+        redisTemplate.delete(keys);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 발급 사용자 ID (대기 큐 + 모든 노드의 처리 중 리스트)
+     * - 재고 키를 다시 초기화할 때 DB 발급 건과 합쳐 남은 수량 계산
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> findPendingUserIds(Long couponId) {
+        List<String> keys = new ArrayList<>();
+        keys.add(QUEUE_KEY);
+        Set<String> nodes = redisTemplate.opsForSet().members(NODES_KEY);
+        if (nodes != null) {
+            nodes.forEach(node -> keys.add(PROCESSING_PREFIX + node));
+        }
+
+        List<String> userIds = redisTemplate.execute(PENDING_USERS_SCRIPT, keys, couponId + ":");
+        if (userIds == null) {
+            return Collections.emptyList();
+        }
+        return userIds.stream().map(Long::valueOf).toList();
+    }
+
+    /**
+     * DB 반영 대기 큐에서 최대 count건을 처리 중 리스트로 옮겨 반환
+     * - 이전 배치가 처리 중 리스트에 남아 있으면 그 배치를 다시 반환
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> claim(int count, long nodeTtlSeconds) {
+        List<String> values = redisTemplate.execute(
+                CLAIM_SCRIPT,
+                List.of(QUEUE_KEY, PROCESSING_PREFIX + nodeId, NODES_KEY, NODE_ALIVE_PREFIX + nodeId),
+                String.valueOf(count), nodeId, String.valueOf(nodeTtlSeconds)
+        );
+        return values != null ? values : Collections.emptyList();
+    }
+
+    /**
+     * DB 반영이 끝난 건을 처리 중 리스트에서 삭제 (파이프라인 1회)
+     */
+    public void acknowledge(List<String> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        String processingKey = PROCESSING_PREFIX + nodeId;
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                values.forEach(value -> ops.opsForList().remove(processingKey, 1, value));
+                return null;
+            }
+        });
+    }
+
+    /**
+     * DB 반영 실패 건을 순서대로 대기 큐 앞쪽으로 되돌림
+     */
+    public long restore() {
+        return restore(nodeId);
+    }
+
+    /**
+     * 생존 키가 만료된 노드의 처리 중 리스트를 대기 큐 앞쪽으로 되돌림 - 되돌린 건수 반환
+     */
+    public long recoverStaleNodes() {
+        Set<String> nodes = redisTemplate.opsForSet().members(NODES_KEY);
+        if (nodes == null) {
+            return 0;
+        }
+
+        long recovered = 0;
+        for (String node : nodes) {
+            if (node.equals(nodeId) || Boolean.TRUE.equals(redisTemplate.hasKey(NODE_ALIVE_PREFIX + node))) {
+                continue;
+            }
+            recovered += restore(node);
+            redisTemplate.opsForSet().remove(NODES_KEY, node);
+        }
+        return recovered;
+    }
+
+    private long restore(String node) {
+        Long restored = redisTemplate.execute(RESTORE_SCRIPT, List.of(QUEUE_KEY, PROCESSING_PREFIX + node));
+        return restored != null ? restored : 0;
+    }
+}
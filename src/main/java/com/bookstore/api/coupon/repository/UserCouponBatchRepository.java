@@ -0,0 +1,30 @@
+package com.bookstore.api.coupon.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 사용자 쿠폰 일괄 저장 (JDBC batch)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserCouponBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO user_coupons (user_id, coupon_id, is_used, created_at) " +
+            "VALUES (?, ?, false, ?) " +
+            "ON CONFLICT (user_id, coupon_id) DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 발급 내역 일괄 저장 (이미 저장된 건은 무시)
+     * - 각 행: {userId, couponId, createdAt(Timestamp)}
+     */
+    public int[] batchInsert(List<Object[]> rows) {
+        return jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+}
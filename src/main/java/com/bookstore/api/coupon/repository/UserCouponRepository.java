@@ -2,8 +2,12 @@ package com.bookstore.api.coupon.repository;
 
 import com.bookstore.api.coupon.entity.UserCoupon;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,4 +21,15 @@ public interface UserCouponRepository extends JpaRepository<UserCoupon, Long> {
     Optional<UserCoupon> findByUserIdAndCouponId(Long userId, Long couponId);
 
     boolean existsByUserIdAndCouponId(Long userId, Long couponId);
+
+    @Query("SELECT uc.userId FROM UserCoupon uc WHERE uc.couponId = :couponId")
+    List<Long> findUserIdsByCouponId(@Param("couponId") Long couponId);
+
+    /**
+     * 미사용 쿠폰만 사용 처리 (조건부 UPDATE로 중복 사용 방지)
+     */
+    @Modifying
+    @Query("UPDATE UserCoupon uc SET uc.isUsed = true, uc.usedAt = :usedAt " +
+           "WHERE uc.id = :id AND uc.userId = :userId AND uc.isUsed = false")
+    int markUsed(@Param("id") Long id, @Param("userId") Long userId, @Param("usedAt") LocalDateTime usedAt);
 }
\ No newline at end of file
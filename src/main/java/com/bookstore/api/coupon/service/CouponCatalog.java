@@ -0,0 +1,163 @@
+package com.bookstore.api.coupon.service;
+
+import com.bookstore.api.coupon.entity.Coupon;
+import com.bookstore.api.coupon.repository.CouponIssueRedisRepository;
+import com.bookstore.api.coupon.repository.CouponRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 쿠폰 카탈로그 (인메모리)
+ * - 전체 쿠폰을 한 번에 적재하고, 변경 시 통째로 교체
+ * - 활성 목록은 startAt/endAt 시각에 맞춰 스케줄러가 다시 계산
+ * - 적재할 때 무효화된 선착순 쿠폰의 Redis 재고 키를 삭제 (재고 키가 남아 있어도 발급 전에 카탈로그로 유효성 확인)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponCatalog {
+
+    private final CouponRepository couponRepository;
+    private final CouponIssueRedisRepository couponIssueRedisRepository;
+    private final TaskScheduler taskScheduler;
+
+    private volatile Map<Long, Coupon> coupons = Map.of();
+    private volatile List<Coupon> activeCoupons = List.of();
+
+    private ScheduledFuture<?> nextTransition;
+
+    // DB 조회 중 가상 스레드가 캐리어에 고정되지 않도록 synchronized 대신 사용
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    /**
+     * 애플리케이션 시작 시 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        reload();
+    }
+
+    /**
+     * 주기적 전체 재적재 (DB에서 직접 변경된 쿠폰 반영)
+     */
+    @Scheduled(fixedDelayString = "${coupon.catalog.refresh-interval-ms:300000}",
+            initialDelayString = "${coupon.catalog.refresh-interval-ms:300000}")
+    public void scheduledReload() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("쿠폰 카탈로그 재적재 실패", e);
+        }
+    }
+
+    /**
+     * 쿠폰 변경 시 전체 재적재
+     */
+    public void reload() {
+        reloadLock.lock();
+        try {
+            coupons = couponRepository.findAll().stream()
+                    .collect(Collectors.toUnmodifiableMap(Coupon::getId, Function.identity()));
+            refreshActive();
+            clearInvalidatedStock();
+            log.info("쿠폰 카탈로그 적재: count={}", coupons.size());
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * 쿠폰 단건 조회
+     */
+    public Optional<Coupon> get(Long couponId) {
+        return Optional.ofNullable(coupons.get(couponId));
+    }
+
+    /**
+     * 쿠폰 여러 건 조회
+     */
+    public Map<Long, Coupon> getAll(Collection<Long> couponIds) {
+        Map<Long, Coupon> snapshot = coupons;
+        return couponIds.stream()
+                .distinct()
+                .filter(snapshot::containsKey)
+                .collect(Collectors.toMap(Function.identity(), snapshot::get));
+    }
+
+    /**
+     * 현재 사용 가능한 쿠폰 목록
+     */
+    public List<Coupon> getActiveCoupons() {
+        return activeCoupons;
+    }
+
+    /**
+     * 활성 목록 재계산 후 다음 전환 시각 예약
+     */
+    private synchronized void refreshActive() {
+        LocalDateTime now = LocalDateTime.now();
+        Collection<Coupon> snapshot = coupons.values();
+
+        activeCoupons = snapshot.stream()
+                .filter(coupon -> isActive(coupon, now))
+                .sorted(Comparator.comparing(Coupon::getEndAt))
+                .toList();
+
+        if (nextTransition != null) {
+            nextTransition.cancel(false);
+            nextTransition = null;
+        }
+
+        // 가장 가까운 미래의 시작/종료 시각
+        snapshot.stream()
+                .filter(Coupon::getIsValid)
+                .flatMap(coupon -> Stream.of(coupon.getStartAt(), coupon.getEndAt()))
+                .filter(time -> time.isAfter(now))
+                .min(Comparator.naturalOrder())
+                .ifPresent(time -> nextTransition = taskScheduler.schedule(
+                        this::refreshActive,
+                        time.atZone(ZoneId.systemDefault()).toInstant()
+                ));
+    }
+
+    /**
+     * 아직 끝나지 않았지만 무효화된 선착순 쿠폰의 재고 키 삭제
+     */
+    private void clearInvalidatedStock() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> invalidated = coupons.values().stream()
+                .filter(coupon -> coupon.isLimited() && !coupon.getIsValid() && coupon.getEndAt().isAfter(now))
+                .map(Coupon::getId)
+                .toList();
+        try {
+            couponIssueRedisRepository.clearStock(invalidated);
+        } catch (Exception e) {
+            // 발급 전에 카탈로그로 유효성을 확인하므로 다음 적재 때 다시 삭제
+            log.error("무효화된 쿠폰 재고 삭제 실패: couponIds={}", invalidated, e);
+        }
+    }
+
+    private boolean isActive(Coupon coupon, LocalDateTime now) {
+        return coupon.getIsValid()
+                && !now.isBefore(coupon.getStartAt())
+                && now.isBefore(coupon.getEndAt());
+    }
+}
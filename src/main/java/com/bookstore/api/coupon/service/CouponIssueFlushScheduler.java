@@ -0,0 +1,108 @@
+package com.bookstore.api.coupon.service;
+
+import com.bookstore.api.coupon.repository.CouponIssueRedisRepository;
+import com.bookstore.api.coupon.repository.UserCouponBatchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 선착순 쿠폰 발급 내역 DB 반영
+ * - Redis 큐에 적재된 발급 건을 주기적으로 꺼내 user_coupons에 일괄 저장
+ * - 꺼낸 건은 DB 커밋 후에만 큐에서 삭제 (저장은 ON CONFLICT DO NOTHING이라 다시 처리해도 안전)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssueFlushScheduler {
+
+    private final CouponIssueRedisRepository couponIssueRedisRepository;
+    private final UserCouponBatchRepository userCouponBatchRepository;
+
+    @Value("${coupon.issue.flush-batch-size:1000}")
+    private int batchSize;
+
+    @Value("${coupon.issue.node-ttl-seconds:60}")
+    private long nodeTtlSeconds;
+
+    /**
+     * 시작 시 / 주기적으로 죽은 노드의 처리 중 발급 건 복구
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${coupon.issue.recover-interval-ms:30000}",
+            initialDelayString = "${coupon.issue.recover-interval-ms:30000}")
+    public void recover() {
+        try {
+            long recovered = couponIssueRedisRepository.recoverStaleNodes();
+            if (recovered > 0) {
+                log.warn("중단된 쿠폰 발급 처리 복구: count={}", recovered);
+            }
+        } catch (Exception e) {
+            log.error("쿠폰 발급 처리 복구 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.issue.flush-interval-ms:200}")
+    public void flush() {
+        List<String> values;
+        try {
+            values = couponIssueRedisRepository.claim(batchSize, nodeTtlSeconds);
+        } catch (Exception e) {
+            log.error("쿠폰 발급 큐 조회 실패", e);
+            return;
+        }
+
+        if (values.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(values.size());
+        for (String value : values) {
+            // couponId:userId:issuedAtMillis
+            String[] parts = value.split(":");
+            if (parts.length != 3) {
+                log.warn("잘못된 쿠폰 발급 큐 값: {}", value);
+                continue;
+            }
+            rows.add(new Object[]{
+                    Long.parseLong(parts[1]),
+                    Long.parseLong(parts[0]),
+                    new Timestamp(Long.parseLong(parts[2]))
+            });
+        }
+
+        try {
+            userCouponBatchRepository.batchInsert(rows);
+            log.debug("쿠폰 발급 DB 반영: count={}", rows.size());
+        } catch (Exception e) {
+            // 실패 시 대기 큐 앞쪽으로 되돌려 다음 주기에 같은 순서로 재시도
+            log.error("쿠폰 발급 DB 반영 실패: count={}", rows.size(), e);
+            restore();
+            return;
+        }
+
+        try {
+            couponIssueRedisRepository.acknowledge(values);
+        } catch (Exception e) {
+            // 처리 중 리스트에 남은 건은 다음 주기에 다시 저장 (중복은 무시됨)
+            log.error("쿠폰 발급 처리 완료 기록 실패: count={}", values.size(), e);
+        }
+    }
+
+    private void restore() {
+        try {
+            couponIssueRedisRepository.restore();
+        } catch (Exception e) {
+            // 처리 중 리스트에 남아 있으므로 다음 주기에 다시 꺼내짐
+            log.error("쿠폰 발급 큐 복원 실패", e);
+        }
+    }
+}
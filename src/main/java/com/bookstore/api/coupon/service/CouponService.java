@@ -2,18 +2,30 @@ package com.bookstore.api.coupon.service;
 
 import com.bookstore.api.common.exception.BusinessException;
 import com.bookstore.api.common.exception.ErrorCode;
+import com.bookstore.api.common.loader.DataLoader;
+import com.bookstore.api.common.loader.DataLoaderRegistry;
 import com.bookstore.api.coupon.dto.CouponResponse;
 import com.bookstore.api.coupon.dto.UserCouponResponse;
 import com.bookstore.api.coupon.entity.Coupon;
 import com.bookstore.api.coupon.entity.UserCoupon;
+import com.bookstore.api.coupon.repository.CouponIssueRedisRepository;
 import com.bookstore.api.coupon.repository.CouponRepository;
 import com.bookstore.api.coupon.repository.UserCouponRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -24,12 +36,15 @@ public class CouponService {
 
     private final CouponRepository couponRepository;
     private final UserCouponRepository userCouponRepository;
+    private final CouponIssueRedisRepository couponIssueRedisRepository;
+    private final CouponCatalog couponCatalog;
+    private final DataLoaderRegistry dataLoaderRegistry;
 
     /**
      * 사용 가능한 쿠폰 목록 조회
      */
     public List<CouponResponse> getAvailableCoupons() {
-        return couponRepository.findByIsValidTrue().stream()
+        return couponCatalog.getActiveCoupons().stream()
                 .map(this::convertToCouponResponse)
                 .collect(Collectors.toList());
     }
@@ -39,44 +54,98 @@ public class CouponService {
      */
     @Transactional
     public void issueCoupon(Long userId, Long couponId) {
-        // 중복 발급 체크
-        if (userCouponRepository.existsByUserIdAndCouponId(userId, couponId)) {
-            throw new BusinessException(ErrorCode.DUPLICATE_RESOURCE, "이미 발급받은 쿠폰입니다");
-        }
-
-        // 쿠폰 존재 확인
-        Coupon coupon = couponRepository.findById(couponId)
+        // 쿠폰 존재 확인 (카탈로그 우선, 카탈로그에 있으면 DB 조회 없음)
+        Coupon coupon = couponCatalog.get(couponId)
+                .or(() -> couponRepository.findById(couponId))
                 .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "쿠폰을 찾을 수 없습니다"));
 
+        // 유효 여부 / 발급 기간은 선착순 수량을 차감하기 전에 확인
+        LocalDateTime now = LocalDateTime.now();
         if (!coupon.getIsValid()) {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 쿠폰입니다");
         }
+        if (now.isBefore(coupon.getStartAt())) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "아직 발급할 수 없는 쿠폰입니다");
+        }
+        if (!now.isBefore(coupon.getEndAt())) {
+            throw new BusinessException(ErrorCode.COUPON_EXPIRED, "만료된 쿠폰입니다");
+        }
+
+        if (coupon.isLimited()) {
+            issueLimitedCoupon(coupon, userId, now);
+            return;
+        }
+
+        // 중복 발급 체크
+        if (userCouponRepository.existsByUserIdAndCouponId(userId, couponId)) {
+            throw new BusinessException(ErrorCode.DUPLICATE_RESOURCE, "이미 발급받은 쿠폰입니다");
+        }
 
         UserCoupon userCoupon = UserCoupon.builder()
                 .userId(userId)
                 .couponId(couponId)
                 .build();
 
-        userCouponRepository.save(userCoupon);
+        try {
+            userCouponRepository.saveAndFlush(userCoupon);
+        } catch (DataIntegrityViolationException e) {
+            // 동시 요청으로 UNIQUE(user_id, coupon_id) 위반
+            throw new BusinessException(ErrorCode.DUPLICATE_RESOURCE, "이미 발급받은 쿠폰입니다");
+        }
         log.info("쿠폰 발급: userId={}, couponId={}", userId, couponId);
     }
 
+    /**
+     * 선착순 쿠폰 발급 (Redis 재고 키가 없으면 초기화 후 발급)
+     */
+    private void issueLimitedCoupon(Coupon coupon, Long userId, LocalDateTime now) {
+        long result = couponIssueRedisRepository.tryIssue(coupon.getId(), userId, System.currentTimeMillis());
+        if (result != CouponIssueRedisRepository.NOT_INITIALIZED) {
+            handleLimitedIssueResult(result, userId, coupon.getId());
+            return;
+        }
+
+        // 발급된 사용자 = DB 반영 대기 중인 큐 항목 + DB에 반영된 발급 건
+        // (큐를 먼저 읽어야 그 사이 DB로 옮겨진 건도 빠지지 않음, 양쪽에 있는 건은 사용자 ID로 중복 제거)
+        Set<Long> issuedUserIds = new HashSet<>(couponIssueRedisRepository.findPendingUserIds(coupon.getId()));
+        issuedUserIds.addAll(userCouponRepository.findUserIdsByCouponId(coupon.getId()));
+        long remaining = Math.max(0, coupon.getTotalQuantity() - issuedUserIds.size());
+        long ttlSeconds = Math.max(1, Duration.between(now, coupon.getEndAt()).getSeconds());
+
+        couponIssueRedisRepository.initStock(coupon.getId(), remaining, ttlSeconds, issuedUserIds);
+
+        result = couponIssueRedisRepository.tryIssue(coupon.getId(), userId, System.currentTimeMillis());
+        handleLimitedIssueResult(result, userId, coupon.getId());
+    }
+
+    /**
+     * 선착순 쿠폰 발급 결과 처리
+     */
+    private void handleLimitedIssueResult(long result, Long userId, Long couponId) {
+        if (result == CouponIssueRedisRepository.ALREADY_ISSUED) {
+            throw new BusinessException(ErrorCode.DUPLICATE_RESOURCE, "이미 발급받은 쿠폰입니다");
+        }
+        if (result == CouponIssueRedisRepository.SOLD_OUT) {
+            throw new BusinessException(ErrorCode.COUPON_SOLD_OUT);
+        }
+        if (result != CouponIssueRedisRepository.ISSUED) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "쿠폰 발급에 실패했습니다");
+        }
+        log.info("선착순 쿠폰 발급: userId={}, couponId={}", userId, couponId);
+    }
+
     /**
      * 내 쿠폰 목록 조회
      */
     public List<UserCouponResponse> getMyCoupons(Long userId) {
-        return userCouponRepository.findByUserId(userId).stream()
-                .map(this::convertToUserCouponResponse)
-                .collect(Collectors.toList());
+        return convertToUserCouponResponses(userCouponRepository.findByUserId(userId));
     }
 
     /**
      * 내 사용 가능한 쿠폰 목록 조회
      */
     public List<UserCouponResponse> getMyAvailableCoupons(Long userId) {
-        return userCouponRepository.findByUserIdAndIsUsedFalse(userId).stream()
-                .map(this::convertToUserCouponResponse)
-                .collect(Collectors.toList());
+        return convertToUserCouponResponses(userCouponRepository.findByUserIdAndIsUsedFalse(userId));
     }
 
     /**
@@ -84,6 +153,43 @@ public class CouponService {
      */
     @Transactional
     public void useCoupon(Long userId, Long userCouponId) {
+        UserCoupon userCoupon = getOwnedUserCoupon(userId, userCouponId);
+
+        markUsed(userId, userCoupon);
+        log.info("쿠폰 사용: userCouponId={}", userCouponId);
+    }
+
+    /**
+     * 주문 시 쿠폰 적용 (사용 처리 후 할인율 반환)
+     */
+    @Transactional
+    public BigDecimal redeemForOrder(Long userId, Long userCouponId) {
+        UserCoupon userCoupon = getOwnedUserCoupon(userId, userCouponId);
+
+        Coupon coupon = couponRepository.findById(userCoupon.getCouponId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "쿠폰을 찾을 수 없습니다"));
+
+        // 쿠폰 유효 기간 확인
+        LocalDateTime now = LocalDateTime.now();
+        if (!coupon.getIsValid()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 쿠폰입니다");
+        }
+        if (now.isBefore(coupon.getStartAt())) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "아직 사용할 수 없는 쿠폰입니다");
+        }
+        if (now.isAfter(coupon.getEndAt())) {
+            throw new BusinessException(ErrorCode.COUPON_EXPIRED, "만료된 쿠폰입니다");
+        }
+
+        markUsed(userId, userCoupon);
+        log.info("주문 쿠폰 적용: userCouponId={}, discountRate={}", userCouponId, coupon.getDiscountRate());
+        return coupon.getDiscountRate();
+    }
+
+    /**
+     * 본인 쿠폰 조회
+     */
+    private UserCoupon getOwnedUserCoupon(Long userId, Long userCouponId) {
         UserCoupon userCoupon = userCouponRepository.findById(userCouponId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "쿠폰을 찾을 수 없습니다"));
 
@@ -92,13 +198,17 @@ public class CouponService {
             throw new BusinessException(ErrorCode.FORBIDDEN, "본인의 쿠폰만 사용할 수 있습니다");
         }
 
-        // 이미 사용한 쿠폰 확인
-        if (userCoupon.getIsUsed()) {
-            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "이미 사용된 쿠폰입니다");
-        }
+        return userCoupon;
+    }
 
-        userCoupon.use();
-        log.info("쿠폰 사용: userCouponId={}", userCouponId);
+    /**
+     * 사용 처리 (is_used = false인 경우에만 갱신, 동시 요청 중 하나만 성공)
+     */
+    private void markUsed(Long userId, UserCoupon userCoupon) {
+        int updated = userCouponRepository.markUsed(userCoupon.getId(), userId, LocalDateTime.now());
+        if (updated == 0) {
+            throw new BusinessException(ErrorCode.COUPON_ALREADY_USED, "이미 사용된 쿠폰입니다");
+        }
     }
 
     /**
@@ -115,12 +225,47 @@ public class CouponService {
     }
 
     /**
-     * UserCoupon -> UserCouponResponse 변환
+     * UserCoupon 목록 -> UserCouponResponse 목록 변환 (쿠폰 정보는 카탈로그에서 조회)
      */
-    private UserCouponResponse convertToUserCouponResponse(UserCoupon userCoupon) {
-        Coupon coupon = couponRepository.findById(userCoupon.getCouponId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "쿠폰을 찾을 수 없습니다"));
+    private List<UserCouponResponse> convertToUserCouponResponses(List<UserCoupon> userCoupons) {
+        List<Long> couponIds = userCoupons.stream()
+                .map(UserCoupon::getCouponId)
+                .collect(Collectors.toList());
 
+        Map<Long, Coupon> coupons = new HashMap<>(couponCatalog.getAll(couponIds));
+
+        // 카탈로그에 아직 반영되지 않은 쿠폰만 한 번에 조회
+        List<Long> missingIds = couponIds.stream()
+                .filter(id -> !coupons.containsKey(id))
+                .distinct()
+                .collect(Collectors.toList());
+        if (!missingIds.isEmpty()) {
+            coupons.putAll(couponLoader().loadMany(missingIds));
+        }
+
+        return userCoupons.stream()
+                .map(userCoupon -> {
+                    Coupon coupon = coupons.get(userCoupon.getCouponId());
+                    if (coupon == null) {
+                        throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "쿠폰을 찾을 수 없습니다");
+                    }
+                    return convertToUserCouponResponse(userCoupon, coupon);
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 쿠폰 로더 (요청 단위 메모이즈)
+     */
+    private DataLoader<Long, Coupon> couponLoader() {
+        return dataLoaderRegistry.loader("coupon", ids -> couponRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Coupon::getId, Function.identity())));
+    }
+
+    /**
+     * UserCoupon -> UserCouponResponse 변환
+     */
+    private UserCouponResponse convertToUserCouponResponse(UserCoupon userCoupon, Coupon coupon) {
         return UserCouponResponse.builder()
                 .id(userCoupon.getId())
                 .userId(userCoupon.getUserId())
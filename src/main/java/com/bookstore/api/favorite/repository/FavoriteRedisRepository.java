@@ -0,0 +1,77 @@
+package com.bookstore.api.favorite.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 찜 Redis 저장소
+ * - favorite:user:{userId} Set: 사용자가 찜한 도서 ID (적재 여부는 "0" 멤버로 구분)
+ * - DB가 기준이며, Set은 도서 목록의 찜 여부 표시용 조회 캐시
+ */
+@Repository
+@RequiredArgsConstructor
+public class FavoriteRedisRepository {
+
+    private static final String USER_PREFIX = "favorite:user:";
+    private static final String LOADED_MEMBER = "0";
+    private static final long USER_SET_TTL_SECONDS = TimeUnit.DAYS.toSeconds(1);
+
+    private static final RedisScript<Long> UPDATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/set-update-if-loaded.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 사용자 찜 Set 적재 여부 (적재 표시 멤버 기준)
+     */
+    public boolean isLoaded(Long userId) {
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(userKey(userId), LOADED_MEMBER));
+    }
+
+    /**
+     * 사용자 찜 Set 적재 (DB 기준)
+     */
+    public void load(Long userId, Collection<Long> bookIds) {
+        String key = userKey(userId);
+        List<String> members = new ArrayList<>(bookIds.size() + 1);
+        members.add(LOADED_MEMBER);
+        bookIds.forEach(id -> members.add(String.valueOf(id)));
+
+        redisTemplate.opsForSet().add(key, members.toArray(String[]::new));
+        redisTemplate.expire(key, USER_SET_TTL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 찜 추가(favorited = true) / 삭제(false) 반영 - 적재되지 않은 Set은 건드리지 않음
+     */
+    public void update(Long userId, Long bookId, boolean favorited) {
+        redisTemplate.execute(
+                UPDATE_SCRIPT,
+                List.of(userKey(userId)),
+                String.valueOf(bookId), favorited ? "1" : "0", String.valueOf(USER_SET_TTL_SECONDS), LOADED_MEMBER
+        );
+    }
+
+    /**
+     * 여러 도서에 대한 찜 여부 (SMISMEMBER 1회)
+     */
+    public Map<Long, Boolean> isMembers(Long userId, Collection<Long> bookIds) {
+        List<Long> ids = new ArrayList<>(bookIds);
+        Map<Object, Boolean> result = redisTemplate.opsForSet()
+                .isMember(userKey(userId), ids.stream().map(String::valueOf).toArray());
+
+        Map<Long, Boolean> favorited = new HashMap<>();
+        ids.forEach(id -> favorited.put(id, result != null && Boolean.TRUE.equals(result.get(String.valueOf(id)))));
+        return favorited;
+    }
+
+    private String userKey(Long userId) {
+        return USER_PREFIX + userId;
+    }
+}
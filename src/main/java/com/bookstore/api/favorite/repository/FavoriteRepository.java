@@ -4,8 +4,11 @@ import com.bookstore.api.favorite.entity.Favorite;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,4 +19,10 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
     Optional<Favorite> findByUserIdAndBookId(Long userId, Long bookId);
 
     boolean existsByUserIdAndBookId(Long userId, Long bookId);
+
+    /**
+     * 사용자가 찜한 도서 ID 목록
+     */
+    @Query("SELECT f.bookId FROM Favorite f WHERE f.userId = :userId")
+    List<Long> findBookIdsByUserId(@Param("userId") Long userId);
 }
\ No newline at end of file
@@ -4,8 +4,11 @@ import com.bookstore.api.book.entity.Book;
 import com.bookstore.api.book.repository.BookRepository;
 import com.bookstore.api.common.exception.BusinessException;
 import com.bookstore.api.common.exception.ErrorCode;
+import com.bookstore.api.common.loader.DataLoader;
+import com.bookstore.api.common.loader.DataLoaderRegistry;
 import com.bookstore.api.favorite.dto.FavoriteResponse;
 import com.bookstore.api.favorite.entity.Favorite;
+import com.bookstore.api.favorite.repository.FavoriteRedisRepository;
 import com.bookstore.api.favorite.repository.FavoriteRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,6 +17,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -21,7 +30,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class FavoriteService {
 
     private final FavoriteRepository favoriteRepository;
+    private final FavoriteRedisRepository favoriteRedisRepository;
     private final BookRepository bookRepository;
+    private final DataLoaderRegistry dataLoaderRegistry;
 
     /**
      * 찜 추가
@@ -43,6 +54,7 @@ public class FavoriteService {
                 .build();
 
         favoriteRepository.save(favorite);
+        favoriteRedisRepository.update(userId, bookId, true);
         log.info("찜 추가: userId={}, bookId={}", userId, bookId);
     }
 
@@ -55,6 +67,8 @@ public class FavoriteService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "찜 목록에 없는 도서입니다"));
 
         favoriteRepository.delete(favorite);
+        favoriteRepository.flush();
+        favoriteRedisRepository.update(userId, bookId, false);
         log.info("찜 삭제: userId={}, bookId={}", userId, bookId);
     }
 
@@ -62,19 +76,46 @@ public class FavoriteService {
      * 내 찜 목록 조회
      */
     public Page<FavoriteResponse> getMyFavorites(Long userId, Pageable pageable) {
-        return favoriteRepository.findByUserId(userId, pageable)
-                .map(favorite -> {
-                    Book book = bookRepository.findById(favorite.getBookId())
-                            .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "도서를 찾을 수 없습니다"));
-                    return convertToResponse(favorite, book);
-                });
+        Page<Favorite> favorites = favoriteRepository.findByUserId(userId, pageable);
+        DataLoader<Long, Book> books = dataLoaderRegistry.books()
+                .prime(favorites.map(Favorite::getBookId).getContent());
+
+        return favorites.map(favorite -> {
+            Book book = books.load(favorite.getBookId())
+                    .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "도서를 찾을 수 없습니다"));
+            return convertToResponse(favorite, book);
+        });
     }
 
     /**
      * 찜 여부 확인
      */
     public boolean isFavorite(Long userId, Long bookId) {
-        return favoriteRepository.existsByUserIdAndBookId(userId, bookId);
+        return getFavoritedMap(userId, List.of(bookId)).get(bookId);
+    }
+
+    /**
+     * 여러 도서에 대한 찜 여부 (사용자 찜 Set 멤버십 1회 조회)
+     */
+    public Map<Long, Boolean> getFavoritedMap(Long userId, Collection<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return Map.of();
+        }
+        if (userId == null) {
+            return bookIds.stream().distinct()
+                    .collect(Collectors.toMap(Function.identity(), id -> false));
+        }
+        ensureLoaded(userId);
+        return favoriteRedisRepository.isMembers(userId, bookIds);
+    }
+
+    /**
+     * 사용자 찜 Set이 없으면 DB에서 적재
+     */
+    private void ensureLoaded(Long userId) {
+        if (!favoriteRedisRepository.isLoaded(userId)) {
+            favoriteRedisRepository.load(userId, favoriteRepository.findBookIdsByUserId(userId));
+        }
     }
 
     /**
@@ -0,0 +1,58 @@
+package com.bookstore.api.like.controller;
+
+import com.bookstore.api.common.dto.ApiResponse;
+import com.bookstore.api.like.dto.LikeResponse;
+import com.bookstore.api.like.entity.LikeTargetType;
+import com.bookstore.api.like.service.LikeService;
+import com.bookstore.api.security.CurrentUserId;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Like", description = "좋아요 API")
+@RestController
+@RequestMapping("/api/likes")
+@RequiredArgsConstructor
+public class LikeController {
+
+    private final LikeService likeService;
+
+    @Operation(summary = "리뷰 좋아요", description = "리뷰에 좋아요를 누릅니다")
+    @PostMapping("/reviews/{reviewId}")
+    public ResponseEntity<ApiResponse<LikeResponse>> likeReview(
+            @CurrentUserId Long userId,
+            @Parameter(description = "리뷰 ID") @PathVariable Long reviewId) {
+        LikeResponse response = likeService.like(userId, LikeTargetType.REVIEW, reviewId);
+        return ResponseEntity.ok(ApiResponse.success("좋아요를 눌렀습니다", response));
+    }
+
+    @Operation(summary = "리뷰 좋아요 취소", description = "리뷰 좋아요를 취소합니다")
+    @DeleteMapping("/reviews/{reviewId}")
+    public ResponseEntity<ApiResponse<LikeResponse>> unlikeReview(
+            @CurrentUserId Long userId,
+            @Parameter(description = "리뷰 ID") @PathVariable Long reviewId) {
+        LikeResponse response = likeService.unlike(userId, LikeTargetType.REVIEW, reviewId);
+        return ResponseEntity.ok(ApiResponse.success("좋아요를 취소했습니다", response));
+    }
+
+    @Operation(summary = "댓글 좋아요", description = "댓글에 좋아요를 누릅니다")
+    @PostMapping("/comments/{commentId}")
+    public ResponseEntity<ApiResponse<LikeResponse>> likeComment(
+            @CurrentUserId Long userId,
+            @Parameter(description = "댓글 ID") @PathVariable Long commentId) {
+        LikeResponse response = likeService.like(userId, LikeTargetType.COMMENT, commentId);
+        return ResponseEntity.ok(ApiResponse.success("좋아요를 눌렀습니다", response));
+    }
+
+    @Operation(summary = "댓글 좋아요 취소", description = "댓글 좋아요를 취소합니다")
+    @DeleteMapping("/comments/{commentId}")
+    public ResponseEntity<ApiResponse<LikeResponse>> unlikeComment(
+            @CurrentUserId Long userId,
+            @Parameter(description = "댓글 ID") @PathVariable Long commentId) {
+        LikeResponse response = likeService.unlike(userId, LikeTargetType.COMMENT, commentId);
+        return ResponseEntity.ok(ApiResponse.success("좋아요를 취소했습니다", response));
+    }
+}
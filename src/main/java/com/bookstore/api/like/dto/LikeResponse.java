@@ -0,0 +1,25 @@
+package com.bookstore.api.like.dto;
+
+import com.bookstore.api.like.entity.LikeTargetType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "좋아요 응답")
+public class LikeResponse {
+
+    @Schema(description = "대상 유형", example = "REVIEW")
+    private LikeTargetType targetType;
+
+    @Schema(description = "대상 ID", example = "1")
+    private Long targetId;
+
+    @Schema(description = "좋아요 여부", example = "true")
+    private Boolean liked;
+}
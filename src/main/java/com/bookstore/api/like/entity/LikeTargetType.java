@@ -0,0 +1,6 @@
+package com.bookstore.api.like.entity;
+
+public enum LikeTargetType {
+    REVIEW,     // 리뷰
+    COMMENT     // 댓글
+}
@@ -0,0 +1,84 @@
+package com.bookstore.api.like.repository;
+
+import com.bookstore.api.like.entity.LikeTargetType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 좋아요 일괄 반영 (JDBC batch)
+ */
+@Repository
+@RequiredArgsConstructor
+public class LikeBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO likes (user_id, target_type, target_id, created_at) " +
+            "VALUES (?, ?, ?, NOW()) " +
+            "ON CONFLICT (user_id, target_type, target_id) DO NOTHING";
+
+    private static final String DELETE_SQL =
+            "DELETE FROM likes WHERE user_id = ? AND target_type = ? AND target_id = ?";
+
+    // 좋아요 수를 likes 기준으로 보정 (%1$s = reviews | comments, 반영 대기 중인 대상 제외) - 보정한 ID 반환
+    private static final String RECONCILE_COUNTS_SQL =
+            "UPDATE %1$s t SET like_count = COALESCE(l.cnt, 0) " +
+            "FROM %1$s s LEFT JOIN (SELECT target_id, COUNT(*) AS cnt FROM likes WHERE target_type = ? GROUP BY target_id) l " +
+            "ON l.target_id = s.id " +
+            "WHERE t.id = s.id AND t.like_count <> COALESCE(l.cnt, 0) AND t.id <> ALL(?) " +
+            "RETURNING t.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 좋아요 추가 - 각 행: {userId, targetType, targetId}
+     */
+    public void insertAll(List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        }
+    }
+
+    /**
+     * 좋아요 삭제 - 각 행: {userId, targetType, targetId}
+     */
+    public void deleteAll(List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_SQL, rows);
+        }
+    }
+
+    /**
+     * 좋아요 수 증감 반영 - 각 행: {delta, targetId}
+     */
+    public void incrementCounts(LikeTargetType targetType, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "UPDATE " + table(targetType) + " SET like_count = GREATEST(like_count + ?, 0) WHERE id = ?", rows);
+    }
+
+    /**
+     * like_count를 likes 테이블 기준으로 보정 - 보정된 대상 ID 반환
+     * - excludedIds: 아직 증감이 반영되지 않은 대상 (반영 후 다시 어긋나지 않도록 제외)
+     */
+    public List<Long> reconcileCounts(LikeTargetType targetType, Collection<Long> excludedIds) {
+        Long[] excluded = excludedIds.toArray(Long[]::new);
+        return jdbcTemplate.query(
+                String.format(RECONCILE_COUNTS_SQL, table(targetType)),
+                ps -> {
+                    ps.setString(1, targetType.name());
+                    ps.setArray(2, ps.getConnection().createArrayOf("bigint", excluded));
+                },
+                (rs, rowNum) -> rs.getLong("id")
+        );
+    }
+
+    private String table(LikeTargetType targetType) {
+        return targetType == LikeTargetType.REVIEW ? "reviews" : "comments";
+    }
+}
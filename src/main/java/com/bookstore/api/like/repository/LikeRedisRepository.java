@@ -0,0 +1,219 @@
+package com.bookstore.api.like.repository;
+
+import com.bookstore.api.like.entity.LikeTargetType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좋아요 Redis 저장소
+ * - like:user:{userId}:{type} Set: 사용자가 좋아요한 대상 ID (적재 여부는 "0" 멤버로 구분)
+ * - like:delta:{type} Hash: 아직 DB에 반영되지 않은 대상별 좋아요 수 증감
+ * - like:queue List: DB 반영 대기 중인 좋아요/취소 ("userId:type:targetId:1|-1")
+ * - 큐와 증감 Hash는 노드별 처리 중 키로 옮긴 뒤 DB 반영 후 삭제
+ *   (노드가 죽으면 생존 키가 만료되고, 다른 노드가 처리 중 키를 큐 앞쪽 / 증감 Hash로 되돌림)
+ */
+@Repository
+@RequiredArgsConstructor
+public class LikeRedisRepository {
+
+    public static final long CHANGED = 1L;
+    public static final long UNCHANGED = 0L;
+    public static final long NOT_LOADED = -1L;
+
+    private static final String USER_PREFIX = "like:user:";
+    private static final String DELTA_PREFIX = "like:delta:";
+    private static final String QUEUE_KEY = "like:queue";
+    private static final String QUEUE_PROCESSING_PREFIX = "like:queue:processing:";
+    private static final String DELTA_PROCESSING_INFIX = ":processing:";
+    private static final String NODES_KEY = "like:nodes";
+    private static final String NODE_ALIVE_PREFIX = "like:node:";
+    private static final String LOADED_MEMBER = "0";
+    private static final long USER_SET_TTL_SECONDS = TimeUnit.DAYS.toSeconds(1);
+
+    private static final RedisScript<Long> TOGGLE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/like-toggle.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> QUEUE_CLAIM_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/queue-claim.lua"), List.class);
+    private static final RedisScript<Long> QUEUE_RESTORE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/queue-restore.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> HASH_CLAIM_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/hash-claim.lua"), List.class);
+    private static final RedisScript<Long> HASH_RESTORE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/hash-restore.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * 사용자 좋아요 Set 적재 여부 (적재 표시 멤버 기준)
+     */
+    public boolean isLoaded(Long userId, LikeTargetType targetType) {
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(userKey(userId, targetType), LOADED_MEMBER));
+    }
+
+    /**
+     * 사용자 좋아요 Set 적재 (DB 기준)
+     */
+    public void load(Long userId, LikeTargetType targetType, Collection<Long> targetIds) {
+        String key = userKey(userId, targetType);
+        List<String> members = new ArrayList<>(targetIds.size() + 1);
+        members.add(LOADED_MEMBER);
+        targetIds.forEach(id -> members.add(String.valueOf(id)));
+
+        redisTemplate.opsForSet().add(key, members.toArray(String[]::new));
+        redisTemplate.expire(key, USER_SET_TTL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 좋아요(liked = true) / 취소(false) - CHANGED / UNCHANGED / NOT_LOADED
+     */
+    public long toggle(Long userId, LikeTargetType targetType, Long targetId, boolean liked) {
+        String delta = liked ? "1" : "-1";
+        String event = userId + ":" + targetType.name() + ":" + targetId + ":" + delta;
+        Long result = redisTemplate.execute(
+                TOGGLE_SCRIPT,
+                List.of(userKey(userId, targetType), DELTA_PREFIX + targetType.name(), QUEUE_KEY),
+                String.valueOf(targetId), delta, event, String.valueOf(USER_SET_TTL_SECONDS), LOADED_MEMBER
+        );
+        return result != null ? result : NOT_LOADED;
+    }
+
+    /**
+     * 여러 대상에 대한 좋아요 여부 (SMISMEMBER 1회)
+     */
+    public Map<Long, Boolean> isMembers(Long userId, LikeTargetType targetType, Collection<Long> targetIds) {
+        List<Long> ids = new ArrayList<>(targetIds);
+        Map<Object, Boolean> result = redisTemplate.opsForSet()
+                .isMember(userKey(userId, targetType), ids.stream().map(String::valueOf).toArray());
+
+        Map<Long, Boolean> liked = new HashMap<>();
+        ids.forEach(id -> liked.put(id, result != null && Boolean.TRUE.equals(result.get(String.valueOf(id)))));
+        return liked;
+    }
+
+    /**
+     * DB 반영 대기 큐에서 최대 count건을 처리 중 리스트로 옮겨 반환 (LMOVE)
+     * - 이전 배치가 처리 중 리스트에 남아 있으면 그 배치를 다시 반환
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> claimQueue(int count, long nodeTtlSeconds) {
+        List<String> values = redisTemplate.execute(
+                QUEUE_CLAIM_SCRIPT,
+                List.of(QUEUE_KEY, QUEUE_PROCESSING_PREFIX + nodeId, NODES_KEY, NODE_ALIVE_PREFIX + nodeId),
+                String.valueOf(count), nodeId, String.valueOf(nodeTtlSeconds)
+        );
+        return values != null ? values : Collections.emptyList();
+    }
+
+    /**
+     * DB 반영이 끝난 배치 삭제 (처리 중 리스트에는 꺼낸 배치만 있음)
+     */
+    public void acknowledgeQueue() {
+        redisTemplate.delete(QUEUE_PROCESSING_PREFIX + nodeId);
+    }
+
+    /**
+     * DB 반영 실패 건을 원래 순서대로 큐 앞쪽에 되돌림
+     * - 뒤쪽에 붙이면 같은 사용자·대상의 더 최근 이벤트 뒤로 밀려, 오래된 상태가 최신 상태를 덮어씀
+     */
+    public long restoreQueue() {
+        return restoreQueue(nodeId);
+    }
+
+    /**
+     * 대상별 증감 꺼내기 (증감 Hash를 처리 중 Hash로 이름 변경 후 조회, DB 반영 후 acknowledgeDeltas로 삭제)
+     * - 이전 반영이 실패해 처리 중 Hash가 남아 있으면 그것부터 다시 반환
+     */
+    @SuppressWarnings("unchecked")
+    public Map<Long, Long> claimDeltas(LikeTargetType targetType, long nodeTtlSeconds) {
+        List<String> values = redisTemplate.execute(
+                HASH_CLAIM_SCRIPT,
+                List.of(DELTA_PREFIX + targetType.name(), deltaProcessingKey(targetType, nodeId),
+                        NODES_KEY, NODE_ALIVE_PREFIX + nodeId),
+                nodeId, String.valueOf(nodeTtlSeconds)
+        );
+
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        if (values != null) {
+            for (int i = 0; i + 1 < values.size(); i += 2) {
+                long delta = Long.parseLong(values.get(i + 1));
+                if (delta != 0) {
+                    deltas.put(Long.parseLong(values.get(i)), delta);
+                }
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * DB 반영이 끝난 증감 삭제
+     */
+    public void acknowledgeDeltas(LikeTargetType targetType) {
+        redisTemplate.delete(deltaProcessingKey(targetType, nodeId));
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증감이 있는 대상 ID (모든 노드의 처리 중 Hash 포함)
+     */
+    public Set<Long> findPendingTargetIds(LikeTargetType targetType) {
+        List<String> keys = new ArrayList<>();
+        keys.add(DELTA_PREFIX + targetType.name());
+        Set<String> nodes = redisTemplate.opsForSet().members(NODES_KEY);
+        if (nodes != null) {
+            nodes.forEach(node -> keys.add(deltaProcessingKey(targetType, node)));
+        }
+
+        Set<Long> targetIds = new HashSet<>();
+        for (String key : keys) {
+            redisTemplate.<String, String>opsForHash().keys(key).forEach(id -> targetIds.add(Long.parseLong(id)));
+        }
+        return targetIds;
+    }
+
+    /**
+     * 생존 키가 만료된 노드의 처리 중 큐 / 증감을 되돌림 - 되돌린 건수 반환
+     */
+    public long recoverStaleNodes() {
+        Set<String> nodes = redisTemplate.opsForSet().members(NODES_KEY);
+        if (nodes == null) {
+            return 0;
+        }
+
+        long recovered = 0;
+        for (String node : nodes) {
+            if (node.equals(nodeId) || Boolean.TRUE.equals(redisTemplate.hasKey(NODE_ALIVE_PREFIX + node))) {
+                continue;
+            }
+            recovered += restoreQueue(node);
+            for (LikeTargetType targetType : LikeTargetType.values()) {
+                Long restored = redisTemplate.execute(HASH_RESTORE_SCRIPT,
+                        List.of(DELTA_PREFIX + targetType.name(), deltaProcessingKey(targetType, node)));
+                recovered += restored != null ? restored : 0;
+            }
+            redisTemplate.opsForSet().remove(NODES_KEY, node);
+        }
+        return recovered;
+    }
+
+    private long restoreQueue(String node) {
+        Long restored = redisTemplate.execute(QUEUE_RESTORE_SCRIPT, List.of(QUEUE_KEY, QUEUE_PROCESSING_PREFIX + node));
+        return restored != null ? restored : 0;
+    }
+
+    private String deltaProcessingKey(LikeTargetType targetType, String node) {
+        return DELTA_PREFIX + targetType.name() + DELTA_PROCESSING_INFIX + node;
+    }
+
+    private String userKey(Long userId, LikeTargetType targetType) {
+        return USER_PREFIX + userId + ":" + targetType.name();
+    }
+}
@@ -0,0 +1,20 @@
+package com.bookstore.api.like.repository;
+
+import com.bookstore.api.like.entity.LikeTargetType;
+import com.bookstore.api.like.entity.UserLike;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface UserLikeRepository extends JpaRepository<UserLike, Long> {
+
+    /**
+     * 사용자가 좋아요한 대상 ID 목록
+     */
+    @Query("SELECT l.targetId FROM UserLike l WHERE l.userId = :userId AND l.targetType = :targetType")
+    List<Long> findTargetIds(@Param("userId") Long userId, @Param("targetType") LikeTargetType targetType);
+}
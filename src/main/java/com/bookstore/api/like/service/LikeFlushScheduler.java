@@ -0,0 +1,203 @@
+package com.bookstore.api.like.service;
+
+import com.bookstore.api.like.entity.LikeTargetType;
+import com.bookstore.api.like.repository.LikeBatchRepository;
+import com.bookstore.api.like.repository.LikeRedisRepository;
+import com.bookstore.api.review.service.ReviewRankService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 좋아요 DB 반영
+ * - 좋아요/취소 내역: likes 테이블에 일괄 INSERT/DELETE
+ * - 좋아요 수 증감: reviews/comments.like_count에 일괄 UPDATE
+ * - 꺼낸 내역/증감은 DB 커밋 후에만 Redis에서 삭제 (커밋 후 삭제 전에 중단되면 증감이 한 번 더 반영될 수 있어
+ *   매일 likes 기준으로 like_count 보정)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeFlushScheduler {
+
+    private final LikeRedisRepository likeRedisRepository;
+    private final LikeBatchRepository likeBatchRepository;
+    private final ReviewRankService reviewRankService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${like.flush-batch-size:1000}")
+    private int batchSize;
+
+    @Value("${like.node-ttl-seconds:60}")
+    private long nodeTtlSeconds;
+
+    @Scheduled(fixedDelayString = "${like.flush-interval-ms:1000}")
+    public void flush() {
+        flushEvents();
+        for (LikeTargetType targetType : LikeTargetType.values()) {
+            flushCounts(targetType);
+        }
+    }
+
+    /**
+     * 시작 시 / 주기적으로 죽은 노드의 처리 중 내역·증감 복구
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${like.recover-interval-ms:30000}",
+            initialDelayString = "${like.recover-interval-ms:30000}")
+    public void recover() {
+        try {
+            long recovered = likeRedisRepository.recoverStaleNodes();
+            if (recovered > 0) {
+                log.warn("중단된 좋아요 반영 복구: count={}", recovered);
+            }
+        } catch (Exception e) {
+            log.error("좋아요 반영 복구 실패", e);
+        }
+    }
+
+    /**
+     * 좋아요 수 정합성 보정 (매일 새벽, likes 테이블 기준)
+     * - 아직 증감이 반영되지 않은 대상은 제외하고 다음 보정에서 확인
+     */
+    @Scheduled(cron = "${like.reconcile-cron:0 20 3 * * *}")
+    public void reconcile() {
+        for (LikeTargetType targetType : LikeTargetType.values()) {
+            try {
+                Set<Long> pending = likeRedisRepository.findPendingTargetIds(targetType);
+                List<Long> corrected = likeBatchRepository.reconcileCounts(targetType, pending);
+                if (corrected.isEmpty()) {
+                    log.info("좋아요 수 검증 완료: targetType={}, 불일치 없음", targetType);
+                    continue;
+                }
+                log.warn("좋아요 수 불일치 보정: targetType={}, count={}", targetType, corrected.size());
+                if (targetType == LikeTargetType.REVIEW) {
+                    reviewRankService.markDirty(corrected);
+                }
+            } catch (Exception e) {
+                log.error("좋아요 수 보정 실패: targetType={}", targetType, e);
+            }
+        }
+    }
+
+    /**
+     * 좋아요/취소 내역 반영 (같은 사용자·대상은 마지막 상태만 반영)
+     */
+    private void flushEvents() {
+        List<String> values;
+        try {
+            values = likeRedisRepository.claimQueue(batchSize, nodeTtlSeconds);
+        } catch (Exception e) {
+            log.error("좋아요 큐 조회 실패", e);
+            return;
+        }
+        if (values.isEmpty()) {
+            return;
+        }
+
+        // userId:type:targetId -> 1 | -1
+        Map<String, String> latest = new LinkedHashMap<>();
+        for (String value : values) {
+            int idx = value.lastIndexOf(':');
+            latest.remove(value.substring(0, idx));
+            latest.put(value.substring(0, idx), value.substring(idx + 1));
+        }
+
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        latest.forEach((key, delta) -> {
+            String[] parts = key.split(":");
+            Object[] row = {Long.parseLong(parts[0]), parts[1], Long.parseLong(parts[2])};
+            if ("1".equals(delta)) {
+                inserts.add(row);
+            } else {
+                deletes.add(row);
+            }
+        });
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                likeBatchRepository.insertAll(inserts);
+                likeBatchRepository.deleteAll(deletes);
+            });
+            log.debug("좋아요 DB 반영: insert={}, delete={}", inserts.size(), deletes.size());
+        } catch (Exception e) {
+            // 실패 시 큐 앞쪽으로 되돌려 다음 주기에 같은 순서로 재시도
+            log.error("좋아요 DB 반영 실패: count={}", values.size(), e);
+            restoreQueue();
+            return;
+        }
+
+        try {
+            likeRedisRepository.acknowledgeQueue();
+        } catch (Exception e) {
+            // 처리 중 리스트에 남은 배치는 다음 주기에 다시 반영 (INSERT/DELETE라 다시 실행해도 같은 결과)
+            log.error("좋아요 반영 완료 기록 실패: count={}", values.size(), e);
+        }
+    }
+
+    /**
+     * 좋아요 수 증감 반영
+     */
+    private void flushCounts(LikeTargetType targetType) {
+        Map<Long, Long> deltas;
+        try {
+            deltas = likeRedisRepository.claimDeltas(targetType, nodeTtlSeconds);
+        } catch (Exception e) {
+            log.error("좋아요 수 증감 조회 실패: targetType={}", targetType, e);
+            return;
+        }
+        if (deltas.isEmpty()) {
+            // 증감이 모두 0이어도 처리 중 Hash는 비움
+            acknowledgeDeltas(targetType);
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((targetId, delta) -> rows.add(new Object[]{delta, targetId}));
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> likeBatchRepository.incrementCounts(targetType, rows));
+            log.debug("좋아요 수 반영: targetType={}, count={}", targetType, rows.size());
+        } catch (Exception e) {
+            // 처리 중 Hash에 남겨 두고 다음 주기에 다시 반영
+            log.error("좋아요 수 반영 실패: targetType={}, count={}", targetType, rows.size(), e);
+            return;
+        }
+        acknowledgeDeltas(targetType);
+
+        // 좋아요 수가 바뀐 리뷰는 추천순 점수 재계산 대상
+        if (targetType == LikeTargetType.REVIEW) {
+            reviewRankService.markDirty(deltas.keySet());
+        }
+    }
+
+    private void restoreQueue() {
+        try {
+            likeRedisRepository.restoreQueue();
+        } catch (Exception e) {
+            // 처리 중 리스트에 남아 있으므로 다음 주기에 다시 꺼내짐
+            log.error("좋아요 큐 복원 실패", e);
+        }
+    }
+
+    private void acknowledgeDeltas(LikeTargetType targetType) {
+        try {
+            likeRedisRepository.acknowledgeDeltas(targetType);
+        } catch (Exception e) {
+            // 남은 처리 중 Hash는 다음 주기에 다시 반영되고, 중복 반영분은 매일 보정에서 바로잡음
+            log.error("좋아요 수 반영 완료 기록 실패: targetType={}", targetType, e);
+        }
+    }
+}
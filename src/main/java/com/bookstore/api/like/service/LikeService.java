@@ -0,0 +1,107 @@
+package com.bookstore.api.like.service;
+
+import com.bookstore.api.comment.repository.CommentRepository;
+import com.bookstore.api.common.exception.BusinessException;
+import com.bookstore.api.common.exception.ErrorCode;
+import com.bookstore.api.like.dto.LikeResponse;
+import com.bookstore.api.like.entity.LikeTargetType;
+import com.bookstore.api.like.repository.LikeRedisRepository;
+import com.bookstore.api.like.repository.UserLikeRepository;
+import com.bookstore.api.review.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LikeService {
+
+    private final LikeRedisRepository likeRedisRepository;
+    private final UserLikeRepository userLikeRepository;
+    private final ReviewRepository reviewRepository;
+    private final CommentRepository commentRepository;
+
+    /**
+     * 좋아요
+     */
+    public LikeResponse like(Long userId, LikeTargetType targetType, Long targetId) {
+        // 대상 존재 확인
+        boolean exists = targetType == LikeTargetType.REVIEW
+                ? reviewRepository.existsById(targetId)
+                : commentRepository.existsById(targetId);
+        if (!exists) {
+            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "좋아요 대상을 찾을 수 없습니다");
+        }
+
+        if (!toggle(userId, targetType, targetId, true)) {
+            throw new BusinessException(ErrorCode.DUPLICATE_RESOURCE, "이미 좋아요한 대상입니다");
+        }
+
+        log.debug("좋아요: userId={}, targetType={}, targetId={}", userId, targetType, targetId);
+        return convertToResponse(targetType, targetId, true);
+    }
+
+    /**
+     * 좋아요 취소
+     */
+    public LikeResponse unlike(Long userId, LikeTargetType targetType, Long targetId) {
+        if (!toggle(userId, targetType, targetId, false)) {
+            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "좋아요하지 않은 대상입니다");
+        }
+
+        log.debug("좋아요 취소: userId={}, targetType={}, targetId={}", userId, targetType, targetId);
+        return convertToResponse(targetType, targetId, false);
+    }
+
+    /**
+     * 여러 대상에 대한 좋아요 여부
+     */
+    public Map<Long, Boolean> getLikedMap(Long userId, LikeTargetType targetType, Collection<Long> targetIds) {
+        ensureLoaded(userId, targetType);
+        return likeRedisRepository.isMembers(userId, targetType, targetIds);
+    }
+
+    /**
+     * 좋아요 상태 변경 - 실제로 바뀐 경우 true
+     * - 적재 확인과 변경 사이에 Set이 만료되면 스크립트가 NOT_LOADED를 반환하므로 다시 적재 후 한 번 더 시도
+     */
+    private boolean toggle(Long userId, LikeTargetType targetType, Long targetId, boolean liked) {
+        ensureLoaded(userId, targetType);
+        long result = likeRedisRepository.toggle(userId, targetType, targetId, liked);
+        if (result == LikeRedisRepository.NOT_LOADED) {
+            load(userId, targetType);
+            result = likeRedisRepository.toggle(userId, targetType, targetId, liked);
+        }
+        if (result == LikeRedisRepository.NOT_LOADED) {
+            throw new BusinessException(ErrorCode.STATE_CONFLICT, "좋아요 상태를 불러오지 못했습니다. 다시 시도해 주세요");
+        }
+        return result == LikeRedisRepository.CHANGED;
+    }
+
+    /**
+     * 사용자 좋아요 Set이 없으면 DB에서 적재
+     */
+    private void ensureLoaded(Long userId, LikeTargetType targetType) {
+        if (!likeRedisRepository.isLoaded(userId, targetType)) {
+            load(userId, targetType);
+        }
+    }
+
+    private void load(Long userId, LikeTargetType targetType) {
+        likeRedisRepository.load(userId, targetType, userLikeRepository.findTargetIds(userId, targetType));
+    }
+
+    private LikeResponse convertToResponse(LikeTargetType targetType, Long targetId, boolean liked) {
+        return LikeResponse.builder()
+                .targetType(targetType)
+                .targetId(targetId)
+                .liked(liked)
+                .build();
+    }
+}
@@ -21,6 +21,9 @@ public class CreateOrderRequest {
     @Schema(description = "직접 주문 항목")
     private List<OrderItemRequest> items;
 
+    @Schema(description = "적용할 사용자 쿠폰 ID", example = "1")
+    private Long userCouponId;
+
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
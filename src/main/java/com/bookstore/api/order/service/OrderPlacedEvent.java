@@ -0,0 +1,17 @@
+package com.bookstore.api.order.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 주문 생성 이벤트 (커밋 후 일별 지표 반영)
+ */
+@Getter
+@RequiredArgsConstructor
+public class OrderPlacedEvent {
+
+    private final Long orderId;
+    private final BigDecimal totalAmount;
+}
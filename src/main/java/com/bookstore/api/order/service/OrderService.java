@@ -2,10 +2,11 @@ package com.bookstore.api.order.service;
 
 import com.bookstore.api.book.entity.Book;
 import com.bookstore.api.book.repository.BookRepository;
-import com.bookstore.api.cart.entity.Cart;
-import com.bookstore.api.cart.repository.CartRepository;
+import com.bookstore.api.cart.repository.CartLine;
+import com.bookstore.api.cart.repository.CartStore;
 import com.bookstore.api.common.exception.BusinessException;
 import com.bookstore.api.common.exception.ErrorCode;
+import com.bookstore.api.coupon.service.CouponService;
 import com.bookstore.api.order.dto.CreateOrderRequest;
 import com.bookstore.api.order.dto.OrderResponse;
 import com.bookstore.api.order.entity.Order;
@@ -15,12 +16,14 @@ import com.bookstore.api.order.repository.OrderItemRepository;
 import com.bookstore.api.order.repository.OrderRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -33,8 +36,10 @@ public class OrderService {
 
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
-    private final CartRepository cartRepository;
+    private final CartStore cartStore;
     private final BookRepository bookRepository;
+    private final CouponService couponService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 주문 생성
@@ -47,7 +52,7 @@ public class OrderService {
         // 장바구니에서 주문
         if (request.getCartIds() != null && !request.getCartIds().isEmpty()) {
             for (Long cartId : request.getCartIds()) {
-                Cart cart = cartRepository.findById(cartId)
+                CartLine cart = cartStore.find(userId, cartId)
                         .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "장바구니 항목을 찾을 수 없습니다"));
 
                 if (!cart.getUserId().equals(userId)) {
@@ -66,9 +71,6 @@ public class OrderService {
                         .price(book.getPrice())
                         .build());
             }
-
-            // 장바구니 항목 삭제
-            request.getCartIds().forEach(cartRepository::deleteById);
         }
 
         // 직접 주문
@@ -92,6 +94,14 @@ public class OrderService {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "주문 항목이 없습니다");
         }
 
+        // 쿠폰 적용 (사용 처리 실패 시 주문 전체 롤백)
+        if (request.getUserCouponId() != null) {
+            BigDecimal discountRate = couponService.redeemForOrder(userId, request.getUserCouponId());
+            BigDecimal discount = totalAmount.multiply(discountRate)
+                    .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+            totalAmount = totalAmount.subtract(discount).max(BigDecimal.ZERO);
+        }
+
         // 주문 생성
         Order order = Order.builder()
                 .userId(userId)
@@ -113,6 +123,13 @@ public class OrderService {
             orderItemRepository.save(orderItem);
         }
 
+        // 주문한 장바구니 항목 삭제 (Redis 저장소는 주문 커밋 후 반영, 롤백되면 장바구니 유지)
+        if (request.getCartIds() != null) {
+            request.getCartIds().forEach(cartId -> cartStore.remove(userId, cartId));
+        }
+
+        eventPublisher.publishEvent(new OrderPlacedEvent(savedOrder.getId(), savedOrder.getTotalAmount()));
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(savedOrder.getId(), null, OrderStatus.CREATED));
         log.info("주문 생성 완료: orderId={}, userId={}", savedOrder.getId(), userId);
         return convertToResponse(savedOrder);
     }
@@ -147,7 +164,14 @@ public class OrderService {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "주문을 찾을 수 없습니다"));
 
+        OrderStatus previousStatus = order.getStatus();
         order.updateStatus(status);
+        if (previousStatus != status) {
+            eventPublisher.publishEvent(new OrderStatusChangedEvent(orderId, previousStatus, status));
+        }
+        if (status == OrderStatus.CANCELED && previousStatus != OrderStatus.CANCELED) {
+            eventPublisher.publishEvent(new OrderCanceledEvent(orderId, order.getTotalAmount()));
+        }
 
         // 주문 항목 상태도 함께 변경
         List<OrderItem> items = orderItemRepository.findByOrderId(orderId);
@@ -174,6 +198,8 @@ public class OrderService {
         }
 
         order.updateStatus(OrderStatus.CANCELED);
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(orderId, OrderStatus.CREATED, OrderStatus.CANCELED));
+        eventPublisher.publishEvent(new OrderCanceledEvent(orderId, order.getTotalAmount()));
 
         List<OrderItem> items = orderItemRepository.findByOrderId(orderId);
         items.forEach(item -> item.updateStatus(OrderStatus.CANCELED));
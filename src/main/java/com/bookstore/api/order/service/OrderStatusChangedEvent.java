@@ -0,0 +1,17 @@
+package com.bookstore.api.order.service;
+
+import com.bookstore.api.order.entity.OrderStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 상태 변경 이벤트 (생성 시 previousStatus = null, 커밋 직전 같은 트랜잭션에서 판매자 매출 집계 반영)
+ */
+@Getter
+@RequiredArgsConstructor
+public class OrderStatusChangedEvent {
+
+    private final Long orderId;
+    private final OrderStatus previousStatus;
+    private final OrderStatus newStatus;
+}
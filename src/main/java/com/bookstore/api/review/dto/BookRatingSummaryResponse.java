@@ -0,0 +1,29 @@
+package com.bookstore.api.review.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "도서 평점 요약 응답")
+public class BookRatingSummaryResponse {
+
+    @Schema(description = "도서 ID", example = "1")
+    private Long bookId;
+
+    @Schema(description = "리뷰 수", example = "12")
+    private Integer reviewCount;
+
+    @Schema(description = "평균 평점", example = "4.25")
+    private Double averageRating;
+
+    @Schema(description = "평점별 리뷰 수 (1~5)", example = "{\"1\": 0, \"2\": 1, \"3\": 2, \"4\": 4, \"5\": 5}")
+    private Map<Integer, Integer> ratingDistribution;
+}
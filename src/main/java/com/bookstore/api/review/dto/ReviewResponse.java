@@ -37,6 +37,12 @@ public class ReviewResponse {
     @Schema(description = "리뷰 내용", example = "정말 좋은 책입니다!")
     private String comment;
 
+    @Schema(description = "좋아요 수", example = "3")
+    private Integer likeCount;
+
+    @Schema(description = "댓글 수", example = "2")
+    private Integer commentCount;
+
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     @Schema(description = "작성일시", example = "2024-01-01 12:00:00")
     private LocalDateTime createdAt;
@@ -0,0 +1,43 @@
+package com.bookstore.api.review.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "book_rating_summary")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class BookRatingSummary {
+
+    @Id
+    @Column(name = "book_id")
+    private Long bookId;
+
+    @Column(name = "review_count", nullable = false)
+    private Integer reviewCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private Long ratingSum;
+
+    @Column(name = "rating_1", nullable = false)
+    private Integer rating1;
+
+    @Column(name = "rating_2", nullable = false)
+    private Integer rating2;
+
+    @Column(name = "rating_3", nullable = false)
+    private Integer rating3;
+
+    @Column(name = "rating_4", nullable = false)
+    private Integer rating4;
+
+    @Column(name = "rating_5", nullable = false)
+    private Integer rating5;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
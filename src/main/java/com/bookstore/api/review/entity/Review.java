@@ -33,6 +33,18 @@ public class Review {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String comment;
 
+    // 좋아요 집계 배치(LikeFlushScheduler)에서만 갱신
+    @Column(name = "like_count", nullable = false, insertable = false, updatable = false)
+    private Integer likeCount;
+
+    // 추천순 정렬 점수, ReviewRankService 배치에서만 갱신
+    @Column(name = "rank_score", nullable = false, insertable = false, updatable = false)
+    private Double rankScore;
+
+    // 댓글 작성/삭제 시 증분 UPDATE로만 갱신
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    private Integer commentCount;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
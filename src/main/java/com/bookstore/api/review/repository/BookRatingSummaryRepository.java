@@ -0,0 +1,83 @@
+package com.bookstore.api.review.repository;
+
+import com.bookstore.api.review.entity.BookRatingSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BookRatingSummaryRepository extends JpaRepository<BookRatingSummary, Long> {
+
+    /**
+     * 평점 요약 증분 반영 (행이 없으면 생성)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO book_rating_summary
+                (book_id, review_count, rating_sum, rating_1, rating_2, rating_3, rating_4, rating_5, updated_at)
+            VALUES (:bookId, :countDelta, :sumDelta, :d1, :d2, :d3, :d4, :d5, NOW())
+            ON CONFLICT (book_id) DO UPDATE SET
+                review_count = book_rating_summary.review_count + EXCLUDED.review_count,
+                rating_sum = book_rating_summary.rating_sum + EXCLUDED.rating_sum,
+                rating_1 = book_rating_summary.rating_1 + EXCLUDED.rating_1,
+                rating_2 = book_rating_summary.rating_2 + EXCLUDED.rating_2,
+                rating_3 = book_rating_summary.rating_3 + EXCLUDED.rating_3,
+                rating_4 = book_rating_summary.rating_4 + EXCLUDED.rating_4,
+                rating_5 = book_rating_summary.rating_5 + EXCLUDED.rating_5,
+                updated_at = NOW()
+            """, nativeQuery = true)
+    void applyDelta(@Param("bookId") Long bookId,
+                    @Param("countDelta") int countDelta,
+                    @Param("sumDelta") long sumDelta,
+                    @Param("d1") int d1,
+                    @Param("d2") int d2,
+                    @Param("d3") int d3,
+                    @Param("d4") int d4,
+                    @Param("d5") int d5);
+
+    /**
+     * 원본 리뷰와 비교하여 어긋난 요약만 재계산 (반영된 행 수 반환)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO book_rating_summary
+                (book_id, review_count, rating_sum, rating_1, rating_2, rating_3, rating_4, rating_5, updated_at)
+            SELECT ids.book_id,
+                   COALESCE(a.review_count, 0), COALESCE(a.rating_sum, 0),
+                   COALESCE(a.rating_1, 0), COALESCE(a.rating_2, 0), COALESCE(a.rating_3, 0),
+                   COALESCE(a.rating_4, 0), COALESCE(a.rating_5, 0), NOW()
+            FROM (SELECT book_id FROM book_rating_summary
+                  UNION
+                  SELECT book_id FROM reviews WHERE deleted_at IS NULL) ids
+            LEFT JOIN (SELECT book_id,
+                              COUNT(*) AS review_count,
+                              SUM(rating) AS rating_sum,
+                              COUNT(*) FILTER (WHERE rating = 1) AS rating_1,
+                              COUNT(*) FILTER (WHERE rating = 2) AS rating_2,
+                              COUNT(*) FILTER (WHERE rating = 3) AS rating_3,
+                              COUNT(*) FILTER (WHERE rating = 4) AS rating_4,
+                              COUNT(*) FILTER (WHERE rating = 5) AS rating_5
+                       FROM reviews
+                       WHERE deleted_at IS NULL
+                       GROUP BY book_id) a ON a.book_id = ids.book_id
+            ON CONFLICT (book_id) DO UPDATE SET
+                review_count = EXCLUDED.review_count,
+                rating_sum = EXCLUDED.rating_sum,
+                rating_1 = EXCLUDED.rating_1,
+                rating_2 = EXCLUDED.rating_2,
+                rating_3 = EXCLUDED.rating_3,
+                rating_4 = EXCLUDED.rating_4,
+                rating_5 = EXCLUDED.rating_5,
+                updated_at = NOW()
+            WHERE (book_rating_summary.review_count, book_rating_summary.rating_sum,
+                   book_rating_summary.rating_1, book_rating_summary.rating_2, book_rating_summary.rating_3,
+                   book_rating_summary.rating_4, book_rating_summary.rating_5)
+                  IS DISTINCT FROM
+                  (EXCLUDED.review_count, EXCLUDED.rating_sum,
+                   EXCLUDED.rating_1, EXCLUDED.rating_2, EXCLUDED.rating_3,
+                   EXCLUDED.rating_4, EXCLUDED.rating_5)
+            """, nativeQuery = true)
+    int reconcileWithReviews();
+}
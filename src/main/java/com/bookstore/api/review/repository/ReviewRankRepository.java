@@ -0,0 +1,67 @@
+package com.bookstore.api.review.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+/**
+ * 리뷰 추천순 점수 일괄 갱신 (JDBC)
+ *
+ * rank_score = ln(wilson + 0.01) + created_at(epoch초) / decaySeconds
+ * - wilson: 좋아요 수 + 작성자 평점을 표본으로 한 Wilson 하한 (z = 1.96)
+ *   n = like_count + 1, 긍정 비율 = (like_count + (rating - 1) / 4) / n
+ * - 작성 시각 항: decaySeconds만큼 최근일수록 wilson이 e배인 것과 동일
+ *   (현재 시각을 쓰지 않으므로 시간이 지나도 저장된 점수끼리 비교 가능)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReviewRankRepository {
+
+    private static final String SCORE_SQL = """
+            UPDATE reviews r
+            SET rank_score = LN(
+                    (t.phat + 1.9208 / t.n - 1.96 * SQRT((t.phat * (1 - t.phat) + 0.9604 / t.n) / t.n))
+                    / (1 + 3.8416 / t.n) + 0.01
+                ) + EXTRACT(EPOCH FROM t.created_at) / ?
+            FROM (SELECT id,
+                         created_at,
+                         like_count + 1.0 AS n,
+                         (like_count + (rating - 1) / 4.0) / (like_count + 1.0) AS phat
+                  FROM reviews
+                  WHERE %s) t
+            WHERE r.id = t.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 지정한 리뷰들의 점수 갱신
+     */
+    public int refresh(Collection<Long> reviewIds, double decaySeconds) {
+        if (reviewIds.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(SCORE_SQL.formatted("id = ANY(?)"), ps -> {
+            ps.setDouble(1, decaySeconds);
+            ps.setArray(2, ps.getConnection().createArrayOf("bigint", reviewIds.toArray()));
+        });
+    }
+
+    /**
+     * id 범위 (fromId < id <= toId) 점수 갱신
+     */
+    public int refreshRange(long fromId, long toId, double decaySeconds) {
+        return jdbcTemplate.update(SCORE_SQL.formatted("id > ? AND id <= ? AND deleted_at IS NULL"),
+                decaySeconds, fromId, toId);
+    }
+
+    /**
+     * 최대 리뷰 ID
+     */
+    public long findMaxId() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM reviews", Long.class);
+        return maxId != null ? maxId : 0L;
+    }
+}
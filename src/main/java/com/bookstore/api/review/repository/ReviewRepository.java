@@ -4,6 +4,9 @@ import com.bookstore.api.review.entity.Review;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -18,4 +21,12 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     Optional<Review> findByUserIdAndBookId(Long userId, Long bookId);
 
     boolean existsByUserIdAndBookId(Long userId, Long bookId);
+
+    /**
+     * 댓글 수 증감 (삭제되지 않은 리뷰만, 갱신된 행 수 반환)
+     */
+    @Modifying
+    @Query(value = "UPDATE reviews SET comment_count = GREATEST(comment_count + :delta, 0) " +
+                   "WHERE id = :reviewId AND deleted_at IS NULL", nativeQuery = true)
+    int addCommentCount(@Param("reviewId") Long reviewId, @Param("delta") int delta);
 }
\ No newline at end of file
@@ -0,0 +1,112 @@
+package com.bookstore.api.review.service;
+
+import com.bookstore.api.review.dto.BookRatingSummaryResponse;
+import com.bookstore.api.review.entity.BookRatingSummary;
+import com.bookstore.api.review.repository.BookRatingSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BookRatingSummaryService {
+
+    public static final String CACHE_NAME = "bookRatingSummary";
+
+    private final BookRatingSummaryRepository bookRatingSummaryRepository;
+
+    /**
+     * 도서 평점 요약 조회
+     */
+    @Cacheable(cacheNames = CACHE_NAME, key = "#bookId")
+    public BookRatingSummaryResponse getSummary(Long bookId) {
+        return bookRatingSummaryRepository.findById(bookId)
+                .map(this::convertToResponse)
+                .orElseGet(() -> emptySummary(bookId));
+    }
+
+    /**
+     * 평점 증분 반영 (removedRating 제거, addedRating 추가 / 해당 없으면 null)
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CACHE_NAME, key = "#bookId")
+    public void applyChange(Long bookId, Integer removedRating, Integer addedRating) {
+        int[] histogramDelta = new int[6];
+        int countDelta = 0;
+        long sumDelta = 0;
+
+        if (removedRating != null) {
+            histogramDelta[removedRating]--;
+            countDelta--;
+            sumDelta -= removedRating;
+        }
+        if (addedRating != null) {
+            histogramDelta[addedRating]++;
+            countDelta++;
+            sumDelta += addedRating;
+        }
+
+        bookRatingSummaryRepository.applyDelta(bookId, countDelta, sumDelta,
+                histogramDelta[1], histogramDelta[2], histogramDelta[3], histogramDelta[4], histogramDelta[5]);
+    }
+
+    /**
+     * 평점 요약 정합성 검증 (매일 새벽, 어긋난 요약은 원본 기준으로 보정)
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CACHE_NAME, allEntries = true)
+    @Scheduled(cron = "${review.rating-summary.verify-cron:0 30 3 * * *}")
+    public void verify() {
+        int corrected = bookRatingSummaryRepository.reconcileWithReviews();
+        if (corrected > 0) {
+            log.warn("평점 요약 불일치 보정: count={}", corrected);
+        } else {
+            log.info("평점 요약 검증 완료: 불일치 없음");
+        }
+    }
+
+    /**
+     * BookRatingSummary -> BookRatingSummaryResponse 변환
+     */
+    private BookRatingSummaryResponse convertToResponse(BookRatingSummary summary) {
+        Map<Integer, Integer> distribution = new LinkedHashMap<>();
+        distribution.put(1, summary.getRating1());
+        distribution.put(2, summary.getRating2());
+        distribution.put(3, summary.getRating3());
+        distribution.put(4, summary.getRating4());
+        distribution.put(5, summary.getRating5());
+
+        double average = summary.getReviewCount() > 0
+                ? Math.round(summary.getRatingSum() * 100.0 / summary.getReviewCount()) / 100.0
+                : 0.0;
+
+        return BookRatingSummaryResponse.builder()
+                .bookId(summary.getBookId())
+                .reviewCount(summary.getReviewCount())
+                .averageRating(average)
+                .ratingDistribution(distribution)
+                .build();
+    }
+
+    private BookRatingSummaryResponse emptySummary(Long bookId) {
+        Map<Integer, Integer> distribution = new LinkedHashMap<>();
+        for (int rating = 1; rating <= 5; rating++) {
+            distribution.put(rating, 0);
+        }
+        return BookRatingSummaryResponse.builder()
+                .bookId(bookId)
+                .reviewCount(0)
+                .averageRating(0.0)
+                .ratingDistribution(distribution)
+                .build();
+    }
+}
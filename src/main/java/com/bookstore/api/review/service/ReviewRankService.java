@@ -0,0 +1,98 @@
+package com.bookstore.api.review.service;
+
+import com.bookstore.api.review.repository.ReviewRankRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 리뷰 추천순 점수 관리
+ * - 좋아요/평점이 바뀐 리뷰는 review:rank:dirty Set에 기록 → 주기적으로 일괄 재계산
+ * - 매일 전체 리뷰를 id 구간별로 재계산 (누락분 보정 / 가중치 설정 변경 반영)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewRankService {
+
+    private static final String DIRTY_KEY = "review:rank:dirty";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ReviewRankRepository reviewRankRepository;
+
+    @Value("${review.rank.decay-days:7}")
+    private long decayDays;
+
+    @Value("${review.rank.batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * 단건 즉시 재계산 (리뷰 작성/평점 수정 시 같은 트랜잭션에서 호출)
+     */
+    public void refreshNow(Long reviewId) {
+        reviewRankRepository.refresh(List.of(reviewId), decaySeconds());
+    }
+
+    /**
+     * 점수 재계산 대상 등록
+     */
+    public void markDirty(Collection<Long> reviewIds) {
+        if (reviewIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForSet().add(DIRTY_KEY, reviewIds.stream()
+                .map(String::valueOf)
+                .toArray(String[]::new));
+    }
+
+    /**
+     * 변경된 리뷰 점수 재계산
+     */
+    @Scheduled(fixedDelayString = "${review.rank.refresh-interval-ms:5000}")
+    public void refreshDirty() {
+        List<String> members;
+        try {
+            members = redisTemplate.opsForSet().pop(DIRTY_KEY, batchSize);
+        } catch (Exception e) {
+            log.error("리뷰 점수 재계산 대상 조회 실패", e);
+            return;
+        }
+        if (members == null || members.isEmpty()) {
+            return;
+        }
+
+        List<Long> reviewIds = members.stream().map(Long::parseLong).collect(Collectors.toList());
+        try {
+            int updated = reviewRankRepository.refresh(reviewIds, decaySeconds());
+            log.debug("리뷰 점수 재계산: count={}", updated);
+        } catch (Exception e) {
+            log.error("리뷰 점수 재계산 실패: count={}", reviewIds.size(), e);
+            redisTemplate.opsForSet().add(DIRTY_KEY, members.toArray(String[]::new));
+        }
+    }
+
+    /**
+     * 전체 리뷰 점수 재계산 (id 구간별 배치)
+     */
+    @Scheduled(cron = "${review.rank.full-refresh-cron:0 0 4 * * *}")
+    public void refreshAll() {
+        long maxId = reviewRankRepository.findMaxId();
+        long updated = 0;
+        for (long fromId = 0; fromId < maxId; fromId += batchSize) {
+            updated += reviewRankRepository.refreshRange(fromId, Math.min(fromId + batchSize, maxId), decaySeconds());
+        }
+        log.info("리뷰 점수 전체 재계산 완료: count={}", updated);
+    }
+
+    private double decaySeconds() {
+        return TimeUnit.DAYS.toSeconds(decayDays);
+    }
+}
@@ -4,6 +4,8 @@ import com.bookstore.api.book.entity.Book;
 import com.bookstore.api.book.repository.BookRepository;
 import com.bookstore.api.common.exception.BusinessException;
 import com.bookstore.api.common.exception.ErrorCode;
+import com.bookstore.api.common.loader.DataLoader;
+import com.bookstore.api.common.loader.DataLoaderRegistry;
 import com.bookstore.api.review.dto.CreateReviewRequest;
 import com.bookstore.api.review.dto.ReviewResponse;
 import com.bookstore.api.review.dto.UpdateReviewRequest;
@@ -14,7 +16,9 @@ import com.bookstore.api.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +31,9 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final BookRepository bookRepository;
     private final UserRepository userRepository;
+    private final BookRatingSummaryService bookRatingSummaryService;
+    private final ReviewRankService reviewRankService;
+    private final DataLoaderRegistry dataLoaderRegistry;
 
     /**
      * 리뷰 작성
@@ -54,6 +61,8 @@ public class ReviewService {
                 .build();
 
         Review savedReview = reviewRepository.save(review);
+        bookRatingSummaryService.applyChange(request.getBookId(), null, request.getRating());
+        reviewRankService.refreshNow(savedReview.getId());
         log.info("리뷰 생성: reviewId={}, userId={}, bookId={}", savedReview.getId(), userId, request.getBookId());
 
         return convertToResponse(savedReview, user, book);
@@ -63,24 +72,23 @@ public class ReviewService {
      * 도서별 리뷰 목록 조회
      */
     public Page<ReviewResponse> getReviewsByBook(Long bookId, Pageable pageable) {
-        return reviewRepository.findByBookId(bookId, pageable)
-                .map(review -> {
-                    User user = userRepository.findById(review.getUserId()).orElse(null);
-                    Book book = bookRepository.findById(review.getBookId()).orElse(null);
-                    return convertToResponse(review, user, book);
-                });
+        return convertToResponses(reviewRepository.findByBookId(bookId, pageable));
+    }
+
+    /**
+     * 도서별 리뷰 목록 조회 (추천순, rank_score 인덱스 사용)
+     */
+    public Page<ReviewResponse> getHelpfulReviewsByBook(Long bookId, Pageable pageable) {
+        Pageable rankPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                Sort.by(Sort.Direction.DESC, "rankScore", "id"));
+        return convertToResponses(reviewRepository.findByBookId(bookId, rankPageable));
     }
 
     /**
      * 내 리뷰 목록 조회
      */
     public Page<ReviewResponse> getMyReviews(Long userId, Pageable pageable) {
-        return reviewRepository.findByUserId(userId, pageable)
-                .map(review -> {
-                    User user = userRepository.findById(userId).orElse(null);
-                    Book book = bookRepository.findById(review.getBookId()).orElse(null);
-                    return convertToResponse(review, user, book);
-                });
+        return convertToResponses(reviewRepository.findByUserId(userId, pageable));
     }
 
     /**
@@ -96,11 +104,19 @@ public class ReviewService {
             throw new BusinessException(ErrorCode.FORBIDDEN, "본인의 리뷰만 수정할 수 있습니다");
         }
 
+        Integer oldRating = review.getRating();
         review.update(
                 request.getRating() != null ? request.getRating() : review.getRating(),
                 request.getComment() != null ? request.getComment() : review.getComment()
         );
 
+        // 평점이 바뀐 경우에만 요약 반영
+        if (!oldRating.equals(review.getRating())) {
+            bookRatingSummaryService.applyChange(review.getBookId(), oldRating, review.getRating());
+            reviewRepository.flush();
+            reviewRankService.refreshNow(review.getId());
+        }
+
         User user = userRepository.findById(userId).orElse(null);
         Book book = bookRepository.findById(review.getBookId()).orElse(null);
 
@@ -123,9 +139,26 @@ public class ReviewService {
         }
 
         reviewRepository.delete(review);
+        bookRatingSummaryService.applyChange(review.getBookId(), review.getRating(), null);
         log.info("리뷰 삭제: reviewId={}", reviewId);
     }
 
+    /**
+     * Review 페이지 -> ReviewResponse 페이지 변환 (사용자/도서는 IN 조회로 일괄 로딩)
+     */
+    private Page<ReviewResponse> convertToResponses(Page<Review> reviews) {
+        DataLoader<Long, User> users = dataLoaderRegistry.users()
+                .prime(reviews.map(Review::getUserId).getContent());
+        DataLoader<Long, Book> books = dataLoaderRegistry.books()
+                .prime(reviews.map(Review::getBookId).getContent());
+
+        return reviews.map(review -> convertToResponse(
+                review,
+                users.load(review.getUserId()).orElse(null),
+                books.load(review.getBookId()).orElse(null)
+        ));
+    }
+
     /**
      * Review -> ReviewResponse 변환
      */
@@ -138,6 +171,8 @@ public class ReviewService {
                 .bookTitle(book != null ? book.getTitle() : "알 수 없음")
                 .rating(review.getRating())
                 .comment(review.getComment())
+                .likeCount(review.getLikeCount() != null ? review.getLikeCount() : 0)
+                .commentCount(review.getCommentCount() != null ? review.getCommentCount() : 0)
                 .createdAt(review.getCreatedAt())
                 .updatedAt(review.getUpdatedAt())
                 .build();
@@ -0,0 +1,89 @@
+package com.bookstore.api.security;
+
+import com.bookstore.api.common.exception.BusinessException;
+import com.bookstore.api.common.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시/검증 전용 스레드풀에서 실행하는 PasswordEncoder
+ * - BCrypt 연산(약 100ms CPU)이 요청 스레드 전체를 점유하지 않도록 동시 실행 수를 제한
+ * - 대기열이 가득 차거나 대기 시간이 초과되면 즉시 429 (TOO_MANY_REQUESTS)
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long timeoutMillis) {
+        this.delegate = delegate;
+        this.timeoutMillis = timeoutMillis;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task::get);
+        } catch (RejectedExecutionException e) {
+            log.warn("비밀번호 처리 대기열 초과: active={}, queued={}", executor.getActiveCount(), executor.getQueue().size());
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS, "요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("비밀번호 처리 대기 시간 초과: timeoutMs={}", timeoutMillis);
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS, "요청이 많아 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS, "요청이 많아 잠시 후 다시 시도해주세요.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
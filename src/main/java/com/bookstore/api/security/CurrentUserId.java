@@ -0,0 +1,17 @@
+package com.bookstore.api.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 현재 인증된 사용자 ID 주입 (Long)
+ * - required = false이면 인증되지 않은 요청에서 null
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUserId {
+
+    boolean required() default true;
+}
@@ -0,0 +1,44 @@
+package com.bookstore.api.security;
+
+import com.bookstore.api.common.exception.BusinessException;
+import com.bookstore.api.common.exception.ErrorCode;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * @CurrentUserId 파라미터에 SecurityContext의 사용자 ID 주입
+ */
+@Component
+public class CurrentUserIdArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUserId.class)
+                && Long.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(
+            MethodParameter parameter,
+            ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest,
+            WebDataBinderFactory binderFactory
+    ) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId();
+        }
+
+        CurrentUserId annotation = parameter.getParameterAnnotation(CurrentUserId.class);
+        if (annotation != null && !annotation.required()) {
+            return null;
+        }
+        throw new BusinessException(ErrorCode.UNAUTHORIZED);
+    }
+}
@@ -0,0 +1,35 @@
+package com.bookstore.api.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+
+/**
+ * JWT 인증 사용자 정보 (토큰 Claims만으로 생성, DB 조회 없음)
+ * - getUsername()은 기존과 같이 이메일을 반환
+ */
+@Getter
+public class UserPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final Collection<? extends GrantedAuthority> authorities;
+
+    public UserPrincipal(Long id, String email, Collection<? extends GrantedAuthority> authorities) {
+        this.id = id;
+        this.email = email;
+        this.authorities = authorities;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public String getPassword() {
+        return "";
+    }
+}
@@ -6,6 +6,7 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
@@ -22,6 +23,7 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
 
@@ -47,19 +49,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             // 2. 토큰이 존재하고 유효한 경우
             if (StringUtils.hasText(jwt)) {
-                // 2-1. 토큰 검증
-                jwtTokenProvider.validateToken(jwt);
+                // 2-1. 토큰 검증 (서명 검증/파싱은 요청당 한 번, 검증된 토큰은 캐시 사용)
+                Claims claims = jwtTokenProvider.verify(jwt);
 
-                // 2-2. Access Token인지 확인
-                if (!jwtTokenProvider.isAccessToken(jwt)) {
+                // 2-2. 로그아웃 등으로 폐기된 토큰인지 확인
+                if (tokenRevocationService.isRevoked(claims)) {
+                    throw new BusinessException(
+                            ErrorCode.INVALID_TOKEN,
+                            "폐기된 토큰입니다."
+                    );
+                }
+
+                // 2-3. Access Token인지 확인
+                if (!jwtTokenProvider.isAccessToken(claims)) {
                     throw new BusinessException(
                             ErrorCode.INVALID_TOKEN,
                             "Access Token이 아닙니다."
                     );
                 }
 
-                // 2-3. 인증 정보를 SecurityContext에 저장
-                Authentication authentication = jwtTokenProvider.getAuthentication(jwt);
+                // 2-4. 인증 정보를 SecurityContext에 저장
+                Authentication authentication = jwtTokenProvider.getAuthentication(claims, jwt);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
                 log.debug("Security Context에 '{}' 인증 정보를 저장했습니다.",
@@ -2,6 +2,7 @@ package com.bookstore.api.security.jwt;
 
 import com.bookstore.api.common.exception.BusinessException;
 import com.bookstore.api.common.exception.ErrorCode;
+import com.bookstore.api.security.UserPrincipal;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -10,8 +11,6 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
@@ -19,6 +18,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,15 +26,20 @@ import java.util.stream.Collectors;
 public class JwtTokenProvider {
 
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
+    private final VerifiedClaimsCache verifiedClaimsCache;
     private final long accessTokenValidityInMilliseconds;
     private final long refreshTokenValidityInMilliseconds;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-validity-in-seconds}") long accessTokenValidityInSeconds,
-            @Value("${jwt.refresh-token-validity-in-seconds}") long refreshTokenValidityInSeconds
+            @Value("${jwt.refresh-token-validity-in-seconds}") long refreshTokenValidityInSeconds,
+            VerifiedClaimsCache verifiedClaimsCache
     ) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
+        this.verifiedClaimsCache = verifiedClaimsCache;
         this.accessTokenValidityInMilliseconds = accessTokenValidityInSeconds * 1000;
         this.refreshTokenValidityInMilliseconds = refreshTokenValidityInSeconds * 1000;
     }
@@ -42,12 +47,15 @@ public class JwtTokenProvider {
     /**
      * Access Token 생성
      */
-    public String createAccessToken(String email, String role) {
+    public String createAccessToken(Long userId, String email, String role, String sessionId) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + accessTokenValidityInMilliseconds);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .setSubject(email)
+                .claim("uid", userId)
+                .claim("sid", sessionId)
                 .claim("role", role)
                 .claim("type", "access")
                 .setIssuedAt(now)
@@ -59,12 +67,14 @@ public class JwtTokenProvider {
     /**
      * Refresh Token 생성
      */
-    public String createRefreshToken(String email) {
+    public String createRefreshToken(String email, String sessionId) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + refreshTokenValidityInMilliseconds);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .setSubject(email)
+                .claim("sid", sessionId)
                 .claim("type", "refresh")
                 .setIssuedAt(now)
                 .setExpiration(validity)
@@ -76,18 +86,28 @@ public class JwtTokenProvider {
      * JWT 토큰에서 인증 정보 추출
      */
     public Authentication getAuthentication(String token) {
-        Claims claims = parseClaims(token);
+        return getAuthentication(parseClaims(token), token);
+    }
 
+    /**
+     * 검증된 Claims에서 인증 정보 추출
+     */
+    public Authentication getAuthentication(Claims claims, String token) {
         if (claims.get("role") == null) {
             throw new BusinessException(ErrorCode.INVALID_TOKEN, "권한 정보가 없는 토큰입니다.");
         }
 
+        Long userId = claims.get("uid", Long.class);
+        if (userId == null) {
+            throw new BusinessException(ErrorCode.INVALID_TOKEN, "사용자 정보가 없는 토큰입니다.");
+        }
+
         Collection<? extends GrantedAuthority> authorities =
                 Arrays.stream(claims.get("role").toString().split(","))
                         .map(SimpleGrantedAuthority::new)
                         .collect(Collectors.toList());
 
-        UserDetails principal = new User(claims.getSubject(), "", authorities);
+        UserPrincipal principal = new UserPrincipal(userId, claims.getSubject(), authorities);
         return new UsernamePasswordAuthenticationToken(principal, token, authorities);
     }
 
@@ -95,12 +115,27 @@ public class JwtTokenProvider {
      * 토큰 검증
      */
     public boolean validateToken(String token) {
+        verify(token);
+        return true;
+    }
+
+    /**
+     * 토큰 검증 후 Claims 반환 (검증된 토큰은 캐시에서 바로 반환)
+     */
+    public Claims verify(String token) {
+        Claims cached = verifiedClaimsCache.get(token);
+        if (cached != null) {
+            if (cached.getExpiration().before(new Date())) {
+                verifiedClaimsCache.evict(token);
+                throw new BusinessException(ErrorCode.TOKEN_EXPIRED, "만료된 JWT 토큰입니다.");
+            }
+            return cached;
+        }
+
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            verifiedClaimsCache.put(token, claims);
+            return claims;
         } catch (SecurityException | MalformedJwtException e) {
             log.error("잘못된 JWT 서명입니다.", e);
             throw new BusinessException(ErrorCode.INVALID_TOKEN, "잘못된 JWT 서명입니다.");
@@ -123,6 +158,13 @@ public class JwtTokenProvider {
         return parseClaims(token).getSubject();
     }
 
+    /**
+     * 토큰에서 세션 ID 추출
+     */
+    public String getSessionIdFromToken(String token) {
+        return parseClaims(token).get("sid", String.class);
+    }
+
     /**
      * 토큰에서 Role 추출
      */
@@ -144,6 +186,13 @@ public class JwtTokenProvider {
         return "access".equals(getTokenType(token));
     }
 
+    /**
+     * Access Token 여부 확인 (검증된 Claims)
+     */
+    public boolean isAccessToken(Claims claims) {
+        return "access".equals(claims.get("type", String.class));
+    }
+
     /**
      * Refresh Token 여부 확인
      */
@@ -164,12 +213,12 @@ public class JwtTokenProvider {
      * Claims 파싱
      */
     private Claims parseClaims(String token) {
+        Claims cached = verifiedClaimsCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
         try {
-            return Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
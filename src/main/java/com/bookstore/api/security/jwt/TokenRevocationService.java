@@ -0,0 +1,189 @@
+package com.bookstore.api.security.jwt;
+
+import com.bookstore.api.common.util.BloomFilter;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Access Token 폐기 목록 (로그아웃 등)
+ * - Redis token:revoked Sorted Set (member = jti 또는 세션 ID, score = 만료 시각 ms)에 기록
+ * - 세션 ID로 폐기하면 해당 세션에서 발급된 모든 Access Token이 거절됨
+ * - 각 노드는 폐기 목록을 Bloom filter로 보관 (주기적 재생성 + token:revoked 채널로 즉시 추가)
+ * - 요청마다 Bloom filter만 확인하고, 일치할 때만 Redis에서 실제 폐기 여부 확인
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private static final String REVOKED_KEY = "token:revoked";
+    private static final String CHANNEL = "token:revoked";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final long accessTokenValidityInMillis;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter bloomFilter;
+
+    // Redis 조회 중 가상 스레드가 캐리어에 고정되지 않도록 synchronized 대신 사용
+    private final ReentrantLock filterLock = new ReentrantLock();
+
+    public TokenRevocationService(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            @Value("${jwt.access-token-validity-in-seconds}") long accessTokenValidityInSeconds,
+            @Value("${jwt.revocation.expected-insertions:100000}") long expectedInsertions,
+            @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.accessTokenValidityInMillis = accessTokenValidityInSeconds * 1000;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * 다른 노드의 폐기 알림 구독
+     */
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener((message, pattern) ->
+                add(new String(message.getBody(), StandardCharsets.UTF_8)), new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 애플리케이션 시작 시 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        rebuild();
+    }
+
+    /**
+     * 주기적 재생성 (만료된 항목 정리 + Bloom filter 포화 방지)
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval-ms:60000}",
+            initialDelayString = "${jwt.revocation.rebuild-interval-ms:60000}")
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("토큰 폐기 목록 재생성 실패", e);
+        }
+    }
+
+    /**
+     * Access Token 폐기
+     */
+    public void revoke(Claims claims) {
+        String jti = claims.getId();
+        if (jti == null || claims.getExpiration() == null) {
+            return;
+        }
+
+        redisTemplate.opsForZSet().add(REVOKED_KEY, jti, claims.getExpiration().getTime());
+        add(jti);
+        redisTemplate.convertAndSend(CHANNEL, jti);
+        log.debug("Access Token 폐기: jti={}", jti);
+    }
+
+    /**
+     * 세션 단위 폐기 (세션에서 발급된 Access Token이 모두 만료될 때까지 유지, 파이프라인 1회)
+     */
+    public void revokeSessions(Collection<String> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return;
+        }
+
+        double expiresAt = System.currentTimeMillis() + accessTokenValidityInMillis;
+        Set<ZSetOperations.TypedTuple<String>> tuples = sessionIds.stream()
+                .map(sessionId -> ZSetOperations.TypedTuple.of(sessionId, expiresAt))
+                .collect(Collectors.toSet());
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForZSet().add(REVOKED_KEY, tuples);
+                sessionIds.forEach(sessionId -> ops.convertAndSend(CHANNEL, sessionId));
+                return null;
+            }
+        });
+        sessionIds.forEach(this::add);
+        log.debug("세션 Access Token 폐기: sessionIds={}", sessionIds);
+    }
+
+    /**
+     * 폐기된 토큰인지 확인 (jti, 세션 ID 모두 Bloom filter에 없으면 Redis 조회 생략)
+     */
+    public boolean isRevoked(Claims claims) {
+        BloomFilter filter = bloomFilter;
+        return isListed(filter, claims.getId()) || isListed(filter, claims.get("sid", String.class));
+    }
+
+    private boolean isListed(BloomFilter filter, String id) {
+        if (id == null || !filter.mightContain(id)) {
+            return false;
+        }
+
+        try {
+            return redisTemplate.opsForZSet().score(REVOKED_KEY, id) != null;
+        } catch (Exception e) {
+            log.error("토큰 폐기 여부 조회 실패: id={}", id, e);
+            return false;
+        }
+    }
+
+    /**
+     * Redis 폐기 목록으로 Bloom filter 재생성 (교체 중 들어온 알림이 빠지지 않도록 add와 같은 락 사용)
+     */
+    public void rebuild() {
+        filterLock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            redisTemplate.opsForZSet().removeRangeByScore(REVOKED_KEY, Double.NEGATIVE_INFINITY, now);
+            Set<String> revoked = redisTemplate.opsForZSet().rangeByScore(REVOKED_KEY, now, Double.POSITIVE_INFINITY);
+
+            BloomFilter next = new BloomFilter(
+                    Math.max(expectedInsertions, revoked != null ? revoked.size() * 2L : 0), falsePositiveRate);
+            if (revoked != null) {
+                revoked.forEach(next::put);
+            }
+            bloomFilter = next;
+            log.debug("토큰 폐기 목록 적재: count={}", revoked != null ? revoked.size() : 0);
+        } finally {
+            filterLock.unlock();
+        }
+    }
+
+    private void add(String id) {
+        filterLock.lock();
+        try {
+            bloomFilter.put(id);
+        } finally {
+            filterLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.bookstore.api.security.jwt;
+
+import com.bookstore.api.common.util.DigestUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증이 끝난 토큰의 Claims 캐시 (로컬)
+ * - 키: 토큰의 SHA-256 다이제스트 (토큰 원문은 보관하지 않음)
+ * - 항목은 토큰 만료 시각과 설정 TTL 중 빠른 시점에 만료
+ */
+@Component
+public class VerifiedClaimsCache {
+
+    private final Cache<String, Claims> cache;
+
+    public VerifiedClaimsCache(
+            @Value("${jwt.claims-cache.max-size:10000}") long maxSize,
+            @Value("${jwt.claims-cache.ttl-seconds:300}") long ttlSeconds
+    ) {
+        long ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        long untilExpiry = TimeUnit.MILLISECONDS.toNanos(
+                                claims.getExpiration().getTime() - System.currentTimeMillis());
+                        return Math.max(0, Math.min(ttlNanos, untilExpiry));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 캐시된 Claims 조회 (없거나 만료되면 null)
+     */
+    public Claims get(String token) {
+        return cache.getIfPresent(digest(token));
+    }
+
+    /**
+     * 검증된 Claims 저장 (만료 시각이 없는 토큰은 저장하지 않음)
+     */
+    public void put(String token, Claims claims) {
+        if (claims.getExpiration() != null) {
+            cache.put(digest(token), claims);
+        }
+    }
+
+    /**
+     * 토큰 제거
+     */
+    public void evict(String token) {
+        cache.invalidate(digest(token));
+    }
+
+    private String digest(String token) {
+        return DigestUtil.sha256(token);
+    }
+}
@@ -0,0 +1,78 @@
+package com.bookstore.api.security.ratelimit;
+
+import com.bookstore.api.common.dto.ErrorResponse;
+import com.bookstore.api.common.exception.ErrorCode;
+import com.bookstore.api.common.util.ClientIpUtil;
+import com.bookstore.api.security.UserPrincipal;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 요청 속도 제한 필터 (JWT 인증 이후 실행)
+ * - 인증된 요청은 사용자 ID, 그 외에는 클라이언트 IP(ClientIpUtil, 신뢰 프록시 기준) 기준으로 버킷 적용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        Optional<RateLimitProperties.Policy> policy = rateLimiter.findPolicy(request.getRequestURI());
+        if (policy.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = rateLimiter.tryAcquire(policy.get(), resolveSubject(request));
+        if (retryAfterSeconds == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        log.warn("요청 속도 제한 초과: policy={}, path={}", policy.get().getName(), request.getRequestURI());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .path(request.getRequestURI())
+                .status(ErrorCode.RATE_LIMIT_EXCEEDED.getStatus().value())
+                .code(ErrorCode.RATE_LIMIT_EXCEEDED.getCode())
+                .message(ErrorCode.RATE_LIMIT_EXCEEDED.getMessage())
+                .build();
+
+        response.setStatus(ErrorCode.RATE_LIMIT_EXCEEDED.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType("application/json;charset=UTF-8");
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    }
+
+    private String resolveSubject(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return "user:" + principal.getId();
+        }
+        return "ip:" + ClientIpUtil.resolve(request);
+    }
+}
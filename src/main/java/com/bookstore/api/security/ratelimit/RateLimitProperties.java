@@ -0,0 +1,45 @@
+package com.bookstore.api.security.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 속도 제한 설정 (rate-limit.*)
+ * - policies는 위에서부터 처음 일치하는 경로 정책 하나만 적용
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 클러스터(Redis) 동기화 주기
+    private long syncIntervalMs = 1000;
+
+    // 노드별 최대 버킷 수 (오래 사용하지 않은 버킷부터 제거)
+    private long maxBuckets = 100_000;
+
+    private List<Policy> policies = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Policy {
+
+        private String name;
+
+        private List<String> patterns = new ArrayList<>();
+
+        // 버킷 용량 (순간 최대 요청 수)
+        private long capacity;
+
+        // 초당 충전 토큰 수
+        private double refillPerSecond;
+    }
+}
@@ -0,0 +1,153 @@
+package com.bookstore.api.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 토큰 버킷 요청 속도 제한
+ * - 요청마다 로컬 버킷만 확인하고, 주기적으로 Redis 스크립트 1회로 클러스터 버킷과 맞춤
+ * - 동기화 때 노드 생존 기록도 갱신하고, 각 노드는 정책 충전 속도를 살아 있는 노드 수로 나눠 충전
+ *   (지속 처리량은 클러스터 전체에서 정책 한도, 순간 허용량만 동기화 주기 동안 노드 수만큼 초과될 수 있음)
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "rate_limit:";
+    private static final String NODES_KEY = "rate_limit:nodes";
+    private static final int SYNC_BATCH_SIZE = 500;
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SYNC_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/rate-limit-sync.lua"), List.class);
+
+    private final RateLimitProperties properties;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Cache<String, TokenBucket> buckets;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 마지막 동기화에서 확인한 살아 있는 노드 수 (Redis 장애 중에는 마지막 값 유지)
+    private volatile int liveNodes = 1;
+
+    public RateLimiter(RateLimitProperties properties, RedisTemplate<String, String> redisTemplate) {
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+    }
+
+    /**
+     * 요청 경로에 적용할 정책 (처음 일치하는 정책)
+     */
+    public Optional<RateLimitProperties.Policy> findPolicy(String path) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+        for (RateLimitProperties.Policy policy : properties.getPolicies()) {
+            for (String pattern : policy.getPatterns()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return Optional.of(policy);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 토큰 1개 사용 시도 - 허용되면 0, 거절되면 재시도까지 남은 시간(초)
+     */
+    public long tryAcquire(RateLimitProperties.Policy policy, String subject) {
+        String key = policy.getName() + ":" + subject;
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(k, policy));
+        int nodes = liveNodes;
+        return bucket.tryConsume(nodes) ? 0 : bucket.secondsUntilNextToken(nodes);
+    }
+
+    /**
+     * 클러스터 버킷 동기화 (최근 사용된 버킷만, 사용된 버킷이 없어도 노드 생존 기록은 갱신)
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.sync-interval-ms:1000}")
+    public void sync() {
+        List<TokenBucket> batch = new ArrayList<>(SYNC_BATCH_SIZE);
+        List<Long> consumed = new ArrayList<>(SYNC_BATCH_SIZE);
+        boolean synced = false;
+
+        for (TokenBucket bucket : buckets.asMap().values()) {
+            long count = bucket.drainForSync();
+            if (count < 0) continue;
+
+            batch.add(bucket);
+            consumed.add(count);
+            if (batch.size() == SYNC_BATCH_SIZE) {
+                syncBatch(batch, consumed);
+                batch.clear();
+                consumed.clear();
+                synced = true;
+            }
+        }
+        if (!batch.isEmpty() || !synced) {
+            syncBatch(batch, consumed);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void syncBatch(List<TokenBucket> batch, List<Long> consumed) {
+        List<String> keys = new ArrayList<>(batch.size() + 1);
+        List<String> args = new ArrayList<>(batch.size() * 3 + 3);
+        keys.add(NODES_KEY);
+        args.add(String.valueOf(bucketTtlSeconds()));
+        args.add(nodeId);
+        args.add(String.valueOf(nodeTimeoutMs()));
+
+        for (int i = 0; i < batch.size(); i++) {
+            RateLimitProperties.Policy policy = batch.get(i).getPolicy();
+            keys.add(KEY_PREFIX + batch.get(i).getKey());
+            args.add(String.valueOf(policy.getCapacity()));
+            args.add(String.valueOf(policy.getRefillPerSecond() / 1000d));
+            args.add(String.valueOf(consumed.get(i)));
+        }
+
+        try {
+            List<String> result = redisTemplate.execute(SYNC_SCRIPT, keys, args.toArray());
+            if (result == null || result.isEmpty()) return;
+            int nodes = Math.max(1, Integer.parseInt(result.get(0)));
+            liveNodes = nodes;
+            for (int i = 0; i < batch.size() && i + 1 < result.size(); i++) {
+                batch.get(i).reconcile(Double.parseDouble(result.get(i + 1)), nodes);
+            }
+        } catch (Exception e) {
+            // 다음 주기에 다시 반영
+            log.error("요청 속도 제한 동기화 실패: count={}", batch.size(), e);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).restore(consumed.get(i));
+            }
+        }
+    }
+
+    /**
+     * 이 시간 동안 동기화하지 않은 노드는 죽은 것으로 보고 충전 몫 계산에서 제외
+     */
+    private long nodeTimeoutMs() {
+        return Math.max(3000, properties.getSyncIntervalMs() * 3);
+    }
+
+    private long bucketTtlSeconds() {
+        return Math.max(60, Duration.ofMillis(properties.getSyncIntervalMs()).toSeconds() * 10);
+    }
+}
@@ -0,0 +1,104 @@
+package com.bookstore.api.security.ratelimit;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 로컬 토큰 버킷
+ * - 요청 처리 경로에서는 이 객체만 사용 (Redis 호출 없음)
+ * - 마지막 동기화 이후 소비량을 모아 두었다가 RateLimiter가 클러스터 버킷에 반영
+ * - 충전 속도는 정책 속도를 살아 있는 노드 수로 나눈 몫 (노드가 늘어도 클러스터 전체 충전량은 정책 속도)
+ */
+class TokenBucket {
+
+    private final String key;
+    private final RateLimitProperties.Policy policy;
+    private final double refillPerNano;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillNanos;
+    private long pendingConsumed;
+    private boolean touched;
+
+    TokenBucket(String key, RateLimitProperties.Policy policy) {
+        this(key, policy, System::nanoTime);
+    }
+
+    TokenBucket(String key, RateLimitProperties.Policy policy, LongSupplier nanoClock) {
+        this.key = key;
+        this.policy = policy;
+        this.refillPerNano = policy.getRefillPerSecond() / 1_000_000_000d;
+        this.nanoClock = nanoClock;
+        this.tokens = policy.getCapacity();
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    RateLimitProperties.Policy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * 토큰 1개 사용 시도
+     */
+    synchronized boolean tryConsume(int liveNodes) {
+        refill(liveNodes);
+        touched = true;
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        pendingConsumed++;
+        return true;
+    }
+
+    /**
+     * 다음 토큰까지 남은 시간 (초, 올림)
+     */
+    synchronized long secondsUntilNextToken(int liveNodes) {
+        double nodeRefillPerNano = refillPerNano / Math.max(1, liveNodes);
+        if (tokens >= 1 || nodeRefillPerNano <= 0) {
+            return 1;
+        }
+        return Math.max(1, (long) Math.ceil((1 - tokens) / nodeRefillPerNano / 1_000_000_000d));
+    }
+
+    /**
+     * 동기화 대상이면 미반영 소비량을 꺼냄 (대상이 아니면 -1)
+     */
+    synchronized long drainForSync() {
+        if (!touched) {
+            return -1;
+        }
+        long consumed = pendingConsumed;
+        pendingConsumed = 0;
+        touched = false;
+        return consumed;
+    }
+
+    /**
+     * 동기화 실패 시 소비량 되돌리기
+     */
+    synchronized void restore(long consumed) {
+        pendingConsumed += consumed;
+        touched = true;
+    }
+
+    /**
+     * 클러스터 잔여 토큰 반영 (다른 노드의 소비만큼 로컬 토큰 축소)
+     */
+    synchronized void reconcile(double clusterTokens, int liveNodes) {
+        refill(liveNodes);
+        tokens = Math.min(tokens, clusterTokens);
+    }
+
+    private void refill(int liveNodes) {
+        long now = nanoClock.getAsLong();
+        double nodeRefillPerNano = refillPerNano / Math.max(1, liveNodes);
+        tokens = Math.min(policy.getCapacity(), tokens + (now - lastRefillNanos) * nodeRefillPerNano);
+        lastRefillNanos = now;
+    }
+}
@@ -3,8 +3,12 @@ package com.bookstore.api.seller.controller;
 import com.bookstore.api.common.dto.ApiResponse;
 import com.bookstore.api.common.dto.PageResponse;
 import com.bookstore.api.seller.dto.CreateSellerRequest;
+import com.bookstore.api.seller.dto.SellerBookSalesResponse;
+import com.bookstore.api.seller.dto.SellerDailySalesResponse;
 import com.bookstore.api.seller.dto.SellerResponse;
+import com.bookstore.api.seller.dto.SellerStatusSalesResponse;
 import com.bookstore.api.seller.dto.UpdateSellerRequest;
+import com.bookstore.api.seller.service.SellerSalesService;
 import com.bookstore.api.seller.service.SellerService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -19,10 +23,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/sellers")
@@ -31,6 +39,7 @@ import org.springframework.web.bind.annotation.*;
 public class SellerController {
 
     private final SellerService sellerService;
+    private final SellerSalesService sellerSalesService;
 
     @Operation(summary = "판매자 생성", description = "새로운 판매자를 등록합니다. (관리자 전용)")
     @SecurityRequirement(name = "JWT")
@@ -218,4 +227,70 @@ public class SellerController {
         SellerResponse response = sellerService.deactivateSeller(sellerId);
         return ApiResponse.success("판매자가 비활성화되었습니다.", response);
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "판매자 일별 매출", description = "기간 내 일별 매출을 조회합니다. 취소 주문은 제외됩니다. (관리자 전용)")
+    @SecurityRequirement(name = "JWT")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "조회 기간 오류",
+                    content = @Content(schema = @Schema(implementation = com.bookstore.api.common.dto.ErrorResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "판매자를 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = com.bookstore.api.common.dto.ErrorResponse.class))
+            )
+    })
+    @GetMapping("/{sellerId}/sales/daily")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<List<SellerDailySalesResponse>> getDailySales(
+            @Parameter(description = "판매자 ID", example = "1")
+            @PathVariable Long sellerId,
+            @Parameter(description = "시작일", example = "2025-12-01")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일", example = "2025-12-31")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        log.info("판매자 일별 매출 조회: sellerId={}, from={}, to={}", sellerId, from, to);
+        return ApiResponse.success(sellerSalesService.getDailySales(sellerId, from, to));
+    }
+
+    @Operation(summary = "판매자 도서별 매출", description = "기간 내 매출 상위 도서를 조회합니다. 취소 주문은 제외됩니다. (관리자 전용)")
+    @SecurityRequirement(name = "JWT")
+    @GetMapping("/{sellerId}/sales/books")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<List<SellerBookSalesResponse>> getBookSales(
+            @Parameter(description = "판매자 ID", example = "1")
+            @PathVariable Long sellerId,
+            @Parameter(description = "시작일", example = "2025-12-01")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일", example = "2025-12-31")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "조회할 도서 수 (최대 100)", example = "10")
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        log.info("판매자 도서별 매출 조회: sellerId={}, from={}, to={}", sellerId, from, to);
+        return ApiResponse.success(sellerSalesService.getBookSales(sellerId, from, to, limit));
+    }
+
+    @Operation(summary = "판매자 상태별 매출", description = "기간 내 주문 상태별 매출을 조회합니다. (관리자 전용)")
+    @SecurityRequirement(name = "JWT")
+    @GetMapping("/{sellerId}/sales/status")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<List<SellerStatusSalesResponse>> getStatusSales(
+            @Parameter(description = "판매자 ID", example = "1")
+            @PathVariable Long sellerId,
+            @Parameter(description = "시작일", example = "2025-12-01")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일", example = "2025-12-31")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        log.info("판매자 상태별 매출 조회: sellerId={}, from={}, to={}", sellerId, from, to);
+        return ApiResponse.success(sellerSalesService.getStatusSales(sellerId, from, to));
+    }
+}
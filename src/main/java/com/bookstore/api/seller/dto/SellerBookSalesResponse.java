@@ -0,0 +1,32 @@
+package com.bookstore.api.seller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "판매자 도서별 매출 응답")
+public class SellerBookSalesResponse {
+
+    @Schema(description = "도서 ID", example = "1")
+    private Long bookId;
+
+    @Schema(description = "도서 제목", example = "클린 코드")
+    private String title;
+
+    @Schema(description = "주문 항목 수", example = "42")
+    private Long itemCount;
+
+    @Schema(description = "판매 수량", example = "57")
+    private Long quantity;
+
+    @Schema(description = "판매 금액", example = "855000.00")
+    private BigDecimal amount;
+}
@@ -0,0 +1,30 @@
+package com.bookstore.api.seller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "판매자 일별 매출 응답")
+public class SellerDailySalesResponse {
+
+    @Schema(description = "주문일", example = "2025-12-14")
+    private LocalDate date;
+
+    @Schema(description = "주문 항목 수", example = "42")
+    private Long itemCount;
+
+    @Schema(description = "판매 수량", example = "57")
+    private Long quantity;
+
+    @Schema(description = "판매 금액", example = "855000.00")
+    private BigDecimal amount;
+}
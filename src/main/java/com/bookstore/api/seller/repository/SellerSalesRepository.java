@@ -0,0 +1,166 @@
+package com.bookstore.api.seller.repository;
+
+import com.bookstore.api.seller.dto.SellerBookSalesResponse;
+import com.bookstore.api.seller.dto.SellerDailySalesResponse;
+import com.bookstore.api.seller.dto.SellerStatusSalesResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 판매자 매출 집계 저장소 (seller_sales_daily, JDBC)
+ * - 조회는 집계 테이블만 사용 (order_items GROUP BY 없음)
+ * - 증분 반영은 공유 advisory lock, 재집계는 배타 advisory lock으로 서로 겹치지 않게 실행
+ *   (증분 반영은 주문 트랜잭션 안에서 lock을 잡아 재집계 스냅샷과 주문 변경이 어긋나지 않음)
+ * - lock은 주문일 단위 → 재집계는 하루씩 짧은 트랜잭션으로 처리하고, 그동안 대기하는 주문 변경은 그 날짜의 주문뿐
+ */
+@Repository
+@RequiredArgsConstructor
+public class SellerSalesRepository {
+
+    private static final String SHARED_LOCK_SQL =
+            "SELECT pg_advisory_xact_lock_shared(hashtext('seller_sales_daily'), ?)";
+
+    private static final String EXCLUSIVE_LOCK_SQL =
+            "SELECT pg_advisory_xact_lock(hashtext('seller_sales_daily'), ?)";
+
+    private static final String ORDER_DATES_SQL =
+            "SELECT DISTINCT CAST(created_at AS DATE) AS sales_date FROM order_items " +
+            "WHERE order_id = ? ORDER BY sales_date";
+
+    private static final String SAVEPOINT_SQL = "SAVEPOINT seller_sales_delta";
+    private static final String RELEASE_SAVEPOINT_SQL = "RELEASE SAVEPOINT seller_sales_delta";
+    private static final String ROLLBACK_TO_SAVEPOINT_SQL = "ROLLBACK TO SAVEPOINT seller_sales_delta";
+
+    private static final String APPLY_ORDER_SQL =
+            "INSERT INTO seller_sales_daily (seller_id, sales_date, book_id, status, item_count, quantity, amount, updated_at) " +
+            "SELECT b.seller_id, CAST(oi.created_at AS DATE), oi.book_id, ?, " +
+            "? * COUNT(*), ? * SUM(oi.quantity), ? * SUM(oi.price * oi.quantity), NOW() " +
+            "FROM order_items oi JOIN books b ON b.id = oi.book_id " +
+            "WHERE oi.order_id = ? AND b.seller_id IS NOT NULL " +
+            "GROUP BY b.seller_id, CAST(oi.created_at AS DATE), oi.book_id " +
+            "ON CONFLICT (seller_id, sales_date, book_id, status) DO UPDATE SET " +
+            "item_count = seller_sales_daily.item_count + EXCLUDED.item_count, " +
+            "quantity = seller_sales_daily.quantity + EXCLUDED.quantity, " +
+            "amount = seller_sales_daily.amount + EXCLUDED.amount, " +
+            "updated_at = NOW()";
+
+    private static final String DELETE_DAY_SQL =
+            "DELETE FROM seller_sales_daily WHERE sales_date = ?";
+
+    private static final String REBUILD_DAY_SQL =
+            "INSERT INTO seller_sales_daily (seller_id, sales_date, book_id, status, item_count, quantity, amount, updated_at) " +
+            "SELECT b.seller_id, CAST(oi.created_at AS DATE), oi.book_id, oi.status, " +
+            "COUNT(*), SUM(oi.quantity), SUM(oi.price * oi.quantity), NOW() " +
+            "FROM order_items oi JOIN books b ON b.id = oi.book_id " +
+            "WHERE oi.created_at >= ? AND oi.created_at < ? AND b.seller_id IS NOT NULL " +
+            "GROUP BY b.seller_id, CAST(oi.created_at AS DATE), oi.book_id, oi.status";
+
+    private static final String DAILY_SQL =
+            "SELECT sales_date, SUM(item_count) AS item_count, SUM(quantity) AS quantity, SUM(amount) AS amount " +
+            "FROM seller_sales_daily " +
+            "WHERE seller_id = ? AND sales_date BETWEEN ? AND ? AND status <> 'CANCELED' " +
+            "GROUP BY sales_date ORDER BY sales_date";
+
+    private static final String BY_BOOK_SQL =
+            "SELECT s.book_id, b.title, SUM(s.item_count) AS item_count, SUM(s.quantity) AS quantity, SUM(s.amount) AS amount " +
+            "FROM seller_sales_daily s JOIN books b ON b.id = s.book_id " +
+            "WHERE s.seller_id = ? AND s.sales_date BETWEEN ? AND ? AND s.status <> 'CANCELED' " +
+            "GROUP BY s.book_id, b.title " +
+            "HAVING SUM(s.item_count) > 0 " +
+            "ORDER BY SUM(s.amount) DESC, s.book_id " +
+            "LIMIT ?";
+
+    private static final String BY_STATUS_SQL =
+            "SELECT status, SUM(item_count) AS item_count, SUM(quantity) AS quantity, SUM(amount) AS amount " +
+            "FROM seller_sales_daily " +
+            "WHERE seller_id = ? AND sales_date BETWEEN ? AND ? " +
+            "GROUP BY status HAVING SUM(item_count) > 0 ORDER BY status";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 주문 상태 변경을 집계에 반영 (이전 상태에서 빼고 새 상태에 더함) - 주문 변경과 같은 트랜잭션 안에서 호출
+     * - 같은 커넥션의 SAVEPOINT로 감싸 실패 시 집계 반영만 되돌리고 예외를 다시 던짐 (주문 트랜잭션은 계속 사용 가능)
+     */
+    public void applyStatusChange(Long orderId, String previousStatus, String newStatus) {
+        jdbcTemplate.execute(SAVEPOINT_SQL);
+        try {
+            // 주문 항목의 주문일별 공유 lock (날짜순으로 잡아 교착 방지)
+            List<Date> salesDates = jdbcTemplate.queryForList(ORDER_DATES_SQL, Date.class, orderId);
+            for (Date salesDate : salesDates) {
+                jdbcTemplate.queryForList(SHARED_LOCK_SQL, lockKey(salesDate.toLocalDate()));
+            }
+            if (previousStatus != null) {
+                jdbcTemplate.update(APPLY_ORDER_SQL, previousStatus, -1, -1, -1, orderId);
+            }
+            jdbcTemplate.update(APPLY_ORDER_SQL, newStatus, 1, 1, 1, orderId);
+            jdbcTemplate.execute(RELEASE_SAVEPOINT_SQL);
+        } catch (DataAccessException e) {
+            jdbcTemplate.execute(ROLLBACK_TO_SAVEPOINT_SQL);
+            throw e;
+        }
+    }
+
+    /**
+     * 하루치 집계를 order_items 기준으로 다시 생성 - 트랜잭션 안에서 호출
+     * - 그 날짜의 배타 lock만 잡으므로 다른 날짜 주문의 증분 반영은 기다리지 않음
+     * - 커밋 전까지 조회는 기존 집계를 그대로 봄
+     */
+    public int rebuildDay(LocalDate day) {
+        jdbcTemplate.queryForList(EXCLUSIVE_LOCK_SQL, lockKey(day));
+        jdbcTemplate.update(DELETE_DAY_SQL, Date.valueOf(day));
+        return jdbcTemplate.update(REBUILD_DAY_SQL,
+                Timestamp.valueOf(day.atStartOfDay()), Timestamp.valueOf(day.plusDays(1).atStartOfDay()));
+    }
+
+    /**
+     * 일별 매출 (취소 제외)
+     */
+    public List<SellerDailySalesResponse> findDaily(Long sellerId, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(DAILY_SQL, (rs, rowNum) -> SellerDailySalesResponse.builder()
+                        .date(rs.getDate("sales_date").toLocalDate())
+                        .itemCount(rs.getLong("item_count"))
+                        .quantity(rs.getLong("quantity"))
+                        .amount(rs.getBigDecimal("amount"))
+                        .build(),
+                sellerId, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    /**
+     * 도서별 매출 상위 (취소 제외)
+     */
+    public List<SellerBookSalesResponse> findByBook(Long sellerId, LocalDate from, LocalDate to, int limit) {
+        return jdbcTemplate.query(BY_BOOK_SQL, (rs, rowNum) -> SellerBookSalesResponse.builder()
+                        .bookId(rs.getLong("book_id"))
+                        .title(rs.getString("title"))
+                        .itemCount(rs.getLong("item_count"))
+                        .quantity(rs.getLong("quantity"))
+                        .amount(rs.getBigDecimal("amount"))
+                        .build(),
+                sellerId, Date.valueOf(from), Date.valueOf(to), limit);
+    }
+
+    private int lockKey(LocalDate salesDate) {
+        return (int) salesDate.toEpochDay();
+    }
+
+    /**
+     * 주문 상태별 매출
+     */
+    public List<SellerStatusSalesResponse> findByStatus(Long sellerId, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(BY_STATUS_SQL, (rs, rowNum) -> SellerStatusSalesResponse.builder()
+                        .status(rs.getString("status"))
+                        .itemCount(rs.getLong("item_count"))
+                        .quantity(rs.getLong("quantity"))
+                        .amount(rs.getBigDecimal("amount"))
+                        .build(),
+                sellerId, Date.valueOf(from), Date.valueOf(to));
+    }
+}
@@ -0,0 +1,36 @@
+package com.bookstore.api.seller.service;
+
+import com.bookstore.api.order.service.OrderStatusChangedEvent;
+import com.bookstore.api.seller.repository.SellerSalesRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 주문 상태 변경을 seller_sales_daily에 증분 반영 (이전 상태에서 빼고 새 상태에 더함)
+ * - 주문 트랜잭션 커밋 직전에 같은 트랜잭션 안에서 반영 → 주문 변경과 집계 증감이 함께 커밋
+ * - 주문일별 공유 advisory lock을 커밋까지 쥐므로 그 날짜의 재집계(배타 lock)는 진행 중인 주문 변경이 끝난 뒤 시작하고,
+ *   재집계 중에 시작된 주문 변경은 재집계 커밋 후 반영되어 중복 집계되지 않음
+ * - 반영 실패는 저장소의 SAVEPOINT로 되돌려 주문 처리에는 영향 없음 (야간 재집계에서 보정)
+ *   (JpaTransactionManager는 NESTED 전파를 지원하지 않아 JDBC SAVEPOINT를 직접 사용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SellerSalesEventListener {
+
+    private final SellerSalesRepository sellerSalesRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        String previousStatus = event.getPreviousStatus() != null ? event.getPreviousStatus().name() : null;
+        try {
+            sellerSalesRepository.applyStatusChange(event.getOrderId(), previousStatus, event.getNewStatus().name());
+        } catch (Exception e) {
+            log.error("판매자 매출 집계 반영 실패: orderId={}, {} -> {}",
+                    event.getOrderId(), event.getPreviousStatus(), event.getNewStatus(), e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.bookstore.api.seller.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 판매자 매출 집계 야간 재집계
+ * - 최근 refresh-days일은 order_items 기준으로 다시 계산 (증분 반영 누락/중복 보정)
+ * - 하루씩 별도 트랜잭션으로 재집계 → 주문 변경이 재집계 전체를 기다리지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SellerSalesRefreshScheduler {
+
+    private final SellerSalesService sellerSalesService;
+
+    @Value("${seller.sales.refresh-days:7}")
+    private int refreshDays;
+
+    @Scheduled(cron = "${seller.sales.refresh-cron:0 50 3 * * *}")
+    public void refresh() {
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusDays(refreshDays - 1L);
+        long start = System.currentTimeMillis();
+        int rows = 0;
+        for (LocalDate day = from; !day.isAfter(today); day = day.plusDays(1)) {
+            try {
+                rows += sellerSalesService.refreshDay(day);
+            } catch (Exception e) {
+                log.error("판매자 매출 재집계 실패: day={}", day, e);
+            }
+        }
+        log.info("판매자 매출 재집계 완료: from={}, rows={}, elapsedMs={}", from, rows, System.currentTimeMillis() - start);
+    }
+}
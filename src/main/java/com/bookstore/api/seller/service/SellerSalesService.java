@@ -0,0 +1,81 @@
+package com.bookstore.api.seller.service;
+
+import com.bookstore.api.common.exception.BusinessException;
+import com.bookstore.api.common.exception.ErrorCode;
+import com.bookstore.api.seller.dto.SellerBookSalesResponse;
+import com.bookstore.api.seller.dto.SellerDailySalesResponse;
+import com.bookstore.api.seller.dto.SellerStatusSalesResponse;
+import com.bookstore.api.seller.repository.SellerRepository;
+import com.bookstore.api.seller.repository.SellerSalesRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 판매자 매출 분석
+ * - 증분 반영은 SellerSalesEventListener (주문 트랜잭션 안에서 처리)
+ * - 조회는 집계 테이블만 사용, 반영 실패분은 SellerSalesRefreshScheduler가 야간 재집계로 보정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SellerSalesService {
+
+    private static final int MAX_RANGE_DAYS = 366;
+    private static final int MAX_BOOK_LIMIT = 100;
+
+    private final SellerRepository sellerRepository;
+    private final SellerSalesRepository sellerSalesRepository;
+
+    /**
+     * 일별 매출 (취소 제외)
+     */
+    public List<SellerDailySalesResponse> getDailySales(Long sellerId, LocalDate from, LocalDate to) {
+        validate(sellerId, from, to);
+        return sellerSalesRepository.findDaily(sellerId, from, to);
+    }
+
+    /**
+     * 도서별 매출 상위 (취소 제외)
+     */
+    public List<SellerBookSalesResponse> getBookSales(Long sellerId, LocalDate from, LocalDate to, int limit) {
+        validate(sellerId, from, to);
+        if (limit < 1 || limit > MAX_BOOK_LIMIT) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "limit은 1 이상 " + MAX_BOOK_LIMIT + " 이하여야 합니다.");
+        }
+        return sellerSalesRepository.findByBook(sellerId, from, to, limit);
+    }
+
+    /**
+     * 주문 상태별 매출
+     */
+    public List<SellerStatusSalesResponse> getStatusSales(Long sellerId, LocalDate from, LocalDate to) {
+        validate(sellerId, from, to);
+        return sellerSalesRepository.findByStatus(sellerId, from, to);
+    }
+
+    /**
+     * 하루치 집계 재생성 (날짜마다 별도 트랜잭션, 커밋 전까지 조회는 기존 집계 사용)
+     */
+    @Transactional
+    public int refreshDay(LocalDate day) {
+        return sellerSalesRepository.rebuildDay(day);
+    }
+
+    private void validate(Long sellerId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+        sellerRepository.findByIdAndNotDeleted(sellerId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.SELLER_NOT_FOUND));
+    }
+}
@@ -0,0 +1,58 @@
+package com.bookstore.api.settlement.controller;
+
+import com.bookstore.api.common.dto.ApiResponse;
+import com.bookstore.api.common.dto.PageResponse;
+import com.bookstore.api.settlement.dto.SettlementResponse;
+import com.bookstore.api.settlement.dto.SettlementRunResponse;
+import com.bookstore.api.settlement.service.SettlementService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@Tag(name = "Settlement", description = "판매자 정산 API (관리자)")
+@RestController
+@RequestMapping("/api/admin/settlements")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class SettlementController {
+
+    private final SettlementService settlementService;
+
+    @Operation(summary = "정산 배치 실행", description = "기간 종료일까지 주문된 미정산 배송 완료 항목을 판매자별로 정산합니다 (이전 기간 주문이 늦게 배송된 경우 포함). 중단된 기간이면 이어서 실행합니다 (ADMIN 권한 필요)")
+    @PostMapping("/runs")
+    public ResponseEntity<ApiResponse<SettlementRunResponse>> startRun(
+            @Parameter(description = "정산 시작일", example = "2025-11-01")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate periodStart,
+            @Parameter(description = "정산 종료일", example = "2025-11-30")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate periodEnd
+    ) {
+        SettlementRunResponse response = settlementService.startRun(periodStart, periodEnd);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("정산 배치를 시작했습니다.", response));
+    }
+
+    @Operation(summary = "정산 배치 진행 상황", description = "정산 배치 실행 상태와 진행률을 조회합니다 (ADMIN 권한 필요)")
+    @GetMapping("/runs/{runId}")
+    public ResponseEntity<ApiResponse<SettlementRunResponse>> getRun(@PathVariable Long runId) {
+        return ResponseEntity.ok(ApiResponse.success(settlementService.getRun(runId)));
+    }
+
+    @Operation(summary = "판매자 정산 내역", description = "판매자의 기간별 정산 내역을 조회합니다 (ADMIN 권한 필요)")
+    @GetMapping("/sellers/{sellerId}")
+    public ResponseEntity<ApiResponse<PageResponse<SettlementResponse>>> getSellerSettlements(
+            @PathVariable Long sellerId,
+            @PageableDefault(size = 12) Pageable pageable
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(settlementService.getSellerSettlements(sellerId, pageable)));
+    }
+}
@@ -0,0 +1,59 @@
+package com.bookstore.api.settlement.dto;
+
+import com.bookstore.api.settlement.entity.Settlement;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "판매자 정산 응답")
+public class SettlementResponse {
+
+    @Schema(description = "정산 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "판매자 ID", example = "1")
+    private Long sellerId;
+
+    @Schema(description = "총 판매액", example = "1500000.00")
+    private BigDecimal totalSales;
+
+    @Schema(description = "수수료", example = "150000.00")
+    private BigDecimal commission;
+
+    @Schema(description = "지급액", example = "1350000.00")
+    private BigDecimal finalPayout;
+
+    @Schema(description = "정산 시작일", example = "2025-11-01")
+    private LocalDate periodStart;
+
+    @Schema(description = "정산 종료일", example = "2025-11-30")
+    private LocalDate periodEnd;
+
+    @Schema(description = "정산 시각", example = "2025-12-01T02:05:00")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime settlementDate;
+
+    public static SettlementResponse from(Settlement settlement) {
+        return SettlementResponse.builder()
+                .id(settlement.getId())
+                .sellerId(settlement.getSellerId())
+                .totalSales(settlement.getTotalSales())
+                .commission(settlement.getCommission())
+                .finalPayout(settlement.getFinalPayout())
+                .periodStart(settlement.getPeriodStart())
+                .periodEnd(settlement.getPeriodEnd())
+                .settlementDate(settlement.getSettlementDate())
+                .build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.bookstore.api.settlement.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "정산 배치 실행 응답")
+public class SettlementRunResponse {
+
+    @Schema(description = "실행 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "정산 시작일", example = "2025-11-01")
+    private LocalDate periodStart;
+
+    @Schema(description = "정산 종료일", example = "2025-11-30")
+    private LocalDate periodEnd;
+
+    @Schema(description = "상태 (RUNNING / COMPLETED / FAILED)", example = "RUNNING")
+    private String status;
+
+    @Schema(description = "수수료율", example = "0.1000")
+    private BigDecimal commissionRate;
+
+    @Schema(description = "정산 대상 판매자 수", example = "1200")
+    private Integer totalSellers;
+
+    @Schema(description = "정산 완료 판매자 수", example = "800")
+    private Integer processedSellers;
+
+    @Schema(description = "정산된 주문 항목 수", example = "5300000")
+    private Long settledItems;
+
+    @Schema(description = "실패 사유", example = "null")
+    private String errorMessage;
+
+    @Schema(description = "시작 시각", example = "2025-12-01T02:00:00")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "마지막 진행 시각", example = "2025-12-01T02:10:00")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime updatedAt;
+
+    @Schema(description = "완료 시각", example = "2025-12-01T02:25:00")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime completedAt;
+}
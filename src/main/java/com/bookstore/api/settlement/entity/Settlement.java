@@ -0,0 +1,51 @@
+package com.bookstore.api.settlement.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 판매자 정산 (SettlementJob이 JDBC로 생성, 조회 전용)
+ */
+@Entity
+@Table(name = "settlements")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Settlement {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "seller_id", nullable = false)
+    private Long sellerId;
+
+    @Column(name = "total_sales", nullable = false, precision = 12, scale = 2)
+    private BigDecimal totalSales;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal commission;
+
+    @Column(name = "final_payout", nullable = false, precision = 12, scale = 2)
+    private BigDecimal finalPayout;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "period_end", nullable = false)
+    private LocalDate periodEnd;
+
+    @Column(name = "settlement_date", nullable = false)
+    private LocalDateTime settlementDate;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,178 @@
+package com.bookstore.api.settlement.repository;
+
+import com.bookstore.api.settlement.dto.SettlementRunResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 정산 배치 저장소 (JDBC)
+ * - 판매자 1명 = 트랜잭션 1개: 정산 행 생성 → 배송 완료 항목 INSERT ... SELECT → 합계 갱신
+ * - 정산 행의 (seller_id, period_start, period_end) 유일성이 체크포인트 역할 (재실행 시 정산된 판매자 건너뜀)
+ */
+@Repository
+@RequiredArgsConstructor
+public class SettlementBatchRepository {
+
+    private static final String CLAIM_RUN_SQL =
+            "INSERT INTO settlement_runs (period_start, period_end, status, commission_rate, started_at, updated_at) " +
+            "VALUES (?, ?, 'RUNNING', ?, NOW(), NOW()) " +
+            "ON CONFLICT (period_start, period_end) DO UPDATE SET " +
+            "status = 'RUNNING', error_message = NULL, updated_at = NOW() " +
+            "WHERE settlement_runs.status = 'FAILED' " +
+            "OR (settlement_runs.status = 'RUNNING' AND settlement_runs.updated_at < NOW() - make_interval(mins => ?)) " +
+            "RETURNING id";
+
+    private static final String FIND_PENDING_SELLERS_SQL =
+            "SELECT DISTINCT b.seller_id FROM books b " +
+            "WHERE b.seller_id IS NOT NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM settlements s " +
+            "WHERE s.seller_id = b.seller_id AND s.period_start = ? AND s.period_end = ?) " +
+            "ORDER BY b.seller_id";
+
+    private static final String INSERT_SETTLEMENT_SQL =
+            "INSERT INTO settlements (seller_id, total_sales, commission, final_payout, period_start, period_end, settlement_date) " +
+            "VALUES (?, 0, 0, 0, ?, ?, NOW()) " +
+            "ON CONFLICT (seller_id, period_start, period_end) DO NOTHING " +
+            "RETURNING id";
+
+    private static final String INSERT_ITEMS_SQL =
+            "WITH picked AS (" +
+            "UPDATE order_items oi SET settled = TRUE " +
+            "FROM books b " +
+            "WHERE b.id = oi.book_id AND b.seller_id = ? " +
+            "AND oi.status = 'DELIVERED' AND NOT oi.settled AND oi.created_at < ? " +
+            "RETURNING oi.id, oi.price * oi.quantity AS item_amount), " +
+            "inserted AS (" +
+            "INSERT INTO settlement_items (settlement_id, order_item_id, item_amount, created_at) " +
+            "SELECT ?, id, item_amount, NOW() FROM picked " +
+            "ON CONFLICT (order_item_id) DO NOTHING " +
+            "RETURNING item_amount) " +
+            "SELECT COUNT(*) AS item_count, COALESCE(SUM(item_amount), 0) AS total_sales FROM inserted";
+
+    private static final String UPDATE_TOTALS_SQL =
+            "UPDATE settlements SET total_sales = ?, commission = ?, final_payout = ?, updated_at = NOW() WHERE id = ?";
+
+    private static final String SET_TOTAL_SELLERS_SQL =
+            "UPDATE settlement_runs SET total_sellers = processed_sellers + ?, updated_at = NOW() WHERE id = ?";
+
+    private static final String ADD_PROGRESS_SQL =
+            "UPDATE settlement_runs SET processed_sellers = processed_sellers + ?, settled_items = settled_items + ?, " +
+            "updated_at = NOW() WHERE id = ?";
+
+    private static final String FINISH_RUN_SQL =
+            "UPDATE settlement_runs SET status = ?, error_message = ?, completed_at = ?, updated_at = NOW() WHERE id = ?";
+
+    private static final String FIND_RUN_SQL =
+            "SELECT id, period_start, period_end, status, commission_rate, total_sellers, processed_sellers, " +
+            "settled_items, error_message, started_at, updated_at, completed_at FROM settlement_runs WHERE id = ?";
+
+    private static final RowMapper<SettlementRunResponse> RUN_MAPPER = (rs, rowNum) -> SettlementRunResponse.builder()
+            .id(rs.getLong("id"))
+            .periodStart(rs.getDate("period_start").toLocalDate())
+            .periodEnd(rs.getDate("period_end").toLocalDate())
+            .status(rs.getString("status"))
+            .commissionRate(rs.getBigDecimal("commission_rate"))
+            .totalSellers(rs.getInt("total_sellers"))
+            .processedSellers(rs.getInt("processed_sellers"))
+            .settledItems(rs.getLong("settled_items"))
+            .errorMessage(rs.getString("error_message"))
+            .startedAt(rs.getTimestamp("started_at").toLocalDateTime())
+            .updatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
+            .completedAt(rs.getTimestamp("completed_at") != null ? rs.getTimestamp("completed_at").toLocalDateTime() : null)
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 기간 정산 실행권 획득 (새 실행, 실패한 실행, 진행이 멈춘 실행만)
+     * - 이미 완료되었거나 다른 노드가 진행 중이면 empty
+     */
+    public Optional<Long> claimRun(LocalDate periodStart, LocalDate periodEnd, BigDecimal commissionRate, long leaseMinutes) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                CLAIM_RUN_SQL, Long.class,
+                Date.valueOf(periodStart), Date.valueOf(periodEnd), commissionRate, leaseMinutes
+        );
+        return ids.stream().findFirst();
+    }
+
+    /**
+     * 아직 정산되지 않은 판매자 ID (도서를 등록한 판매자)
+     */
+    public List<Long> findPendingSellerIds(LocalDate periodStart, LocalDate periodEnd) {
+        return jdbcTemplate.queryForList(
+                FIND_PENDING_SELLERS_SQL, Long.class, Date.valueOf(periodStart), Date.valueOf(periodEnd));
+    }
+
+    /**
+     * 정산 행 생성 - 이미 정산된 판매자면 empty
+     */
+    public Optional<Long> insertSettlement(Long sellerId, LocalDate periodStart, LocalDate periodEnd) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                INSERT_SETTLEMENT_SQL, Long.class, sellerId, Date.valueOf(periodStart), Date.valueOf(periodEnd));
+        return ids.stream().findFirst();
+    }
+
+    /**
+     * 판매자의 기간 종료일까지 주문된 미정산 배송 완료 항목을 정산 항목으로 일괄 저장 (DB 안에서 INSERT ... SELECT)
+     * - 지난 정산 이후에 배송 완료된 이전 기간 주문도 포함
+     * - order_items.settled 표시와 부분 인덱스로 미정산 항목만 읽음 (정산 이력이 늘어도 읽는 양은 그대로)
+     */
+    public ItemTotals insertItems(Long settlementId, Long sellerId, LocalDate periodEnd) {
+        return jdbcTemplate.queryForObject(
+                INSERT_ITEMS_SQL,
+                (rs, rowNum) -> new ItemTotals(rs.getLong("item_count"), rs.getBigDecimal("total_sales")),
+                sellerId,
+                Timestamp.valueOf(periodEnd.plusDays(1).atStartOfDay()),
+                settlementId
+        );
+    }
+
+    public void updateTotals(Long settlementId, BigDecimal totalSales, BigDecimal commission, BigDecimal finalPayout) {
+        jdbcTemplate.update(UPDATE_TOTALS_SQL, totalSales, commission, finalPayout, settlementId);
+    }
+
+    public void setTotalSellers(Long runId, int pendingSellers) {
+        jdbcTemplate.update(SET_TOTAL_SELLERS_SQL, pendingSellers, runId);
+    }
+
+    /**
+     * 진행 상황 기록 (진행 시각 갱신으로 실행권 유지)
+     */
+    public void addProgress(Long runId, int sellers, long items) {
+        jdbcTemplate.update(ADD_PROGRESS_SQL, sellers, items, runId);
+    }
+
+    public void completeRun(Long runId) {
+        jdbcTemplate.update(FINISH_RUN_SQL, "COMPLETED", null, Timestamp.valueOf(LocalDateTime.now()), runId);
+    }
+
+    public void failRun(Long runId, String errorMessage) {
+        jdbcTemplate.update(FINISH_RUN_SQL, "FAILED", errorMessage, null, runId);
+    }
+
+    public Optional<SettlementRunResponse> findRun(Long runId) {
+        return jdbcTemplate.query(FIND_RUN_SQL, RUN_MAPPER, runId).stream().findFirst();
+    }
+
+    /**
+     * 판매자 1명의 정산 항목 저장 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ItemTotals {
+        private final long itemCount;
+        private final BigDecimal totalSales;
+    }
+}
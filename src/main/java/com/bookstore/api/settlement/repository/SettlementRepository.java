@@ -0,0 +1,16 @@
+package com.bookstore.api.settlement.repository;
+
+import com.bookstore.api.settlement.entity.Settlement;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SettlementRepository extends JpaRepository<Settlement, Long> {
+
+    /**
+     * 판매자별 정산 내역 (최근 기간순)
+     */
+    Page<Settlement> findBySellerIdOrderByPeriodStartDesc(Long sellerId, Pageable pageable);
+}
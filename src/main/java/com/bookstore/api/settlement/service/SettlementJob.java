@@ -0,0 +1,185 @@
+package com.bookstore.api.settlement.service;
+
+import com.bookstore.api.common.exception.BusinessException;
+import com.bookstore.api.common.exception.ErrorCode;
+import com.bookstore.api.settlement.dto.SettlementRunResponse;
+import com.bookstore.api.settlement.repository.SettlementBatchRepository;
+import com.bookstore.api.settlement.repository.SettlementBatchRepository.ItemTotals;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 판매자 정산 배치
+ * - 기간별 실행은 settlement_runs 1건 (완료/다른 노드 진행 중이면 실행하지 않음)
+ * - 정산 대상 판매자를 청크로 나눠 병렬 처리, 판매자 1명 = 트랜잭션 1개
+ * - 중단되면 다음 실행에서 정산 행이 없는 판매자부터 이어서 처리
+ */
+@Slf4j
+@Component
+public class SettlementJob {
+
+    private final SettlementBatchRepository settlementBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BigDecimal commissionRate;
+    private final int parallelism;
+    private final int chunkSize;
+    private final long leaseMinutes;
+    private final ExecutorService launcher;
+
+    public SettlementJob(
+            SettlementBatchRepository settlementBatchRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${settlement.commission-rate:0.10}") BigDecimal commissionRate,
+            @Value("${settlement.parallelism:4}") int parallelism,
+            @Value("${settlement.chunk-size:50}") int chunkSize,
+            @Value("${settlement.lease-minutes:30}") long leaseMinutes
+    ) {
+        this.settlementBatchRepository = settlementBatchRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.commissionRate = commissionRate;
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+        this.leaseMinutes = leaseMinutes;
+        this.launcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "settlement-job");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 매일 지난달 정산 실행 (완료된 달은 건너뛰고, 중단된 달은 이어서 실행)
+     */
+    @Scheduled(cron = "${settlement.cron:0 0 2 * * *}")
+    public void settleLastMonth() {
+        YearMonth lastMonth = YearMonth.now().minusMonths(1);
+        try {
+            Long runId = launch(lastMonth.atDay(1), lastMonth.atEndOfMonth());
+            log.info("정산 배치 시작: runId={}, period={}", runId, lastMonth);
+        } catch (BusinessException e) {
+            log.debug("정산 배치 건너뜀: period={}, reason={}", lastMonth, e.getMessage());
+        } catch (Exception e) {
+            log.error("정산 배치 시작 실패: period={}", lastMonth, e);
+        }
+    }
+
+    /**
+     * 정산 실행권을 얻은 뒤 백그라운드에서 실행 - 실행 ID 반환
+     */
+    public Long launch(LocalDate periodStart, LocalDate periodEnd) {
+        if (periodStart.isAfter(periodEnd)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "정산 시작일이 종료일보다 늦습니다.");
+        }
+        if (!periodEnd.isBefore(LocalDate.now())) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "끝나지 않은 기간은 정산할 수 없습니다.");
+        }
+
+        Long runId = settlementBatchRepository.claimRun(periodStart, periodEnd, commissionRate, leaseMinutes)
+                .orElseThrow(() -> new BusinessException(ErrorCode.STATE_CONFLICT, "이미 완료되었거나 진행 중인 정산입니다."));
+        launcher.execute(() -> run(runId, periodStart, periodEnd));
+        return runId;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        launcher.shutdownNow();
+    }
+
+    private void run(Long runId, LocalDate periodStart, LocalDate periodEnd) {
+        // 이어서 실행할 때도 처음 수수료율 사용
+        BigDecimal rate = settlementBatchRepository.findRun(runId)
+                .map(SettlementRunResponse::getCommissionRate)
+                .orElse(commissionRate);
+
+        List<Long> sellerIds = settlementBatchRepository.findPendingSellerIds(periodStart, periodEnd);
+        settlementBatchRepository.setTotalSellers(runId, sellerIds.size());
+        log.info("정산 대상 판매자: runId={}, count={}", runId, sellerIds.size());
+
+        AtomicInteger sequence = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "settlement-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int from = 0; from < sellerIds.size(); from += chunkSize) {
+                List<Long> chunk = sellerIds.subList(from, Math.min(from + chunkSize, sellerIds.size()));
+                futures.add(workers.submit(() -> settleChunk(runId, chunk, periodStart, periodEnd, rate)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            settlementBatchRepository.completeRun(runId);
+            log.info("정산 배치 완료: runId={}", runId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(runId, e);
+        } catch (ExecutionException e) {
+            fail(runId, e.getCause());
+        } catch (Exception e) {
+            fail(runId, e);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * 청크 처리 - 판매자마다 커밋 후 진행 상황 기록 (진행 시각 갱신으로 실행권 유지)
+     * - 정산 트랜잭션 밖에서 기록해 병렬 작업이 실행 행 잠금을 오래 기다리지 않음
+     */
+    private void settleChunk(Long runId, List<Long> sellerIds, LocalDate periodStart, LocalDate periodEnd, BigDecimal rate) {
+        for (Long sellerId : sellerIds) {
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+            Long settled = transactionTemplate.execute(status -> settleSeller(sellerId, periodStart, periodEnd, rate));
+            settlementBatchRepository.addProgress(runId, 1, settled != null ? settled : 0);
+        }
+    }
+
+    /**
+     * 판매자 1명 정산 - 정산된 항목 수 반환 (이미 정산된 판매자는 0)
+     */
+    private long settleSeller(Long sellerId, LocalDate periodStart, LocalDate periodEnd, BigDecimal rate) {
+        Optional<Long> settlementId = settlementBatchRepository.insertSettlement(sellerId, periodStart, periodEnd);
+        if (settlementId.isEmpty()) {
+            return 0;
+        }
+
+        ItemTotals totals = settlementBatchRepository.insertItems(settlementId.get(), sellerId, periodEnd);
+        BigDecimal commission = totals.getTotalSales().multiply(rate).setScale(2, RoundingMode.HALF_UP);
+        settlementBatchRepository.updateTotals(
+                settlementId.get(),
+                totals.getTotalSales(),
+                commission,
+                totals.getTotalSales().subtract(commission)
+        );
+        return totals.getItemCount();
+    }
+
+    private void fail(Long runId, Throwable cause) {
+        log.error("정산 배치 실패: runId={}", runId, cause);
+        String message = String.valueOf(cause.getMessage());
+        settlementBatchRepository.failRun(runId, message.length() > 500 ? message.substring(0, 500) : message);
+    }
+}
@@ -0,0 +1,52 @@
+package com.bookstore.api.settlement.service;
+
+import com.bookstore.api.common.dto.PageResponse;
+import com.bookstore.api.common.exception.BusinessException;
+import com.bookstore.api.common.exception.ErrorCode;
+import com.bookstore.api.settlement.dto.SettlementResponse;
+import com.bookstore.api.settlement.dto.SettlementRunResponse;
+import com.bookstore.api.settlement.repository.SettlementBatchRepository;
+import com.bookstore.api.settlement.repository.SettlementRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SettlementService {
+
+    private final SettlementJob settlementJob;
+    private final SettlementBatchRepository settlementBatchRepository;
+    private final SettlementRepository settlementRepository;
+
+    /**
+     * 정산 배치 실행 (중단된 기간이면 이어서 실행)
+     */
+    public SettlementRunResponse startRun(LocalDate periodStart, LocalDate periodEnd) {
+        Long runId = settlementJob.launch(periodStart, periodEnd);
+        log.info("정산 배치 실행 요청: runId={}, period={}~{}", runId, periodStart, periodEnd);
+        return getRun(runId);
+    }
+
+    /**
+     * 정산 배치 진행 상황 조회
+     */
+    public SettlementRunResponse getRun(Long runId) {
+        return settlementBatchRepository.findRun(runId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "정산 실행 내역을 찾을 수 없습니다."));
+    }
+
+    /**
+     * 판매자별 정산 내역 조회
+     */
+    public PageResponse<SettlementResponse> getSellerSettlements(Long sellerId, Pageable pageable) {
+        return PageResponse.of(settlementRepository.findBySellerIdOrderByPeriodStartDesc(sellerId, pageable)
+                .map(SettlementResponse::from));
+    }
+}
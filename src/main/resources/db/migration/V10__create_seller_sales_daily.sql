@@ -0,0 +1,33 @@
+-- ============================================
+-- 판매자 매출 집계 (판매자·도서·주문일·상태별, 주문 상태 변경 시 증분 갱신)
+-- ============================================
+CREATE TABLE seller_sales_daily (
+                                    seller_id BIGINT NOT NULL,
+                                    sales_date DATE NOT NULL,
+                                    book_id BIGINT NOT NULL,
+                                    status VARCHAR(20) NOT NULL,
+                                    item_count BIGINT NOT NULL DEFAULT 0,
+                                    quantity BIGINT NOT NULL DEFAULT 0,
+                                    amount DECIMAL(15,2) NOT NULL DEFAULT 0,
+                                    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                    PRIMARY KEY (seller_id, sales_date, book_id, status)
+);
+
+COMMENT ON TABLE seller_sales_daily IS '판매자 매출 집계 (판매자 대시보드 조회용)';
+COMMENT ON COLUMN seller_sales_daily.sales_date IS '주문일';
+COMMENT ON COLUMN seller_sales_daily.status IS '주문 항목 상태';
+COMMENT ON COLUMN seller_sales_daily.item_count IS '주문 항목 수';
+COMMENT ON COLUMN seller_sales_daily.quantity IS '판매 수량';
+COMMENT ON COLUMN seller_sales_daily.amount IS '판매 금액 (단가 x 수량)';
+
+-- 야간 재집계 기간 조회용
+CREATE INDEX idx_order_item_created_at ON order_items(created_at);
+
+-- 기존 주문으로 초기 데이터 생성
+INSERT INTO seller_sales_daily (seller_id, sales_date, book_id, status, item_count, quantity, amount)
+SELECT b.seller_id, CAST(oi.created_at AS DATE), oi.book_id, oi.status,
+       COUNT(*), SUM(oi.quantity), SUM(oi.price * oi.quantity)
+FROM order_items oi
+         JOIN books b ON b.id = oi.book_id
+WHERE b.seller_id IS NOT NULL
+GROUP BY b.seller_id, CAST(oi.created_at AS DATE), oi.book_id, oi.status;
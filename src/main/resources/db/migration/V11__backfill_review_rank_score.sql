@@ -0,0 +1,17 @@
+-- ============================================
+-- 기존 리뷰 추천순 점수 초기화
+-- (V5는 기본값 0만 추가해, 야간 전체 재계산 전까지 새 리뷰만 점수를 가져 항상 먼저 노출됨)
+-- ReviewRankRepository.SCORE_SQL과 같은 식, 작성 시각 가중치는 review.rank.decay-days 기본값 7일(604800초)
+-- ============================================
+UPDATE reviews r
+SET rank_score = LN(
+        (t.phat + 1.9208 / t.n - 1.96 * SQRT((t.phat * (1 - t.phat) + 0.9604 / t.n) / t.n))
+        / (1 + 3.8416 / t.n) + 0.01
+    ) + EXTRACT(EPOCH FROM t.created_at) / 604800
+FROM (SELECT id,
+             created_at,
+             like_count + 1.0 AS n,
+             (like_count + (rating - 1) / 4.0) / (like_count + 1.0) AS phat
+      FROM reviews
+      WHERE deleted_at IS NULL) t
+WHERE r.id = t.id;
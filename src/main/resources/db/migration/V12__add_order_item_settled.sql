@@ -0,0 +1,15 @@
+-- ============================================
+-- 주문 항목 정산 여부 표시
+-- (정산 배치가 판매자의 전체 배송 완료 이력을 매번 다시 읽지 않고 미정산 항목만 읽도록)
+-- ============================================
+ALTER TABLE order_items ADD COLUMN settled BOOLEAN NOT NULL DEFAULT FALSE;
+
+COMMENT ON COLUMN order_items.settled IS '정산 완료 여부 (settlement_items에 저장되면 TRUE)';
+
+UPDATE order_items oi
+SET settled = TRUE
+WHERE EXISTS (SELECT 1 FROM settlement_items si WHERE si.order_item_id = oi.id);
+
+-- 미정산 배송 완료 항목만 담는 부분 인덱스 (정산되면 인덱스에서 빠짐)
+DROP INDEX idx_order_item_delivered;
+CREATE INDEX idx_order_item_unsettled ON order_items(book_id, created_at) WHERE status = 'DELIVERED' AND NOT settled;
@@ -0,0 +1,6 @@
+-- ============================================
+-- 쿠폰 발급 수량 제한
+-- ============================================
+ALTER TABLE coupons ADD COLUMN total_quantity INT;
+
+COMMENT ON COLUMN coupons.total_quantity IS '총 발급 가능 수량 (NULL이면 무제한)';
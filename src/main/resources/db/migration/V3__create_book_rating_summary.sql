@@ -0,0 +1,33 @@
+-- ============================================
+-- 도서별 평점 요약 (리뷰 작성/수정/삭제 시 증분 갱신)
+-- ============================================
+CREATE TABLE book_rating_summary (
+                                     book_id BIGINT PRIMARY KEY,
+                                     review_count INT NOT NULL DEFAULT 0,
+                                     rating_sum BIGINT NOT NULL DEFAULT 0,
+                                     rating_1 INT NOT NULL DEFAULT 0,
+                                     rating_2 INT NOT NULL DEFAULT 0,
+                                     rating_3 INT NOT NULL DEFAULT 0,
+                                     rating_4 INT NOT NULL DEFAULT 0,
+                                     rating_5 INT NOT NULL DEFAULT 0,
+                                     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                     FOREIGN KEY (book_id) REFERENCES books(id) ON DELETE CASCADE
+);
+
+COMMENT ON TABLE book_rating_summary IS '도서별 평점 요약';
+COMMENT ON COLUMN book_rating_summary.review_count IS '리뷰 수';
+COMMENT ON COLUMN book_rating_summary.rating_sum IS '평점 합계';
+
+-- 기존 리뷰로 초기 데이터 생성
+INSERT INTO book_rating_summary (book_id, review_count, rating_sum, rating_1, rating_2, rating_3, rating_4, rating_5)
+SELECT book_id,
+       COUNT(*),
+       SUM(rating),
+       COUNT(*) FILTER (WHERE rating = 1),
+       COUNT(*) FILTER (WHERE rating = 2),
+       COUNT(*) FILTER (WHERE rating = 3),
+       COUNT(*) FILTER (WHERE rating = 4),
+       COUNT(*) FILTER (WHERE rating = 5)
+FROM reviews
+WHERE deleted_at IS NULL
+GROUP BY book_id;
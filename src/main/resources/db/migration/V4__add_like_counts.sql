@@ -0,0 +1,21 @@
+-- ============================================
+-- 좋아요 수 (리뷰/댓글 비정규화 컬럼, 주기적으로 일괄 반영)
+-- ============================================
+ALTER TABLE reviews ADD COLUMN like_count INT NOT NULL DEFAULT 0;
+ALTER TABLE comments ADD COLUMN like_count INT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN reviews.like_count IS '좋아요 수';
+COMMENT ON COLUMN comments.like_count IS '좋아요 수';
+
+CREATE INDEX idx_like_target ON likes(target_type, target_id);
+
+-- 기존 좋아요로 초기값 설정
+UPDATE reviews r
+SET like_count = l.cnt
+FROM (SELECT target_id, COUNT(*) AS cnt FROM likes WHERE target_type = 'REVIEW' GROUP BY target_id) l
+WHERE r.id = l.target_id;
+
+UPDATE comments c
+SET like_count = l.cnt
+FROM (SELECT target_id, COUNT(*) AS cnt FROM likes WHERE target_type = 'COMMENT' GROUP BY target_id) l
+WHERE c.id = l.target_id;
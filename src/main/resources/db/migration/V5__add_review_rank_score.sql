@@ -0,0 +1,8 @@
+-- ============================================
+-- 리뷰 추천순 정렬 키 (좋아요/평점 기반 Wilson 점수 + 작성 시각 가중치)
+-- ============================================
+ALTER TABLE reviews ADD COLUMN rank_score DOUBLE PRECISION NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN reviews.rank_score IS '추천순 정렬 점수 (배치 갱신)';
+
+CREATE INDEX idx_review_book_rank ON reviews(book_id, rank_score DESC, id DESC) WHERE deleted_at IS NULL;
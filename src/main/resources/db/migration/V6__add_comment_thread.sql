@@ -0,0 +1,28 @@
+-- ============================================
+-- 댓글 대댓글 (materialized path) + 리뷰별 댓글 수
+-- ============================================
+ALTER TABLE comments ADD COLUMN parent_id BIGINT;
+ALTER TABLE comments ADD COLUMN depth INT NOT NULL DEFAULT 0;
+-- 조상부터 자신까지 19자리 0 채움 ID + '/' (예: 0000000000000000012/0000000000000000034/)
+-- C collation: 접두사 LIKE와 ORDER BY path 모두 같은 B-tree 인덱스 사용
+ALTER TABLE comments ADD COLUMN path VARCHAR(1000) COLLATE "C" NOT NULL DEFAULT '';
+
+ALTER TABLE comments
+    ADD CONSTRAINT fk_comment_parent FOREIGN KEY (parent_id) REFERENCES comments(id) ON DELETE CASCADE;
+
+COMMENT ON COLUMN comments.parent_id IS '부모 댓글 ID (최상위 댓글은 NULL)';
+COMMENT ON COLUMN comments.depth IS '댓글 깊이 (최상위 0)';
+COMMENT ON COLUMN comments.path IS '스레드 경로 (정렬/하위 조회용)';
+
+UPDATE comments SET path = LPAD(id::text, 19, '0') || '/';
+
+CREATE INDEX idx_comment_review_path ON comments(review_id, path) WHERE deleted_at IS NULL;
+
+ALTER TABLE reviews ADD COLUMN comment_count INT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN reviews.comment_count IS '댓글 수';
+
+UPDATE reviews r
+SET comment_count = c.cnt
+FROM (SELECT review_id, COUNT(*) AS cnt FROM comments WHERE deleted_at IS NULL GROUP BY review_id) c
+WHERE r.id = c.review_id;
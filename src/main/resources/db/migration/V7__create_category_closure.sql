@@ -0,0 +1,31 @@
+-- ============================================
+-- 카테고리 계층 Closure 테이블 (모든 조상-자손 쌍, 자기 자신 포함 depth 0)
+-- ============================================
+CREATE TABLE category_closure (
+                                  ancestor_id BIGINT NOT NULL,
+                                  descendant_id BIGINT NOT NULL,
+                                  depth INT NOT NULL,
+                                  PRIMARY KEY (ancestor_id, descendant_id),
+                                  FOREIGN KEY (ancestor_id) REFERENCES categories(id) ON DELETE CASCADE,
+                                  FOREIGN KEY (descendant_id) REFERENCES categories(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_category_closure_descendant ON category_closure(descendant_id, depth);
+
+COMMENT ON TABLE category_closure IS '카테고리 조상-자손 관계';
+COMMENT ON COLUMN category_closure.depth IS '조상으로부터의 거리 (자기 자신 = 0)';
+
+-- 기존 parent_id 계층으로 채우기
+WITH RECURSIVE tree AS (
+    SELECT id AS ancestor_id, id AS descendant_id, 0 AS depth
+    FROM categories
+    UNION ALL
+    SELECT t.ancestor_id, c.id, t.depth + 1
+    FROM tree t
+    JOIN categories c ON c.parent_id = t.descendant_id
+)
+INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+SELECT ancestor_id, descendant_id, depth FROM tree;
+
+-- 카테고리(하위 포함)별 도서 조회용 (books.categories JSON 배열 포함 검색)
+CREATE INDEX idx_book_categories ON books USING GIN ((CAST(categories AS jsonb))) WHERE deleted_at IS NULL;
@@ -0,0 +1,44 @@
+-- ============================================
+-- 일별 운영 지표 (가입/주문 이벤트로 증분 갱신, 관리자 대시보드 조회용)
+-- ============================================
+CREATE TABLE daily_metrics (
+                               metric_date DATE PRIMARY KEY,
+                               new_users BIGINT NOT NULL DEFAULT 0,
+                               orders BIGINT NOT NULL DEFAULT 0,
+                               revenue DECIMAL(15,2) NOT NULL DEFAULT 0,
+                               cancellations BIGINT NOT NULL DEFAULT 0,
+                               canceled_revenue DECIMAL(15,2) NOT NULL DEFAULT 0,
+                               updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE daily_metrics IS '일별 운영 지표';
+COMMENT ON COLUMN daily_metrics.new_users IS '신규 가입자 수';
+COMMENT ON COLUMN daily_metrics.orders IS '주문 수';
+COMMENT ON COLUMN daily_metrics.revenue IS '주문 금액 합계 (취소 전)';
+COMMENT ON COLUMN daily_metrics.cancellations IS '주문 취소 수 (취소된 날짜 기준)';
+COMMENT ON COLUMN daily_metrics.canceled_revenue IS '취소된 주문 금액 합계';
+
+-- 기존 가입/주문으로 초기 데이터 생성 (취소는 마지막 수정 시각 기준)
+INSERT INTO daily_metrics (metric_date, new_users, orders, revenue, cancellations, canceled_revenue)
+SELECT metric_date,
+       SUM(new_users),
+       SUM(orders),
+       SUM(revenue),
+       SUM(cancellations),
+       SUM(canceled_revenue)
+FROM (
+         SELECT CAST(created_at AS DATE) AS metric_date, COUNT(*) AS new_users,
+                0 AS orders, 0 AS revenue, 0 AS cancellations, 0 AS canceled_revenue
+         FROM users
+         GROUP BY CAST(created_at AS DATE)
+         UNION ALL
+         SELECT CAST(created_at AS DATE), 0, COUNT(*), SUM(total_amount), 0, 0
+         FROM orders
+         GROUP BY CAST(created_at AS DATE)
+         UNION ALL
+         SELECT CAST(updated_at AS DATE), 0, 0, 0, COUNT(*), SUM(total_amount)
+         FROM orders
+         WHERE status = 'CANCELED'
+         GROUP BY CAST(updated_at AS DATE)
+     ) m
+GROUP BY metric_date;
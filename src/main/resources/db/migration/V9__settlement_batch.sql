@@ -0,0 +1,33 @@
+-- ============================================
+-- 판매자 정산 배치 (기간별 1회 정산, 판매자 단위 체크포인트)
+-- ============================================
+
+-- 판매자·기간당 정산 1건, 주문 항목당 정산 1회
+CREATE UNIQUE INDEX idx_settlement_seller_period ON settlements(seller_id, period_start, period_end);
+DROP INDEX idx_settlement_item_order_item;
+CREATE UNIQUE INDEX idx_settlement_item_order_item ON settlement_items(order_item_id);
+
+-- 판매자별 배송 완료 항목 조회용
+CREATE INDEX idx_book_seller ON books(seller_id) WHERE seller_id IS NOT NULL;
+CREATE INDEX idx_order_item_delivered ON order_items(book_id, created_at) WHERE status = 'DELIVERED';
+
+CREATE TABLE settlement_runs (
+                                 id BIGSERIAL PRIMARY KEY,
+                                 period_start DATE NOT NULL,
+                                 period_end DATE NOT NULL,
+                                 status VARCHAR(20) NOT NULL,
+                                 commission_rate DECIMAL(5,4) NOT NULL,
+                                 total_sellers INT NOT NULL DEFAULT 0,
+                                 processed_sellers INT NOT NULL DEFAULT 0,
+                                 settled_items BIGINT NOT NULL DEFAULT 0,
+                                 error_message VARCHAR(500),
+                                 started_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                 updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                 completed_at TIMESTAMP,
+                                 UNIQUE (period_start, period_end)
+);
+
+COMMENT ON TABLE settlement_runs IS '정산 배치 실행 이력 (기간별 1건, 중단 시 이어서 실행)';
+COMMENT ON COLUMN settlement_runs.status IS 'RUNNING / COMPLETED / FAILED';
+COMMENT ON COLUMN settlement_runs.commission_rate IS '수수료율 (재실행 시에도 최초 값 유지)';
+COMMENT ON COLUMN settlement_runs.updated_at IS '마지막 진행 시각 (오래된 RUNNING은 다른 노드가 이어받음)';
@@ -0,0 +1,12 @@
+-- 여러 카운터를 한 번에 증가 (처음 생성된 카운터에만 만료 시간 설정)
+-- KEYS = 카운터 키 목록, ARGV[1] = 만료 시간(초)
+-- 반환: 증가 후 값 목록 (KEYS 순서)
+local counts = {}
+for i, key in ipairs(KEYS) do
+    local count = redis.call('INCR', key)
+    if count == 1 then
+        redis.call('EXPIRE', key, ARGV[1])
+    end
+    counts[i] = count
+end
+return counts
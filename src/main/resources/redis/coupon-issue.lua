@@ -0,0 +1,20 @@
+-- 선착순 쿠폰 발급 (원자적 확인 + 차감)
+-- KEYS[1] = 남은 수량 키, KEYS[2] = 발급 사용자 Set, KEYS[3] = DB 반영 대기 큐
+-- ARGV[1] = 사용자 ID, ARGV[2] = 큐 적재 값
+-- 반환: 1 = 발급, 0 = 이미 발급, -1 = 재고 키 없음, -2 = 소진
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -1
+end
+if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+    return 0
+end
+if tonumber(redis.call('GET', KEYS[1])) <= 0 then
+    return -2
+end
+redis.call('DECR', KEYS[1])
+redis.call('SADD', KEYS[2], ARGV[1])
+if redis.call('TTL', KEYS[2]) == -1 then
+    redis.call('EXPIRE', KEYS[2], redis.call('TTL', KEYS[1]))
+end
+redis.call('RPUSH', KEYS[3], ARGV[2])
+return 1
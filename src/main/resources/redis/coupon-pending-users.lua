@@ -0,0 +1,17 @@
+-- DB 반영 대기 중인 쿠폰 발급 사용자 조회 (대기 큐 + 처리 중 리스트를 한 번에 읽어 이동 중인 건이 빠지지 않음)
+-- KEYS = 대기 큐, 노드별 처리 중 리스트
+-- ARGV[1] = 쿠폰 접두사 ("{couponId}:")
+-- 반환: 사용자 ID 목록 (문자열)
+local prefix = ARGV[1]
+local users = {}
+for _, key in ipairs(KEYS) do
+    for _, value in ipairs(redis.call('LRANGE', key, 0, -1)) do
+        if string.sub(value, 1, #prefix) == prefix then
+            local userId = string.match(value, '^%d+:(%d+):')
+            if userId then
+                users[#users + 1] = userId
+            end
+        end
+    end
+end
+return users
@@ -0,0 +1,12 @@
+-- 선착순 쿠폰 재고 초기화 (이미 초기화된 경우 무시)
+-- KEYS[1] = 남은 수량 키, KEYS[2] = 발급 사용자 Set
+-- ARGV[1] = 남은 수량, ARGV[2] = TTL(초), ARGV[3..] = 기존 발급 사용자 ID
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return 0
+end
+redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+for i = 3, #ARGV do
+    redis.call('SADD', KEYS[2], ARGV[i])
+end
+redis.call('EXPIRE', KEYS[2], ARGV[2])
+return 1
@@ -0,0 +1,14 @@
+-- 신뢰성 Hash 꺼내기: 증감 Hash를 노드별 처리 중 Hash로 이름을 바꾼 뒤 조회 (DB 반영 후 처리 중 Hash 삭제)
+-- KEYS[1] = 증감 Hash, KEYS[2] = 처리 중 Hash, KEYS[3] = 노드 Set, KEYS[4] = 노드 생존 키
+-- ARGV[1] = 노드 ID, ARGV[2] = 노드 생존 키 TTL(초)
+-- 처리 중 Hash가 남아 있으면(이전 반영 실패) 그것부터 다시 반환
+redis.call('SADD', KEYS[3], ARGV[1])
+redis.call('SET', KEYS[4], '1', 'EX', tonumber(ARGV[2]))
+
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    if redis.call('EXISTS', KEYS[1]) == 0 then
+        return {}
+    end
+    redis.call('RENAME', KEYS[1], KEYS[2])
+end
+return redis.call('HGETALL', KEYS[2])
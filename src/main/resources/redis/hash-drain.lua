@@ -0,0 +1,5 @@
+-- Hash 전체 조회 후 삭제 (조회와 삭제 사이에 들어온 증감이 유실되지 않도록 원자적으로 처리)
+-- KEYS[1] = Hash 키
+local values = redis.call('HGETALL', KEYS[1])
+redis.call('DEL', KEYS[1])
+return values
@@ -0,0 +1,9 @@
+-- 처리 중 Hash의 증감을 증감 Hash에 다시 더하고 삭제
+-- KEYS[1] = 증감 Hash, KEYS[2] = 처리 중 Hash
+-- 반환: 되돌린 필드 수
+local values = redis.call('HGETALL', KEYS[2])
+for i = 1, #values, 2 do
+    redis.call('HINCRBY', KEYS[1], values[i], values[i + 1])
+end
+redis.call('DEL', KEYS[2])
+return #values / 2
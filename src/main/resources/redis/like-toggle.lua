@@ -0,0 +1,20 @@
+-- 좋아요 / 좋아요 취소 (멤버십 변경 + 카운터 증감 + DB 반영 큐 적재를 원자적으로 처리)
+-- KEYS[1] = 사용자별 좋아요 Set, KEYS[2] = 대상별 증감 Hash, KEYS[3] = DB 반영 대기 큐
+-- ARGV[1] = 대상 ID, ARGV[2] = 1(좋아요) / -1(취소), ARGV[3] = 큐 적재 값, ARGV[4] = Set TTL(초), ARGV[5] = 적재 표시 멤버
+-- 반환: 1 = 변경됨, 0 = 이미 같은 상태, -1 = Set 미적재 (적재 확인 후 만료된 경우, DB에서 적재 후 재시도)
+if redis.call('SISMEMBER', KEYS[1], ARGV[5]) == 0 then
+    return -1
+end
+local changed
+if ARGV[2] == '1' then
+    changed = redis.call('SADD', KEYS[1], ARGV[1])
+else
+    changed = redis.call('SREM', KEYS[1], ARGV[1])
+end
+redis.call('EXPIRE', KEYS[1], ARGV[4])
+if changed == 0 then
+    return 0
+end
+redis.call('HINCRBY', KEYS[2], ARGV[1], ARGV[2])
+redis.call('RPUSH', KEYS[3], ARGV[3])
+return 1
@@ -0,0 +1,21 @@
+-- 신뢰성 큐 꺼내기: 대기 큐에서 노드별 처리 중 리스트로 최대 ARGV[1]건 이동 (LMOVE)
+-- KEYS[1] = 대기 큐, KEYS[2] = 처리 중 리스트, KEYS[3] = 노드 Set, KEYS[4] = 노드 생존 키
+-- ARGV[1] = 최대 건수, ARGV[2] = 노드 ID, ARGV[3] = 노드 생존 키 TTL(초)
+-- 처리 중 리스트에 이전 배치가 남아 있으면 그것부터 다시 반환
+redis.call('SADD', KEYS[3], ARGV[2])
+redis.call('SET', KEYS[4], '1', 'EX', tonumber(ARGV[3]))
+
+local pending = redis.call('LRANGE', KEYS[2], 0, -1)
+if #pending > 0 then
+    return pending
+end
+
+local claimed = {}
+for i = 1, tonumber(ARGV[1]) do
+    local value = redis.call('LMOVE', KEYS[1], KEYS[2], 'LEFT', 'RIGHT')
+    if not value then
+        break
+    end
+    claimed[#claimed + 1] = value
+end
+return claimed
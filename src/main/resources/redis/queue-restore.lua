@@ -0,0 +1,8 @@
+-- 처리 중 리스트를 순서를 유지한 채 대기 큐 앞쪽으로 되돌림
+-- KEYS[1] = 대기 큐, KEYS[2] = 처리 중 리스트
+-- 반환: 되돌린 건수
+local count = 0
+while redis.call('LMOVE', KEYS[2], KEYS[1], 'RIGHT', 'LEFT') do
+    count = count + 1
+end
+return count
@@ -0,0 +1,32 @@
+-- 토큰 버킷 클러스터 동기화 (노드별 소비량을 합산한 공용 버킷 갱신)
+-- KEYS[1] = 노드 생존 ZSet (member = 노드 ID, score = 마지막 동기화 시각 ms)
+-- KEYS[1 + i] = 버킷 Hash (tokens, ts)
+-- ARGV[1] = Hash TTL(초), ARGV[2] = 노드 ID, ARGV[3] = 노드 만료 시간(ms)
+-- ARGV[3 + 3(i-1) + 1..3] = 용량, ms당 충전량, 지난 동기화 이후 소비량
+-- 반환: { 살아 있는 노드 수, 버킷별 남은 토큰 수... } (문자열, KEYS 순서)
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local ttl = tonumber(ARGV[1])
+local nodeTimeout = tonumber(ARGV[3])
+
+redis.call('ZADD', KEYS[1], now, ARGV[2])
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - nodeTimeout)
+redis.call('PEXPIRE', KEYS[1], nodeTimeout)
+local result = { tostring(redis.call('ZCARD', KEYS[1])) }
+
+for i = 2, #KEYS do
+    local key = KEYS[i]
+    local base = 3 + (i - 2) * 3
+    local capacity = tonumber(ARGV[base + 1])
+    local refill = tonumber(ARGV[base + 2])
+    local consumed = tonumber(ARGV[base + 3])
+    local state = redis.call('HMGET', key, 'tokens', 'ts')
+    local tokens = tonumber(state[1]) or capacity
+    local ts = tonumber(state[2]) or now
+    tokens = math.min(capacity, tokens + math.max(0, now - ts) * refill)
+    tokens = math.max(0, tokens - consumed)
+    redis.call('HSET', key, 'tokens', tostring(tokens), 'ts', tostring(now))
+    redis.call('EXPIRE', key, ttl)
+    result[i] = tostring(tokens)
+end
+return result
@@ -0,0 +1,17 @@
+-- 세션 일괄 제거
+-- KEYS[1] = 세션 Hash 키
+-- ARGV = 제거할 세션 ID 목록 (비어 있으면 전체)
+-- 반환: 실제 제거된 세션 ID 목록
+if #ARGV == 0 then
+    local sessionIds = redis.call('HKEYS', KEYS[1])
+    redis.call('DEL', KEYS[1])
+    return sessionIds
+end
+
+local removed = {}
+for _, sessionId in ipairs(ARGV) do
+    if redis.call('HDEL', KEYS[1], sessionId) == 1 then
+        table.insert(removed, sessionId)
+    end
+end
+return removed
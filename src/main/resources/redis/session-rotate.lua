@@ -0,0 +1,23 @@
+-- 세션 Refresh Token 교체 (이미 교체된 토큰이 다시 제시되면 세션 제거)
+-- KEYS[1] = 세션 Hash 키
+-- ARGV[1] = 세션 ID, ARGV[2] = 제시된 토큰 digest, ARGV[3] = 새 토큰 digest
+-- ARGV[4] = 새 만료 시각(ms), ARGV[5] = 현재 시각(ms), ARGV[6] = Hash TTL(ms)
+-- 반환: 1 = 교체됨, 0 = 없거나 만료된 세션, -1 = 재사용 감지 (세션 제거됨)
+local value = redis.call('HGET', KEYS[1], ARGV[1])
+if not value then
+    return 0
+end
+
+local digest, expiresAt, createdAt, device = string.match(value, '^([^|]*)|(%d+)|(%d+)|%d+|(.*)$')
+if not digest or tonumber(expiresAt) <= tonumber(ARGV[5]) then
+    redis.call('HDEL', KEYS[1], ARGV[1])
+    return 0
+end
+if digest ~= ARGV[2] then
+    redis.call('HDEL', KEYS[1], ARGV[1])
+    return -1
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[3] .. '|' .. ARGV[4] .. '|' .. createdAt .. '|' .. ARGV[5] .. '|' .. device)
+redis.call('PEXPIRE', KEYS[1], ARGV[6])
+return 1
@@ -0,0 +1,30 @@
+-- 기기 세션 등록 (만료된 세션 정리, 최대 기기 수를 넘으면 가장 오래 사용하지 않은 세션 제거)
+-- KEYS[1] = 세션 Hash 키
+-- ARGV[1] = 세션 ID, ARGV[2] = 세션 값 (digest|만료 시각|생성 시각|마지막 사용 시각|기기)
+-- ARGV[3] = 현재 시각(ms), ARGV[4] = 최대 기기 수, ARGV[5] = Hash TTL(ms)
+-- 반환: 기기 수 초과로 제거된 세션 ID 목록
+local now = tonumber(ARGV[3])
+local active = {}
+local entries = redis.call('HGETALL', KEYS[1])
+for i = 1, #entries, 2 do
+    local expiresAt, lastUsedAt = string.match(entries[i + 1], '^[^|]*|(%d+)|%d+|(%d+)|')
+    if not expiresAt or tonumber(expiresAt) <= now then
+        redis.call('HDEL', KEYS[1], entries[i])
+    else
+        table.insert(active, {entries[i], tonumber(lastUsedAt)})
+    end
+end
+
+local removed = {}
+local overflow = #active - tonumber(ARGV[4]) + 1
+if overflow > 0 then
+    table.sort(active, function(a, b) return a[2] < b[2] end)
+    for i = 1, overflow do
+        redis.call('HDEL', KEYS[1], active[i][1])
+        table.insert(removed, active[i][1])
+    end
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+redis.call('PEXPIRE', KEYS[1], ARGV[5])
+return removed
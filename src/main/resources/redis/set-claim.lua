@@ -0,0 +1,17 @@
+-- 신뢰성 Set 꺼내기: 대기 Set에서 노드별 처리 중 Set으로 최대 ARGV[1]건 이동 (SPOP + SADD)
+-- KEYS[1] = 대기 Set, KEYS[2] = 처리 중 Set, KEYS[3] = 노드 Set, KEYS[4] = 노드 생존 키
+-- ARGV[1] = 최대 건수, ARGV[2] = 노드 ID, ARGV[3] = 노드 생존 키 TTL(초)
+-- 처리 중 Set에 이전 배치가 남아 있으면 그것부터 다시 반환
+redis.call('SADD', KEYS[3], ARGV[2])
+redis.call('SET', KEYS[4], '1', 'EX', tonumber(ARGV[3]))
+
+local pending = redis.call('SMEMBERS', KEYS[2])
+if #pending > 0 then
+    return pending
+end
+
+local claimed = redis.call('SPOP', KEYS[1], tonumber(ARGV[1]))
+if #claimed > 0 then
+    redis.call('SADD', KEYS[2], unpack(claimed))
+end
+return claimed
@@ -0,0 +1,9 @@
+-- 처리 중 Set을 대기 Set으로 되돌림
+-- KEYS[1] = 대기 Set, KEYS[2] = 처리 중 Set
+-- 반환: 되돌린 건수
+local count = redis.call('SCARD', KEYS[2])
+if count > 0 then
+    redis.call('SUNIONSTORE', KEYS[1], KEYS[1], KEYS[2])
+    redis.call('DEL', KEYS[2])
+end
+return count
@@ -0,0 +1,14 @@
+-- 적재된 Set에만 멤버 추가/삭제 (만료된 Set을 일부 멤버만으로 다시 만들지 않도록 함)
+-- KEYS[1] = Set 키
+-- ARGV[1] = 멤버, ARGV[2] = 1(추가) / 0(삭제), ARGV[3] = Set TTL(초), ARGV[4] = 적재 표시 멤버
+-- 반환: 1 = 반영됨, 0 = 적재되지 않은 Set (적재 표시 멤버가 없으면 키가 있어도 미적재로 봄)
+if redis.call('SISMEMBER', KEYS[1], ARGV[4]) == 0 then
+    return 0
+end
+if ARGV[2] == '1' then
+    redis.call('SADD', KEYS[1], ARGV[1])
+else
+    redis.call('SREM', KEYS[1], ARGV[1])
+end
+redis.call('EXPIRE', KEYS[1], ARGV[3])
+return 1
@@ -0,0 +1,58 @@
+package com.bookstore.api.admin.service;
+
+import com.bookstore.api.admin.repository.DailyMetricsRedisRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일별 지표 반영 (Redis 증감을 꺼내 daily_metrics에 누적, 금액은 소수점 둘째 자리까지 보존)
+ * - 주기 반영은 사실상 끄고 flush를 직접 호출, 다른 테스트와 겹치지 않도록 과거 날짜 사용
+ */
+@SpringBootTest(properties = "admin.metrics.flush-interval-ms=3600000")
+class DailyMetricsFlushSchedulerTests {
+
+	private static final LocalDate DATE = LocalDate.of(2000, 1, 1);
+
+	@Autowired
+	private DailyMetricsFlushScheduler dailyMetricsFlushScheduler;
+
+	@Autowired
+	private DailyMetricsRedisRepository dailyMetricsRedisRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM daily_metrics WHERE metric_date = ?", Date.valueOf(DATE));
+	}
+
+	@Test
+	void flushAccumulatesPendingDeltas() {
+		dailyMetricsRedisRepository.increment(DATE, new MetricCounts(1, 2, new BigDecimal("15000.50"), 0, BigDecimal.ZERO));
+		dailyMetricsFlushScheduler.flush();
+		dailyMetricsRedisRepository.increment(DATE, new MetricCounts(0, 0, BigDecimal.ZERO, 1, new BigDecimal("5000.25")));
+		dailyMetricsFlushScheduler.flush();
+
+		assertThat(dailyMetricsRedisRepository.findPending()).doesNotContainKey(DATE);
+
+		Map<String, Object> row = jdbcTemplate.queryForMap(
+				"SELECT new_users, orders, revenue, cancellations, canceled_revenue FROM daily_metrics WHERE metric_date = ?",
+				Date.valueOf(DATE));
+		assertThat(((Number) row.get("new_users")).longValue()).isEqualTo(1);
+		assertThat(((Number) row.get("orders")).longValue()).isEqualTo(2);
+		assertThat((BigDecimal) row.get("revenue")).isEqualByComparingTo("15000.50");
+		assertThat(((Number) row.get("cancellations")).longValue()).isEqualTo(1);
+		assertThat((BigDecimal) row.get("canceled_revenue")).isEqualByComparingTo("5000.25");
+	}
+}
@@ -0,0 +1,73 @@
+package com.bookstore.api.auth.service;
+
+import com.bookstore.api.common.exception.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로그인 실패 횟수 제한 (계정 한도 초과 시 거절, 성공 시 계정 카운터 초기화)
+ */
+@SpringBootTest(properties = {
+		"auth.login-throttle.max-failures-per-ip=100",
+		"auth.login-throttle.max-failures-per-account=3"
+})
+class LoginThrottleServiceTests {
+
+	@Autowired
+	private LoginThrottleService loginThrottleService;
+
+	@Autowired
+	private RedisTemplate<String, String> redisTemplate;
+
+	private String ip;
+	private String email;
+
+	@BeforeEach
+	void setUp() {
+		String suffix = UUID.randomUUID().toString().substring(0, 8);
+		ip = "test-" + suffix;
+		email = "throttle-" + suffix + "@example.com";
+	}
+
+	@AfterEach
+	void tearDown() {
+		redisTemplate.delete("login:fail:ip:" + ip);
+		redisTemplate.delete("login:fail:account:" + email);
+	}
+
+	@Test
+	void blocksAccountAfterMaxFailures() {
+		for (int i = 0; i < 3; i++) {
+			loginThrottleService.checkAllowed(ip, email);
+			loginThrottleService.recordFailure(ip, email);
+		}
+
+		assertThatThrownBy(() -> loginThrottleService.checkAllowed(ip, email))
+				.isInstanceOf(BusinessException.class);
+		// 대소문자/공백이 달라도 같은 계정으로 집계
+		assertThatThrownBy(() -> loginThrottleService.checkAllowed(ip, " " + email.toUpperCase() + " "))
+				.isInstanceOf(BusinessException.class);
+	}
+
+	@Test
+	void successResetsAccountButKeepsIpCount() {
+		loginThrottleService.recordFailure(ip, email);
+		loginThrottleService.recordFailure(ip, email);
+
+		loginThrottleService.recordSuccess(email);
+
+		assertThat(redisTemplate.hasKey("login:fail:account:" + email)).isFalse();
+		assertThat(redisTemplate.opsForValue().get("login:fail:ip:" + ip)).isEqualTo("2");
+		assertThatCode(() -> loginThrottleService.checkAllowed(ip, email)).doesNotThrowAnyException();
+	}
+}
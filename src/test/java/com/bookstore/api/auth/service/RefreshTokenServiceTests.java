@@ -0,0 +1,79 @@
+package com.bookstore.api.auth.service;
+
+import com.bookstore.api.auth.dto.SessionResponse;
+import com.bookstore.api.auth.service.RefreshTokenService.RotationResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기기별 세션 스크립트 (등록 시 기기 수 제한, 토큰 교체/재사용 감지, 제거)
+ */
+@SpringBootTest(properties = "auth.session.max-devices=2")
+class RefreshTokenServiceTests {
+
+	@Autowired
+	private RefreshTokenService refreshTokenService;
+
+	@Autowired
+	private RedisTemplate<String, String> redisTemplate;
+
+	private String email;
+
+	@BeforeEach
+	void setUp() {
+		email = "session-" + UUID.randomUUID().toString().substring(0, 8) + "@example.com";
+	}
+
+	@AfterEach
+	void tearDown() {
+		redisTemplate.delete("refresh_session:" + email);
+	}
+
+	@Test
+	void saveEvictsLeastRecentlyUsedSessionOverLimit() throws InterruptedException {
+		refreshTokenService.saveSession(email, "s1", "token-1", "phone");
+		Thread.sleep(5);
+		refreshTokenService.saveSession(email, "s2", "token-2", "laptop");
+		Thread.sleep(5);
+		// s1을 다시 사용해 s2가 가장 오래 사용하지 않은 세션이 됨
+		assertThat(refreshTokenService.rotate(email, "s1", "token-1", "token-1b")).isEqualTo(RotationResult.ROTATED);
+		Thread.sleep(5);
+
+		List<String> evicted = refreshTokenService.saveSession(email, "s3", "token-3", "tablet");
+
+		assertThat(evicted).containsExactly("s2");
+		assertThat(refreshTokenService.getSessions(email, "s3"))
+				.extracting(SessionResponse::getSessionId)
+				.containsExactly("s3", "s1");
+	}
+
+	@Test
+	void reusedTokenRevokesSession() {
+		refreshTokenService.saveSession(email, "s1", "token-1", "phone");
+		assertThat(refreshTokenService.rotate(email, "s1", "token-1", "token-2")).isEqualTo(RotationResult.ROTATED);
+
+		// 이미 교체된 토큰 재사용 -> 세션 제거, 이후 새 토큰도 사용 불가
+		assertThat(refreshTokenService.rotate(email, "s1", "token-1", "token-3")).isEqualTo(RotationResult.REUSED);
+		assertThat(refreshTokenService.rotate(email, "s1", "token-2", "token-3")).isEqualTo(RotationResult.NOT_FOUND);
+		assertThat(refreshTokenService.getSessions(email, null)).isEmpty();
+	}
+
+	@Test
+	void revokeRemovesOnlyExistingSessions() {
+		refreshTokenService.saveSession(email, "s1", "token-1", "phone");
+		refreshTokenService.saveSession(email, "s2", "token-2", "laptop");
+
+		assertThat(refreshTokenService.revokeSessions(email, List.of("s1", "unknown"))).containsExactly("s1");
+		assertThat(refreshTokenService.revokeAllSessions(email)).containsExactly("s2");
+		assertThat(redisTemplate.hasKey("refresh_session:" + email)).isFalse();
+	}
+}
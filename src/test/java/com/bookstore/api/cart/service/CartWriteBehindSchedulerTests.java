@@ -0,0 +1,99 @@
+package com.bookstore.api.cart.service;
+
+import com.bookstore.api.cart.repository.RedisCartStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 장바구니 write-behind (처리 중 Set에 옮긴 변경분이 DB 커밋 전까지 사라지지 않는지 확인)
+ * - 주기 반영은 사실상 끄고 flush를 직접 호출
+ */
+@SpringBootTest(properties = {"cart.store=redis", "cart.redis.flush-interval-ms=3600000"})
+class CartWriteBehindSchedulerTests {
+
+	@Autowired
+	private RedisCartStore redisCartStore;
+
+	@Autowired
+	private CartWriteBehindScheduler cartWriteBehindScheduler;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Long userId;
+	private Long bookId;
+
+	@BeforeEach
+	void setUp() {
+		String suffix = UUID.randomUUID().toString().substring(0, 8);
+		userId = jdbcTemplate.queryForObject(
+				"INSERT INTO users (email, password, name) VALUES (?, 'x', '장바구니') RETURNING id",
+				Long.class, "cart-" + suffix + "@example.com");
+		bookId = jdbcTemplate.queryForObject(
+				"INSERT INTO books (title, author, publisher, isbn, price, publication_date) " +
+				"VALUES ('장바구니 테스트', '저자', '출판사', ?, 10000, DATE '2025-01-01') RETURNING id",
+				Long.class, "CART-" + suffix);
+	}
+
+	@AfterEach
+	void tearDown() {
+		cartWriteBehindScheduler.flush();
+		redisTemplate.delete("cart:" + userId);
+		jdbcTemplate.update("DELETE FROM carts WHERE user_id = ?", userId);
+		jdbcTemplate.update("DELETE FROM books WHERE id = ?", bookId);
+		jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+	}
+
+	@Test
+	void claimedLinesSurviveUntilFlushCommits() {
+		redisCartStore.add(userId, bookId, 2);
+
+		// 꺼낸 뒤 DB 반영 전에 중단된 상황: 대기 Set에서는 빠졌지만 처리 중 Set에 남아 있음
+		List<String> claimed = redisCartStore.claimDirty(500, 60);
+		assertThat(claimed).contains(userId + ":" + bookId);
+		assertThat(redisTemplate.opsForSet().isMember("cart:dirty", userId + ":" + bookId)).isFalse();
+
+		// 다음 주기에 같은 배치를 다시 꺼내 반영
+		cartWriteBehindScheduler.flush();
+
+		assertThat(dbQuantity()).isEqualTo(2);
+		assertThat(redisCartStore.claimDirty(500, 60)).doesNotContain(userId + ":" + bookId);
+	}
+
+	@Test
+	void removeInsideRolledBackTransactionKeepsLine() {
+		redisCartStore.add(userId, bookId, 1);
+
+		transactionTemplate.executeWithoutResult(status -> {
+			redisCartStore.remove(userId, bookId);
+			status.setRollbackOnly();
+		});
+		assertThat(redisCartStore.find(userId, bookId)).isPresent();
+
+		transactionTemplate.executeWithoutResult(status -> redisCartStore.remove(userId, bookId));
+		assertThat(redisCartStore.find(userId, bookId)).isEmpty();
+	}
+
+	private Integer dbQuantity() {
+		return jdbcTemplate.query(
+				"SELECT quantity FROM carts WHERE user_id = ? AND book_id = ? AND deleted_at IS NULL",
+				(rs, rowNum) -> rs.getInt("quantity"), userId, bookId).stream().findFirst().orElse(null);
+	}
+}
@@ -0,0 +1,113 @@
+package com.bookstore.api.coupon.service;
+
+import com.bookstore.api.common.exception.BusinessException;
+import com.bookstore.api.common.exception.ErrorCode;
+import com.bookstore.api.coupon.repository.CouponIssueRedisRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 선착순 쿠폰 발급 (Redis 스크립트 + DB 반영 스케줄러까지 실제로 실행하므로 커밋 후 직접 정리)
+ */
+@SpringBootTest
+class CouponServiceTests {
+
+	@Autowired
+	private CouponService couponService;
+
+	@Autowired
+	private CouponCatalog couponCatalog;
+
+	@Autowired
+	private CouponIssueRedisRepository couponIssueRedisRepository;
+
+	@Autowired
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Long couponId;
+	private final List<Long> userIds = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		String suffix = UUID.randomUUID().toString().substring(0, 8);
+		for (int i = 0; i < 3; i++) {
+			userIds.add(jdbcTemplate.queryForObject(
+					"INSERT INTO users (email, password, name) VALUES (?, 'x', '쿠폰') RETURNING id",
+					Long.class, "coupon-" + i + "-" + suffix + "@example.com"));
+		}
+		LocalDateTime now = LocalDateTime.now();
+		couponId = jdbcTemplate.queryForObject(
+				"INSERT INTO coupons (discount_rate, start_at, end_at, total_quantity) VALUES (10, ?, ?, 2) RETURNING id",
+				Long.class, Timestamp.valueOf(now.minusHours(1)), Timestamp.valueOf(now.plusHours(1)));
+	}
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		// DB 반영 스케줄러가 남은 발급 건을 모두 저장할 때까지 대기
+		for (int i = 0; i < 50 && !couponIssueRedisRepository.findPendingUserIds(couponId).isEmpty(); i++) {
+			Thread.sleep(100);
+		}
+		redisTemplate.delete(List.of("coupon:stock:" + couponId, "coupon:issued:" + couponId));
+		jdbcTemplate.update("DELETE FROM coupons WHERE id = ?", couponId);
+		userIds.forEach(userId -> jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId));
+		couponCatalog.reload();
+	}
+
+	@Test
+	void couponBeforeStartIsRejectedWithoutTouchingStock() {
+		jdbcTemplate.update("UPDATE coupons SET start_at = ? WHERE id = ?",
+				Timestamp.valueOf(LocalDateTime.now().plusHours(1)), couponId);
+
+		assertThatThrownBy(() -> couponService.issueCoupon(userIds.get(0), couponId))
+				.isInstanceOf(BusinessException.class)
+				.extracting("errorCode").isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+		assertThat(redisTemplate.hasKey("coupon:stock:" + couponId)).isFalse();
+	}
+
+	@Test
+	void invalidatedCouponStopsIssuingAndDropsStock() {
+		couponService.issueCoupon(userIds.get(0), couponId);
+		assertThat(redisTemplate.hasKey("coupon:stock:" + couponId)).isTrue();
+
+		jdbcTemplate.update("UPDATE coupons SET is_valid = FALSE WHERE id = ?", couponId);
+		couponCatalog.reload();
+
+		assertThat(redisTemplate.hasKey("coupon:stock:" + couponId)).isFalse();
+		assertThatThrownBy(() -> couponService.issueCoupon(userIds.get(1), couponId))
+				.isInstanceOf(BusinessException.class)
+				.extracting("errorCode").isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+	}
+
+	@Test
+	void unflushedIssuesCountAgainstStockWhenKeysAreRebuilt() {
+		// 재고 키가 사라졌지만 DB에 아직 반영되지 않은 발급 1건이 큐에 남아 있는 상황
+		redisTemplate.opsForList().rightPush("coupon:issue:queue",
+				couponId + ":" + userIds.get(0) + ":" + System.currentTimeMillis());
+
+		couponService.issueCoupon(userIds.get(1), couponId);
+
+		assertThatThrownBy(() -> couponService.issueCoupon(userIds.get(2), couponId))
+				.isInstanceOf(BusinessException.class)
+				.extracting("errorCode").isEqualTo(ErrorCode.COUPON_SOLD_OUT);
+		assertThatThrownBy(() -> couponService.issueCoupon(userIds.get(0), couponId))
+				.isInstanceOf(BusinessException.class)
+				.extracting("errorCode").isEqualTo(ErrorCode.DUPLICATE_RESOURCE);
+	}
+}
@@ -0,0 +1,62 @@
+package com.bookstore.api.favorite.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 찜 Set 캐시 (적재 표시 멤버가 있는 Set에만 추가/삭제가 반영되는지 확인)
+ */
+@SpringBootTest
+class FavoriteRedisRepositoryTests {
+
+	@Autowired
+	private FavoriteRedisRepository favoriteRedisRepository;
+
+	@Autowired
+	private RedisTemplate<String, String> redisTemplate;
+
+	private Long userId;
+
+	@BeforeEach
+	void setUp() {
+		userId = -ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+	}
+
+	@AfterEach
+	void tearDown() {
+		redisTemplate.delete("favorite:user:" + userId);
+	}
+
+	@Test
+	void updateSkipsSetWithoutLoadedMarker() {
+		// 적재 표시 없이 일부 멤버만 남은 Set (예: 적재 도중 끊긴 경우)
+		redisTemplate.opsForSet().add("favorite:user:" + userId, "10");
+
+		favoriteRedisRepository.update(userId, 20L, true);
+
+		assertThat(favoriteRedisRepository.isLoaded(userId)).isFalse();
+		assertThat(redisTemplate.opsForSet().members("favorite:user:" + userId)).containsExactly("10");
+	}
+
+	@Test
+	void updateAppliesToLoadedSet() {
+		favoriteRedisRepository.load(userId, List.of(10L));
+
+		favoriteRedisRepository.update(userId, 20L, true);
+		favoriteRedisRepository.update(userId, 10L, false);
+
+		assertThat(favoriteRedisRepository.isLoaded(userId)).isTrue();
+		assertThat(favoriteRedisRepository.isMembers(userId, List.of(10L, 20L)))
+				.containsEntry(10L, false)
+				.containsEntry(20L, true);
+	}
+}
@@ -0,0 +1,107 @@
+package com.bookstore.api.like.service;
+
+import com.bookstore.api.like.entity.LikeTargetType;
+import com.bookstore.api.like.repository.LikeRedisRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좋아요 반영 (처리 중 키로 옮긴 내역/증감이 DB 커밋 전까지 사라지지 않는지 확인)
+ * - 주기 반영은 사실상 끄고 flush를 직접 호출
+ */
+@SpringBootTest(properties = "like.flush-interval-ms=3600000")
+class LikeFlushSchedulerTests {
+
+	@Autowired
+	private LikeFlushScheduler likeFlushScheduler;
+
+	@Autowired
+	private LikeRedisRepository likeRedisRepository;
+
+	@Autowired
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Long userId;
+	private Long bookId;
+	private Long reviewId;
+
+	@BeforeEach
+	void setUp() {
+		String suffix = UUID.randomUUID().toString().substring(0, 8);
+		userId = jdbcTemplate.queryForObject(
+				"INSERT INTO users (email, password, name) VALUES (?, 'x', '좋아요') RETURNING id",
+				Long.class, "like-" + suffix + "@example.com");
+		bookId = jdbcTemplate.queryForObject(
+				"INSERT INTO books (title, author, publisher, isbn, price, publication_date) " +
+				"VALUES ('좋아요 테스트', '저자', '출판사', ?, 10000, DATE '2025-01-01') RETURNING id",
+				Long.class, "LIKE-" + suffix);
+		reviewId = jdbcTemplate.queryForObject(
+				"INSERT INTO reviews (user_id, book_id, rating, comment) VALUES (?, ?, 5, '좋아요') RETURNING id",
+				Long.class, userId, bookId);
+		likeRedisRepository.load(userId, LikeTargetType.REVIEW, List.of());
+	}
+
+	@AfterEach
+	void tearDown() {
+		likeFlushScheduler.flush();
+		redisTemplate.delete("like:user:" + userId + ":REVIEW");
+		jdbcTemplate.update("DELETE FROM likes WHERE user_id = ?", userId);
+		jdbcTemplate.update("DELETE FROM reviews WHERE id = ?", reviewId);
+		jdbcTemplate.update("DELETE FROM books WHERE id = ?", bookId);
+		jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+	}
+
+	@Test
+	void claimedEventsAndDeltasSurviveUntilFlushCommits() {
+		likeFlushScheduler.flush();
+		assertThat(likeRedisRepository.toggle(userId, LikeTargetType.REVIEW, reviewId, true))
+				.isEqualTo(LikeRedisRepository.CHANGED);
+
+		// 꺼낸 뒤 DB 반영 전에 중단된 상황: 처리 중 리스트 / 처리 중 Hash에 남아 있음
+		assertThat(likeRedisRepository.claimQueue(1000, 60)).isNotEmpty();
+		assertThat(likeRedisRepository.claimDeltas(LikeTargetType.REVIEW, 60)).containsEntry(reviewId, 1L);
+		assertThat(likeRedisRepository.findPendingTargetIds(LikeTargetType.REVIEW)).contains(reviewId);
+
+		likeFlushScheduler.flush();
+
+		assertThat(likeCountInLikes()).isEqualTo(1);
+		assertThat(likeCount()).isEqualTo(1);
+
+		// 반영 완료된 증감은 다시 반영되지 않음
+		likeFlushScheduler.flush();
+		assertThat(likeCount()).isEqualTo(1);
+		assertThat(likeRedisRepository.findPendingTargetIds(LikeTargetType.REVIEW)).doesNotContain(reviewId);
+	}
+
+	@Test
+	void reconcileCorrectsDriftedLikeCount() {
+		jdbcTemplate.update("INSERT INTO likes (user_id, target_type, target_id) VALUES (?, 'REVIEW', ?)", userId, reviewId);
+		jdbcTemplate.update("UPDATE reviews SET like_count = 5 WHERE id = ?", reviewId);
+
+		likeFlushScheduler.reconcile();
+
+		assertThat(likeCount()).isEqualTo(1);
+	}
+
+	private int likeCount() {
+		return jdbcTemplate.queryForObject("SELECT like_count FROM reviews WHERE id = ?", Integer.class, reviewId);
+	}
+
+	private int likeCountInLikes() {
+		return jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM likes WHERE target_type = 'REVIEW' AND target_id = ?", Integer.class, reviewId);
+	}
+}
@@ -0,0 +1,80 @@
+package com.bookstore.api.security.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 노드의 로컬 버킷이 하나의 클러스터 버킷(rate-limit-sync.lua와 같은 계산)을 공유할 때 처리량 확인
+ */
+class TokenBucketTests {
+
+	private static final long STEP_NANOS = 100_000_000L;
+
+	@Test
+	void twoNodesSharingClusterStateStayWithinPolicyRate() {
+		RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+		policy.setName("test");
+		policy.setCapacity(10);
+		policy.setRefillPerSecond(10);
+
+		AtomicLong clock = new AtomicLong();
+		List<TokenBucket> nodes = List.of(
+				new TokenBucket("test:user:1", policy, clock::get),
+				new TokenBucket("test:user:1", policy, clock::get));
+		int liveNodes = nodes.size();
+
+		double clusterTokens = policy.getCapacity();
+		long allowed = 0;
+
+		// 10초 동안 두 노드가 계속 요청, 0.1초마다 처리 후 1초마다 동기화
+		for (int step = 1; step <= 100; step++) {
+			clock.addAndGet(STEP_NANOS);
+			for (TokenBucket node : nodes) {
+				while (node.tryConsume(liveNodes)) {
+					allowed++;
+				}
+			}
+			if (step % 10 == 0) {
+				clusterTokens = Math.min(policy.getCapacity(), clusterTokens + policy.getRefillPerSecond());
+				long consumed = 0;
+				for (TokenBucket node : nodes) {
+					consumed += Math.max(0, node.drainForSync());
+				}
+				clusterTokens = Math.max(0, clusterTokens - consumed);
+				for (TokenBucket node : nodes) {
+					node.reconcile(clusterTokens, liveNodes);
+				}
+			}
+		}
+
+		// 정책 한도: 초기 용량 10 + 10초 x 초당 10 = 110 (노드별 초기 버킷만큼만 초과 허용)
+		assertThat(allowed).isLessThanOrEqualTo(110 + policy.getCapacity());
+		assertThat(allowed).isGreaterThanOrEqualTo(100);
+	}
+
+	@Test
+	void singleNodeRefillsAtFullPolicyRate() {
+		RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+		policy.setName("test");
+		policy.setCapacity(1);
+		policy.setRefillPerSecond(2);
+
+		AtomicLong clock = new AtomicLong();
+		TokenBucket bucket = new TokenBucket("test:user:1", policy, clock::get);
+
+		assertThat(bucket.tryConsume(1)).isTrue();
+		assertThat(bucket.tryConsume(1)).isFalse();
+
+		clock.addAndGet(500_000_000L);
+		assertThat(bucket.tryConsume(1)).isTrue();
+
+		// 노드가 둘이면 같은 시간 동안 절반만 충전
+		clock.addAndGet(500_000_000L);
+		assertThat(bucket.tryConsume(2)).isFalse();
+		assertThat(bucket.secondsUntilNextToken(2)).isEqualTo(1);
+	}
+}
@@ -0,0 +1,92 @@
+package com.bookstore.api.seller.service;
+
+import com.bookstore.api.order.dto.CreateOrderRequest;
+import com.bookstore.api.order.dto.OrderResponse;
+import com.bookstore.api.order.entity.OrderStatus;
+import com.bookstore.api.order.service.OrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커밋 직전 리스너는 커밋될 때만 실행되므로 테스트 트랜잭션 없이 실행하고 직접 정리
+ */
+@SpringBootTest
+class SellerSalesEventListenerTests {
+
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private SellerSalesService sellerSalesService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Long sellerId;
+	private Long bookId;
+	private Long userId;
+
+	@BeforeEach
+	void setUp() {
+		String suffix = UUID.randomUUID().toString().substring(0, 8);
+		sellerId = jdbcTemplate.queryForObject(
+				"INSERT INTO sellers (business_name, business_number, email, phone_number, address, " +
+				"payout_bank, payout_account, payout_holder) VALUES (?, ?, ?, '010-0000-0000', '서울', '은행', '000', '예금주') " +
+				"RETURNING id",
+				Long.class, "매출테스트-" + suffix, "S-" + suffix, "sales-" + suffix + "@example.com");
+		bookId = jdbcTemplate.queryForObject(
+				"INSERT INTO books (title, author, publisher, isbn, price, publication_date, seller_id) " +
+				"VALUES ('매출 테스트', '저자', '출판사', ?, 10000, DATE '2025-01-01', ?) RETURNING id",
+				Long.class, "ISBN-" + suffix, sellerId);
+		userId = jdbcTemplate.queryForObject(
+				"INSERT INTO users (email, password, name) VALUES (?, 'x', '구매자') RETURNING id",
+				Long.class, "sales-buyer-" + suffix + "@example.com");
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM seller_sales_daily WHERE seller_id = ?", sellerId);
+		jdbcTemplate.update("DELETE FROM order_items WHERE order_id IN (SELECT id FROM orders WHERE user_id = ?)", userId);
+		jdbcTemplate.update("DELETE FROM orders WHERE user_id = ?", userId);
+		jdbcTemplate.update("DELETE FROM books WHERE id = ?", bookId);
+		jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+		jdbcTemplate.update("DELETE FROM sellers WHERE id = ?", sellerId);
+	}
+
+	@Test
+	void placedOrderAndStatusChangeAreAppliedToDailySales() {
+		OrderResponse order = orderService.createOrder(userId, CreateOrderRequest.builder()
+				.items(List.of(new CreateOrderRequest.OrderItemRequest(bookId, 2)))
+				.build());
+
+		assertThat(quantity(OrderStatus.CREATED)).isEqualTo(2);
+
+		orderService.updateOrderStatus(order.getId(), OrderStatus.SHIPPED);
+
+		assertThat(quantity(OrderStatus.CREATED)).isZero();
+		assertThat(quantity(OrderStatus.SHIPPED)).isEqualTo(2);
+
+		// 하루치 재집계 결과가 증분 반영과 같음 (중복 집계 없음)
+		sellerSalesService.refreshDay(LocalDate.now());
+
+		assertThat(quantity(OrderStatus.CREATED)).isZero();
+		assertThat(quantity(OrderStatus.SHIPPED)).isEqualTo(2);
+	}
+
+	private long quantity(OrderStatus status) {
+		Long quantity = jdbcTemplate.queryForObject(
+				"SELECT COALESCE(SUM(quantity), 0) FROM seller_sales_daily WHERE seller_id = ? AND status = ?",
+				Long.class, sellerId, status.name());
+		return quantity == null ? 0 : quantity;
+	}
+}
@@ -0,0 +1,73 @@
+package com.bookstore.api.settlement.repository;
+
+import com.bookstore.api.settlement.repository.SettlementBatchRepository.ItemTotals;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class SettlementBatchRepositoryTests {
+
+	@Autowired
+	private SettlementBatchRepository settlementBatchRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void itemDeliveredAfterItsMonthIsSettledByNextRun() {
+		String suffix = UUID.randomUUID().toString().substring(0, 8);
+		Long sellerId = jdbcTemplate.queryForObject(
+				"INSERT INTO sellers (business_name, business_number, email, phone_number, address, " +
+				"payout_bank, payout_account, payout_holder) VALUES (?, ?, ?, '010-0000-0000', '서울', '은행', '000', '예금주') " +
+				"RETURNING id",
+				Long.class, "정산테스트-" + suffix, "T-" + suffix, "settle-" + suffix + "@example.com");
+		Long bookId = jdbcTemplate.queryForObject(
+				"INSERT INTO books (title, author, publisher, isbn, price, publication_date, seller_id) " +
+				"VALUES ('정산 테스트', '저자', '출판사', ?, 10000, DATE '2025-01-01', ?) RETURNING id",
+				Long.class, "ISBN-" + suffix, sellerId);
+		Long userId = jdbcTemplate.queryForObject(
+				"INSERT INTO users (email, password, name) VALUES (?, 'x', '구매자') RETURNING id",
+				Long.class, "buyer-" + suffix + "@example.com");
+		Long orderId = jdbcTemplate.queryForObject(
+				"INSERT INTO orders (user_id, total_amount, created_at) VALUES (?, 20000, ?) RETURNING id",
+				Long.class, userId, Timestamp.valueOf(LocalDateTime.of(2025, 10, 31, 23, 0)));
+		Long orderItemId = jdbcTemplate.queryForObject(
+				"INSERT INTO order_items (order_id, book_id, quantity, price, status, created_at) " +
+				"VALUES (?, ?, 2, 10000, 'SHIPPED', ?) RETURNING id",
+				Long.class, orderId, bookId, Timestamp.valueOf(LocalDateTime.of(2025, 10, 31, 23, 0)));
+
+		// 10월 정산 시점에는 배송 전 → 정산되지 않음
+		Long october = settlementBatchRepository.insertSettlement(
+				sellerId, LocalDate.of(2025, 10, 1), LocalDate.of(2025, 10, 31)).orElseThrow();
+		ItemTotals octoberTotals = settlementBatchRepository.insertItems(october, sellerId, LocalDate.of(2025, 10, 31));
+		assertThat(octoberTotals.getItemCount()).isZero();
+
+		// 10월 정산 이후 배송 완료 → 11월 정산에 포함
+		jdbcTemplate.update("UPDATE order_items SET status = 'DELIVERED' WHERE id = ?", orderItemId);
+		Long november = settlementBatchRepository.insertSettlement(
+				sellerId, LocalDate.of(2025, 11, 1), LocalDate.of(2025, 11, 30)).orElseThrow();
+		ItemTotals novemberTotals = settlementBatchRepository.insertItems(november, sellerId, LocalDate.of(2025, 11, 30));
+		assertThat(novemberTotals.getItemCount()).isEqualTo(1);
+		assertThat(novemberTotals.getTotalSales()).isEqualByComparingTo(new BigDecimal("20000"));
+		assertThat(jdbcTemplate.queryForObject(
+				"SELECT settled FROM order_items WHERE id = ?", Boolean.class, orderItemId)).isTrue();
+
+		// 다음 정산에서 다시 정산되지 않음
+		Long december = settlementBatchRepository.insertSettlement(
+				sellerId, LocalDate.of(2025, 12, 1), LocalDate.of(2025, 12, 31)).orElseThrow();
+		ItemTotals decemberTotals = settlementBatchRepository.insertItems(december, sellerId, LocalDate.of(2025, 12, 31));
+		assertThat(decemberTotals.getItemCount()).isZero();
+	}
+}